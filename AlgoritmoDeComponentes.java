@@ -0,0 +1,32 @@
+/**
+ * Algoritmo para hallar las componentes fuertemente conexas de un digrafo.
+ * CasoDePrueba escoge una implementación según la opción -componentes de Main
+ * (ver las constantes Main.COMPONENTES_*); todas reciben el digrafo en el
+ * constructor y devuelven el mismo resultado, aunque su costo depende de la
+ * forma del grafo.
+ *
+ * El resultado es un arreglo {@code comp} tal que {@code comp[v]} es el
+ * número de la componente del nodo v. Las componentes deben numerarse en un
+ * orden topológico inverso del grafo de componentes: si hay un arco de la
+ * componente x a la componente y (x != y), entonces y &lt; x. La decisión y la
+ * asignación de CasoDePrueba dependen de ese orden.
+ */
+public interface AlgoritmoDeComponentes {
+
+    /**
+     * Calcula las componentes fuertemente conexas del digrafo.
+     * pre: true
+     * post: se devuelve el arreglo de componentes, numeradas en orden
+     * topológico inverso, y this.getNumeroDeComponentes() indica cuántas hay.
+     * @return arreglo comp, donde comp[v] es la componente del nodo v
+     */
+    public int[] ejecutar();
+
+    /**
+     * Retorna el número de componentes halladas por la última ejecución.
+     * pre: se debe haber llamado a this.ejecutar()
+     * post: se devuelve el número de componentes fuertemente conexas.
+     * @return el número de componentes fuertemente conexas
+     */
+    public int getNumeroDeComponentes();
+}
@@ -0,0 +1,353 @@
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Representa el objeto ArrayLista(E), una lista de elementos del tipo E
+ * guardados en un arreglo que crece al doble cuando se llena. Implementa la
+ * interfaz List(E) con las mismas convenciones que Lista(E), pero con
+ * {@code get} en O(1), {@code add} al final en O(1) amortizado y recorridos
+ * sobre memoria contigua. Insertar o eliminar en el medio cuesta O(n), por el
+ * desplazamiento de los elementos siguientes.
+ *
+ * @version 1.0
+ * @since 1.6
+ */
+public class ArrayLista<E> implements List<E> {
+
+    // Modelo de representación:
+    protected Object[] elems;
+    protected int      tam;
+
+    // Constructores:
+
+    /**
+     * Construye una lista vacia.
+     * pre: {@code true;}
+     * post: {@code this.isEmpty();}
+     */
+    public ArrayLista() {
+        this(8);
+    }
+
+    /**
+     * Construye una lista vacia con espacio para {@code capacidad} elementos
+     * sin necesidad de crecer.
+     * pre: {@code 0 <= capacidad;}
+     * post: {@code this.isEmpty();}
+     * @param capacidad número de elementos que se espera almacenar
+     */
+    public ArrayLista(int capacidad) {
+        this.elems = new Object[Math.max(capacidad, 1)];
+        this.tam = 0;
+    }
+
+    /**
+     * Agrega <i>element</i> al final de la lista.
+     * pre: {@code true;}
+     * post: {@code this.contains(element);}
+     *
+     * @param element Elemento a insertar de tipo E, con el que se declaro el
+     * objeto lista particular.
+     * @return true si el elemento fue insertado, false en caso contrario
+     */
+    public boolean add(E element) {
+        if (this.tam == this.elems.length) {
+            this.elems = Arrays.copyOf(this.elems, 2 * this.tam);
+        }
+        this.elems[this.tam++] = element;
+        return true;
+    }
+
+    /**
+     * Agrega <i>element</i> a la lista en la posicion <i>index</i>, si index
+     * &gt; this.size() el elemento se agrega al final de lista.
+     * pre: {@code 0 <= index && index <= this.tam;}
+     * post: {@code this.contains(element) && this.indexOf(element) == index;}
+     * tambien;
+     * pre: {@code this.tam < index;}
+     * post: {@code this.contains(element) && }
+     * {@code this.indexOf(element) == this.tam-1;}
+     *
+     * @param element Elemento de tipo E, con el que se declaro el objeto
+     * lista particular,
+     * @return true si el elemento fue insertado, false en caso contrario.
+     */
+    public boolean add(int index, E element) {
+        if (index < 0) {
+            return false;
+        } else if (this.tam <= index) {
+            return this.add(element);
+        }
+        if (this.tam == this.elems.length) {
+            this.elems = Arrays.copyOf(this.elems, 2 * this.tam);
+        }
+        System.arraycopy(this.elems, index, this.elems, index + 1,
+                         this.tam - index);
+        this.elems[index] = element;
+        this.tam++;
+        return true;
+    }
+
+    /**
+     * Vacia la lista {@code this;}
+     * pre: {@code true;}
+     * post: {@code this.isEmpty();}
+     */
+    public void clear() {
+        Arrays.fill(this.elems, 0, this.tam, null);
+        this.tam = 0;
+    }
+
+    @Override
+    public List clone() {
+        ArrayLista<E> laux = new ArrayLista<E>(this.tam);
+        System.arraycopy(this.elems, 0, laux.elems, 0, this.tam);
+        laux.tam = this.tam;
+        return laux;
+    }
+
+    /**
+     * Permite saber si {@code this} lista contiene el elemento {@code o}. Los
+     * arreglos de enteros se comparan por su contenido.
+     * pre: {@code true;}
+     * post: el resultado es true si {@code o} esta en esta lista, false en caso
+     * contrario.
+     *
+     * @param o Objeto a consultar
+     * @return true si {@code o} esta en esta lista, false en caso contrario.
+     */
+    public boolean contains(Object o) {
+        if (o instanceof int[]) {
+            for (int k = 0; k < this.tam; k++) {
+                if (this.elems[k] instanceof int[] &&
+                    Arrays.equals((int[]) o, (int[]) this.elems[k])) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return (0 <= this.indexOf(o));
+    }
+
+    /**
+     * Permite saber si una lista es igual a {@code this} lista.
+     * pre: {@code true;}
+     * post: el resultado es true si {@code this.size() == o.size()} && todos
+     * los elementos que estan en {@code this} tambien estan en {@code o}, en la
+     * misma posición; false en caso contrario.
+     *
+     * @param o Lista a comparar con {@code this}
+     * @return true si {@code this.size() == o.size()} && todos los elementos
+     * que estan en {@code this} tambien estan en {@code o}, en la misma
+     * posición; false en caso contrario.
+     */
+    public boolean equals(List<E> o) {
+        if (this.tam != o.size()) {
+            return false;
+        }
+        Iterator otra = o.iterator();
+        for (int k = 0; k < this.tam; k++) {
+            if (!this.elems[k].equals(otra.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Devuelve el elemento almacenado en la posicion {@code index} de la lista
+     * {@code this}.
+     * pre: {@code true;}
+     * post: el resultado es el elemento en la posicion {@code index} si
+     * {@code 0 <= index < this.size()}; null en caso contrario
+     *
+     * @param index posicion del elemento a devolver.
+     * @return el elemento en la posicion {@code index}, o null si
+     * {@code index} esta fuera de la lista
+     */
+    public E get(int index) {
+        if (0 <= index && index < this.tam) {
+            return (E) this.elems[index];
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Determina la posicion del elemento <i>o</i> en la lista
+     * pre: {@code true;}
+     * post: si el elemento esta en la lista retorna su primera posicion, en
+     * caso contario retorna -1
+     *
+     * @param o el objeto
+     * @return si el elemento esta en la lista retorna su primera posicion, en
+     * caso contario retorna -1
+     */
+    public int indexOf(Object o) {
+        for (int k = 0; k < this.tam; k++) {
+            if (this.elems[k].equals(o)) {
+                return k;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Determina si la lista no tiene elementos.
+     * pre: {@code true;}
+     * post: el resultado es true si size() &eq; 0. falso en caso contrario
+     *
+     * @return true si size() &eq; 0. falso en caso contrario
+     */
+    public boolean isEmpty() {
+        return (this.tam == 0);
+    }
+
+    /**
+     * Elimina el elemento en la posicion index.
+     * pre: {@code true;}
+     * post: el resultado es el elemento eliminado, si no se elimino ningun
+     * elemento retorna null.
+     *
+     * @param index la posicion del elemento a eliminar, 0 &le; index &lt;
+     * size()
+     * @return el elemento eliminado, si no se elimino ningun elemento retorna
+     * null
+     */
+    public E remove(int index) {
+        if (index < 0 || this.tam <= index) {
+            return null;
+        }
+        E elem = (E) this.elems[index];
+        System.arraycopy(this.elems, index + 1, this.elems, index,
+                         this.tam - index - 1);
+        this.elems[--this.tam] = null;
+        return elem;
+    }
+
+    /**
+     * Elimina el elemento <i>o</i> de la lista <i>this</i>.
+     * pre: {@code true;}
+     * post: el resultado es true si el elemento existia y fue eliminado, false
+     * en caso contrario.
+     *
+     * @param o el elemento a eliminar.
+     * @return true si el elemento existia y fue eliminado, false en caso
+     * contrario.
+     */
+    public boolean remove(Object o) {
+        int index = this.indexOf(o);
+        if (index < 0) {
+            return false;
+        }
+        this.remove(index);
+        return true;
+    }
+
+    /**
+     * Retorna el numero de elementos enla lista.
+     * pre: {@code true;}
+     * post:  el resultado es el numero de elementos en la lista
+     *
+     * @return el numero de elementos en la lista
+     */
+    public int size() {
+        return this.tam;
+    }
+
+    /**
+     * Retorna un nuevo arreglo que contiene todos los elementos
+     * en esta lista {@code List}.
+     * pre: {@code true;}
+     * post: el resultado es un arreglo con los elementos contenidos en la lista
+     * {@code this}
+     *
+     * @return un arreglo con los elementos contenidos en la lista {@code this}
+     */
+    public Object[] toArray() {
+        return Arrays.copyOf(this.elems, this.tam);
+    }
+
+    /**
+     * Retorna la representacion en String de esta {@code ArrayLista}: cada
+     * elemento seguido de un salto de linea, como en Lista.
+     * pre: {@code true;}
+     * post: el String resultado es la representacion en String de esta
+     * {@code ArrayLista}
+     *
+     * @return la representacion en String de esta {@code ArrayLista}
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int k = 0; k < this.tam; k++) {
+            sb.append(this.elems[k]).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Método que construye un nuevo iterador sobre {@code this ArrayLista}
+     * <b>Pre</b>: true;
+     * <b>Post</b>: Se genera un nuevo {@code Iterator} definido sobre
+     * {@code this ArrayLista}
+     * @return Un Iterador sobre {@code this ArrayLista}.
+     */
+    public Iterator iterator() {
+        return new GeneradorDeElementos();
+    }
+
+    /**
+     * Clase interna que implementa la interfaz Iterator para esta ArrayLista
+     */
+    private class GeneradorDeElementos implements Iterator {
+
+        // Posicion del siguiente elemento a devolver
+        private int prox = 0;
+
+        /**
+         * Determina si hay un proximo elemento a devolver
+         * <b>Pre</b>: true;
+         * <b>Post</b>: El resultado es true si se puede devolver un nuevo
+         * elemento, false en caso contrario.
+         * @return true si se puede devolver un nuevo elemento, false en
+         * caso contrario.
+         */
+        public boolean hasNext() {
+            return (this.prox < ArrayLista.this.tam);
+        }
+
+        /**
+         * Devuelve el siguiente elemento
+         * <b>Pre</b>: {@code this.hasNext()}
+         * <b>Post</b>: si {@code this.hasNext()}, entonces se devuelve el
+         * siguiente elemento. Si no, se arroja la excepción
+         * {@code NoSuchElementException}
+         * @return El siguiente elemento
+         * @throws NoSuchElementException En caso de que
+         * {@code !this.hasNext()}
+         */
+        public E next() throws NoSuchElementException {
+            if (this.hasNext()) {
+                return (E) ArrayLista.this.elems[this.prox++];
+            } else {
+                throw new NoSuchElementException("Esta ArrayLista no " +
+                        "contiene más elementos...");
+            }
+        }
+
+        /**
+         * Elimina el último elemento devuelto por next().
+         * <b>Pre</b>: se ha llamado a next() desde la última llamada a
+         * remove()
+         * <b>Post</b>: el elemento queda eliminado de la lista.
+         */
+        public void remove() {
+            if (this.prox == 0) {
+                throw new IllegalStateException("No se ha llamado a next()");
+            }
+            ArrayLista.this.remove(--this.prox);
+        }
+    }
+}
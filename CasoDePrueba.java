@@ -0,0 +1,1155 @@
+import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Estado y resolución de una instancia (caso de prueba) del problema de
+ * vialidad eficiente. Contiene los datos del caso (la grilla y los viajes) y
+ * todas las estructuras intermedias de la resolución: cláusulas, fórmula 2CNF,
+ * grafo de implicaciones y componentes fuertemente conexas. La representación
+ * de los literales es la descrita en la clase Main.
+ *
+ * Como cada caso tiene su propio estado, varios casos pueden resolverse a la
+ * vez en hilos distintos, siempre que cada uno use su propio CasoDePrueba.
+ */
+public class CasoDePrueba {
+
+    /**
+     * Número del caso dentro del archivo de entrada, comenzando en 1.
+     */
+    private int                 numero;
+
+    /**
+     * Numero de calles del caso en uso.
+     */
+    private int                 c;
+
+    /**
+     * Numero de avenidas del caso en uso.
+     */
+    private int                 a;
+
+    /**
+     * Numero de pares de lugares del caso en uso.
+     */
+    private int                 p;
+
+    /**
+     * Número en el que termina la representación de las calles y comienza la de
+     * las avenidas
+     */
+    private int                 offset;
+
+    /**
+     * Pares de puntos entre los cuales se debe verificar si se puede viajar de
+     * manera eficiente. El viaje i ocupa las posiciones 4i a 4i+3, en el orden
+     * del archivo: calle y avenida del primer punto, calle y avenida del
+     * segundo.
+     */
+    private int[]               viajes;
+
+    /**
+     * Cláusulas iniciales que modelan el problema.
+     */
+    private List<int[]>         clausulas;
+
+    /**
+     * Literales "solitarios" o cláusulas unitarias que representan los casos
+     * en los que se viaja en la misma calle o avenida, junto con el motor que
+     * los propaga sobre la fórmula 2CNF.
+     */
+    private PropagacionUnitaria literalesSolos;
+
+    /**
+     * Cláusulas que modelan el problema en la forma 2CNF, sin repeticiones.
+     */
+    private ConjuntoDeDisjunciones dosCNF;
+
+    /**
+     * Grafo de implicaciones que resolverá esta instancia del problema
+     */
+    private DiGraph             digrafo;
+
+    /**
+     * Número de nodos que tendrá el grafo de implicaciones
+     */
+    private int                 nNodos;
+
+    /**
+     * Componente fuertemente conexa de cada literal: componentes[x] es el
+     * número de la componente que contiene al literal x.
+     */
+    private int[]               componentes;
+
+    /**
+     * Número de componentes fuertemente conexas halladas
+     */
+    private int                 nComponentes;
+
+    /**
+     * Implementación de DiGraph que se usa para el grafo de implicaciones. Debe
+     * ser una de las constantes Main.GRAFO_*.
+     */
+    private int                 implementacionGrafo;
+
+    /**
+     * Algoritmo de componentes fuertemente conexas. Debe ser una de las
+     * constantes Main.COMPONENTES_*.
+     */
+    private int                 algoritmoComponentes;
+
+    /**
+     * Número de nodos y de arcos del grafo de implicaciones a partir de los
+     * cuales las componentes se calculan con ComponentesEnParalelo en lugar
+     * de this.algoritmoComponentes.
+     */
+    private int                 umbralNodosParalelo;
+    private int                 umbralArcosParalelo;
+
+    /**
+     * Pool donde ComponentesEnParalelo ejecuta sus tareas, compartido con los
+     * demás casos; null si no se ha establecido, y entonces las componentes
+     * siempre se calculan de manera secuencial.
+     */
+    private ForkJoinPool        pool;
+
+    /**
+     * Dice si el caso de prueba tratado tiene solucion o no. La primera posi-
+     * cion indica si se ha confirmado una desicion sobre el resultado del pro-
+     * blema o no, y la segunda posicion indica la desicion propiamente dicha.
+     */
+    private boolean[]           tieneSolucion;
+
+    /**
+     * Contadores y tiempos de la resolución; null si no se piden.
+     */
+    private EstadisticasDeCaso  estadisticas;
+
+    // CONSTRUCTOR:
+
+    /**
+     * Crea un caso de prueba con los datos leídos del archivo de entrada.
+     * pre: 0 &lt;= c &amp;&amp; 0 &lt;= a &amp;&amp; viajes.length == 4 * max(p, 0)
+     * &amp;&amp; cada viaje tiene sus calles en [1, c] y sus avenidas en [1, a]
+     * (Main lo verifica al leerlos) &amp;&amp; implementacionGrafo es una de
+     * las constantes Main.GRAFO_*
+     * post: el caso está listo para construir sus cláusulas.
+     * @param numero número del caso en el archivo de entrada
+     * @param c número de calles
+     * @param a número de avenidas
+     * @param p número de viajes
+     * @param viajes los viajes, 4 enteros por viaje (ver this.viajes)
+     * @param implementacionGrafo implementación del grafo de implicaciones
+     */
+    public CasoDePrueba(int numero, int c, int a, int p, int[] viajes,
+                        int implementacionGrafo)
+    {
+        this.numero = numero;
+        this.c = c;
+        this.a = a;
+        this.p = p;
+        this.viajes = viajes;
+        this.implementacionGrafo = implementacionGrafo;
+        this.algoritmoComponentes = Main.COMPONENTES_TARJAN;
+        this.umbralNodosParalelo = Main.UMBRAL_NODOS_PARALELO;
+        this.umbralArcosParalelo = Main.UMBRAL_ARCOS_PARALELO;
+        this.pool = null;
+
+        this.tieneSolucion = new boolean[2];
+        this.tieneSolucion[0] = false;
+        this.tieneSolucion[1] = false;
+
+        this.clausulas = new ArrayLista();
+        this.componentes = null;
+        this.nComponentes = 0;
+        this.dosCNF = new ConjuntoDeDisjunciones();
+
+        /* Se calcula el desplazamiento: número en el que comienza la repre-
+         * sentación de las avenidas
+         */
+        this.offset = 2 * this.c;
+
+        /* Se inicializa el numero de nodos que tendra el digrafo que usaremos
+         * como grafo de implicaciones para resolver esta instancia del problema
+         */
+        this.nNodos = 2 * (this.a + this.c);
+
+        this.literalesSolos = new PropagacionUnitaria(this.nNodos);
+    }
+
+    // MÉTODOS ESTÁTICOS:
+
+    /**
+     * Distribuye las clausulas conseguidas en la primera fase.
+     * pre: clausula.length == 4;
+     * post: Se genera un arreglo de tamaño 8 que representa la clausula
+     * recibida de manera distribuida (4 disjunciones, 8 literales).
+     * @param clausula La cláusula a distribuir
+     * @return Arreglo que representa la distribucion de los literales de la
+     * clausula
+     */
+    private static int[][] distributiva(int[] clausula) {
+
+        // Disjunciones a crear:
+
+        int[] d1 = new int[2];
+        int[] d2 = new int[2];
+        int[] d3 = new int[2];
+        int[] d4 = new int[2];
+
+        /* Se efectua la distributividad sobre la representación de la fórmula
+         * lógica.
+         */
+
+        d1[0] = clausula[0];
+        d1[1] = clausula[2];
+        d2[0] = clausula[0];
+        d2[1] = clausula[3];
+        d3[0] = clausula[1];
+        d3[1] = clausula[2];
+        d4[0] = clausula[1];
+        d4[1] = clausula[3];
+
+        // Se almacenan las disjunciones para su entrega:
+
+        int[][] disjunciones = new int[2][4];
+
+        disjunciones[0][0] = d1[0]; disjunciones[1][0] = d1[1];
+        disjunciones[0][1] = d2[0]; disjunciones[1][1] = d2[1];
+        disjunciones[0][2] = d3[0]; disjunciones[1][2] = d3[1];
+        disjunciones[0][3] = d4[0]; disjunciones[1][3] = d4[1];
+
+
+        return disjunciones;
+    }
+
+    /**
+     * Escribe los arcos !p -&gt; q y !q -&gt; p de la disjuncion (p \/ q) en
+     * las posiciones m y m + 1 de fuentes y destinos.
+     * pre: m + 2 &lt;= fuentes.length == destinos.length
+     * post: los arcos están en las posiciones m y m + 1.
+     * @param p primer literal de la disjuncion
+     * @param q segundo literal de la disjuncion
+     * @param fuentes fuentes de los arcos
+     * @param destinos destinos de los arcos
+     * @param m primera posicion libre
+     * @return la primera posicion libre después de los arcos, m + 2
+     */
+    private static int implicaciones(int p, int q, int[] fuentes,
+                                     int[] destinos, int m)
+    {
+        fuentes[m] = p ^ 1; destinos[m] = q;
+        fuentes[m + 1] = q ^ 1; destinos[m + 1] = p;
+        return m + 2;
+    }
+
+    /**
+     * Mapea un numero de calle a su literal en la representacion descrita en
+     * Main.
+     * pre: nCalle != 0
+     * post: se retorna el literal de nCalle
+     * @param nCalle numero de calle, negativo para la orientación E-W
+     * @return el literal de nCalle
+     */
+    static int literalCalle(int nCalle) {
+        return (0 <= nCalle ? 2 * (nCalle - 1) : 2 * (-nCalle - 1) + 1);
+    }
+
+    /**
+     * Mapea un numero de avenida a su literal en la representacion descrita
+     * en Main.
+     * pre: nAvenida != 0; offset es el doble del número de calles
+     * post: se retorna el literal de nAvenida
+     * @param nAvenida numero de avenida, negativo para la orientación S-N
+     * @param offset numero en el que comienzan los literales de las avenidas
+     * @return el literal de nAvenida
+     */
+    static int literalAvenida(int nAvenida, int offset) {
+        return offset + CasoDePrueba.literalCalle(nAvenida);
+    }
+
+    /**
+     * Escribe en {@code disj} las disjunciones (p \/ q) que debe satisfacer
+     * una orientación para que el viaje de (ca1, av1) a (ca2, av2) se pueda
+     * hacer de manera eficiente: ninguna si ambos puntos son el mismo, la
+     * disjunción (x \/ x) si hay un único camino, por el literal x, o las 4
+     * disjunciones de la cláusula de los dos caminos, distribuida como en
+     * distributiva. La disjunción k queda en disj[2k] y disj[2k + 1].
+     * pre: los puntos están en la grilla; offset es el doble del número de
+     * calles; disj.length &gt;= 8
+     * post: se devuelve el número de disjunciones escritas.
+     * @param ca1 calle del punto de partida
+     * @param av1 avenida del punto de partida
+     * @param ca2 calle del punto de llegada
+     * @param av2 avenida del punto de llegada
+     * @param offset numero en el que comienzan los literales de las avenidas
+     * @param disj arreglo donde se escriben los literales de las disjunciones
+     * @return el número de disjunciones: 0, 1 o 4
+     */
+    static int disjuncionesDelViaje(int ca1, int av1, int ca2, int av2,
+                                    int offset, int[] disj)
+    {
+        // Sentido de la calle (W-E si se va hacia la derecha) y de la
+        // avenida (N-S si se va hacia abajo) que se recorren
+        int sentidoCalle = (av1 < av2 ? 1 : -1);
+        int sentidoAvenida = (ca1 < ca2 ? 1 : -1);
+
+        if (ca1 == ca2) {
+            if (av1 == av2) { // mismo punto
+                return 0;
+            }
+            disj[0] = disj[1] = CasoDePrueba.literalCalle(sentidoCalle * ca1);
+            return 1;
+        } else if (av1 == av2) { // misma avenida
+            disj[0] = disj[1] = CasoDePrueba.literalAvenida(
+                                        sentidoAvenida * av1, offset);
+            return 1;
+        }
+
+        // Primer camino: calle ca1 y luego avenida av2; segundo camino:
+        // avenida av1 y luego calle ca2. (x1 /\ y1) \/ (x2 /\ y2) se
+        // distribuye en (x1 \/ x2), (x1 \/ y2), (y1 \/ x2) y (y1 \/ y2).
+        int x1 = CasoDePrueba.literalCalle(sentidoCalle * ca1);
+        int y1 = CasoDePrueba.literalAvenida(sentidoAvenida * av2, offset);
+        int x2 = CasoDePrueba.literalCalle(sentidoCalle * ca2);
+        int y2 = CasoDePrueba.literalAvenida(sentidoAvenida * av1, offset);
+        disj[0] = x1; disj[1] = x2;
+        disj[2] = x1; disj[3] = y2;
+        disj[4] = y1; disj[5] = x2;
+        disj[6] = y1; disj[7] = y2;
+        return 4;
+    }
+
+    // MÉTODOS NO-ESTÁTICOS:
+
+    /**
+     * Construye la clausula en caso de que el viaje sea hacia la derecha del
+     * mapa
+     * pre: ca1, ca2, av3 y av4 deben ser enteros dentro del rango de calles y
+     * avenidas de esta instancia del problema;
+     * post: Se devuelve la clausula que representa el caso de ir hacia la
+     * derecha en el mapa
+     * @param ca1 calle del punto 1
+     * @param av1 avenida del punto 1
+     * @param ca2 calle del punto 2
+     * @param av2 avenida del punto 2
+     * @return Clausula  en forma de arreglo de enteros generada para este caso
+     */
+    private int[] haciaLaDerecha(int ca1, int av1, int ca2, int av2) {
+
+        int[] clausula = new int[4];
+
+        if (ca1 < ca2) {
+            // Primer posible camino
+            clausula[0]= this.calle(ca1); clausula[1]= this.avenida(av2);
+            // Segundo posible camino
+            clausula[2]= this.calle(ca2); clausula[3]= this.avenida(av1);
+        } else if (ca1 == ca2) {
+            /* Sólo hay un camino posible. Almaceno este literal en la lista de
+             * literales solos.
+             */
+            if (!this.literalesSolos.asignar(this.calle(ca1))) {
+                this.tieneSolucion[0] = true;
+                this.tieneSolucion[1] = false;
+            }
+            return null;
+        } else {
+            // Primer posible camino
+            clausula[0]= this.calle(ca1); clausula[1]= this.avenida(-av2);
+            // Segundo posible camino
+            clausula[2]= this.calle(ca2); clausula[3]= this.avenida(-av1);
+        }
+
+        return clausula;
+    }
+
+    /**
+     * Construye la clausula en caso de que el viaje sea hacia la izquierda del
+     * mapa.
+     * pre: ca1, ca2, av3 y av4 deben ser enteros dentro del rango de calles y
+     * avenidas de esta instancia del problema;
+     * post: Se devuelve la clausula que representa el caso de ir hacia la
+     * izquierda en el mapa
+     * @param ca1 calle del punto 1
+     * @param av1 avenida del punto 1
+     * @param ca2 calle del punto 2
+     * @param av2 avenida del punto 2
+     * @return Clausula  en forma de arreglo de enteros generada para este caso
+     */
+    private int[] haciaLaIzquierda(int ca1, int av1, int ca2, int av2) {
+
+        int[] clausula = new int[4];
+
+        if (ca1 < ca2) {// hacia abajo
+            // Primer posible camino
+            clausula[0]= this.calle(-ca1); clausula[1]= this.avenida(av2);
+            // Segundo posible camino
+            clausula[2]= this.calle(-ca2); clausula[3]= this.avenida(av1);
+        } else if (ca1 == ca2) {
+            /* Sólo hay un camino posible. Almaceno este literal en la lista de
+             * literales solos.
+             */
+            if (!this.literalesSolos.asignar(this.calle(-ca1))) {
+                this.tieneSolucion[0] = true;
+                this.tieneSolucion[1] = false;
+            }
+            return null;
+        } else { // hacia arriba
+            // Primer posible camino
+            clausula[0]= this.calle(-ca1); clausula[1]= this.avenida(-av2);
+            // Segundo posible camino
+            clausula[2]= this.calle(-ca2); clausula[3]= this.avenida(-av1);
+        }
+
+        return clausula;
+    }
+
+    /**
+     * Construye la clausula en caso de que el viaje sea en la misma avenida
+     * pre: ca1, ca2, av3 y av4 deben ser enteros dentro del rango de calles y
+     * avenidas de esta instancia del problema;
+     * post: Se devuelve la clausula que representa el caso de viajar en la
+     * misma avenida
+     * @param ca1 calle del punto 1
+     * @param av1 avenida del punto 1
+     * @param ca2 calle del punto 2
+     * @param av2 avenida del punto 2
+     * @return Clausula  en forma de arreglo de enteros generada para este caso
+     */
+    private int[] mismaAvenida(int ca1, int av1, int ca2, int av2) {
+
+        if (ca1 < ca2) { // hacia abajo
+            /* Sólo hay un camino posible. Almaceno este literal en la lista de
+             * literales solos.
+             */
+            if (!this.literalesSolos.asignar(this.avenida(av1))) {
+                this.tieneSolucion[0] = true;
+                this.tieneSolucion[1] = false;
+            }
+        } else if (ca2 < ca1) { // hacia arriba
+            /* Sólo hay un camino posible. Almaceno este literal en la lista de
+             * literales solos.
+             */
+            if (!this.literalesSolos.asignar(this.avenida(-av1))) {
+                this.tieneSolucion[0] = true;
+                this.tieneSolucion[1] = false;
+            }
+        } else {
+            /* No se trata el caso cual las calles son iguales, ya que se
+             * trataría de el mismo punto y no habría nada que hacer. En este
+             * caso, se retorna null.
+             */
+        }
+        return null;
+    }
+
+    /**
+     * Llama a las funciones que consruiran la clausula del viaje que comienza
+     * en la posicion base de this.viajes
+     * pre: 0 &lt;= base &amp;&amp; base + 4 &lt;= this.viajes.length
+     * post: Se devuelve un arreglo de enteros que representa la clausula co-
+     * rrespondiente al viaje entre los puntos representados en
+     * this.viajes[base .. base + 3].
+     * @param base posicion en this.viajes donde comienza el viaje.
+     * @return un arreglo que representa la clausula del viaje.
+     */
+    private int[] construirClausula(int base) {
+
+        int[] clausula = null;
+
+        int ca1 = this.viajes[base];
+        int av1 = this.viajes[base + 1];
+        int ca2 = this.viajes[base + 2];
+        int av2 = this.viajes[base + 3];
+
+        /* Esto quiere decir que estamos yendo desde el punto (av1,ca1) hacia
+         * el punto (av2,ca2).
+         */
+
+        if (av1 < av2) {
+            clausula = this.haciaLaDerecha(ca1, av1, ca2, av2);
+        } else if (av1 == av2) {
+            clausula = this.mismaAvenida(ca1, av1, ca2, av2);
+        } else {
+            clausula = this.haciaLaIzquierda(ca1, av1, ca2, av2);
+        }
+
+        return clausula;
+    }
+
+
+    /**
+     * Crea un arco en el grafo de implicaciones correspondiente a una disjun-
+     * cion del tipo (p \/ q)
+     * pre: la disjuncion debe ser del tipo (p \/ q); p y q deben pertenecer a
+     * digrafo
+     * post: Se añade un arco que representa esta disjuncion
+     * @param disj disjuncion  a procesar
+     * @param digrafo digrafo de implicaciones
+     */
+    private void implicacionPoQ(int p, int q, DiGraph digrafo) {
+        int noP = p + 1;
+        int noQ = q + 1;
+        
+        if (!digrafo.isArc(noP, q)) {
+            this.digrafo.addArc(noP, q);
+        }
+        if (!digrafo.isArc(noQ, p)) {
+            this.digrafo.addArc(noQ, p);
+        }
+    }
+
+    /**
+     * Crea un arco en el grafo de implicaciones correspondiente a una disjun-
+     * cion del tipo (!p \/ !q)
+     * pre: la disjuncion debe ser del tipo (!p \/ !q); p y q deben pertenecer a
+     * digrafo
+     * post: Se añade un arco que representa esta disjuncion
+     * @param disj disjuncion  a procesar
+     * @param digrafo digrafo de implicaciones
+     */
+    private void implicacionNoPoNoQ(int noP, int noQ, DiGraph digrafo) {
+        int pe = noP - 1;
+        int q = noQ - 1;
+
+        if (!digrafo.isArc(pe, noQ)) {
+            this.digrafo.addArc(pe, noQ);
+        }
+        if (!digrafo.isArc(q, noP)) {
+            this.digrafo.addArc(q, noP);
+        }
+    }
+
+    /**
+     * Crea un arco en el grafo de implicaciones correspondiente a una disjun-
+     * cion del tipo (p \/ !q)
+     * pre: la disjuncion debe ser del tipo (p \/ !q); p y q deben pertenecer a
+     * digrafo
+     * post: Se añade un arco que representa esta disjuncion
+     * @param disj disjuncion  a procesar
+     * @param digrafo digrafo de implicaciones
+     */
+    private void implicacionPoNoQ(int pe, int noQ, DiGraph digrafo) {
+        int noP = pe + 1;
+        int q = noQ - 1;
+
+        if (!digrafo.isArc(noP, noQ)) {
+            this.digrafo.addArc(noP, noQ);
+        }
+        if (!digrafo.isArc(q, pe)) {
+            this.digrafo.addArc(q, pe);
+        }
+    }
+
+    /**
+     * Crea un arco en el grafo de implicaciones correspondiente a una disjun-
+     * cion del tipo (!p \/ q)
+     * pre: la disjuncion debe ser del tipo (!p \/ q); p y q deben pertenecer a
+     * digrafo
+     * post: Se añade un arco que representa esta disjuncion
+     * @param disj disjuncion  a procesar
+     * @param digrafo digrafo de implicaciones
+     */
+    private void implicacionNoPoQ(int noP, int q, DiGraph digrafo) {
+        int pe = noP - 1;
+        int noQ = q + 1;
+
+        if (!digrafo.isArc(pe, q)) {
+            this.digrafo.addArc(pe, q);
+        }
+        if (!digrafo.isArc(noQ, noP)) {
+            this.digrafo.addArc(noQ, noP);
+        }
+    }
+
+    /**
+     * Mapea los numeros de calle a su correspondiente numero en la representa-
+     * cion.
+     * pre: nCalle debe estar dentro del rango de numero de calles de esta
+     * instancia del problema;
+     * post: se retorna la representacion de nCalle
+     * @param nCalle numero de calle a mapear
+     * @return la representacion de nCalle
+     */
+    private int calle(int nCalle) {
+        return CasoDePrueba.literalCalle(nCalle);
+    }
+
+    /**
+     * Mapea los numeros de avenida a su correspondiente numero en la represen-
+     * tacion.
+     * pre: nAvenida debe estar dentro del rango de numero de avenidas de esta
+     * instancia del problema;
+     * post: se retorna la representacion de nAvenida
+     * @param nAvenida numero de avenida a mapear
+     * @return la representacion de nAvenida
+     */
+    private int avenida(int nAvenida) {
+        return CasoDePrueba.literalAvenida(nAvenida, this.offset);
+    }
+
+    /**
+     * Construye las clausulas correspondientes al viaje entre cada punto para
+     * esta instancia del problema.
+     * pre: Se deben haber inicalizado todos los campos que no requieren
+     * procesamiento de datos.
+     * post: las clausulas que modelan esta innstancia del problema estan carga-
+     * das en this.clausulas
+     */
+    public void construirClausulas() {
+        if (this.implementacionGrafo == Main.GRAFO_DIRECTO) {
+            return;
+        }
+        long inicio = this.reloj();
+
+        int fin = 4 * Math.max(this.p, 0);
+        for (int base = 0; base < fin && !this.tieneSolucion[0]; base += 4) {
+            int[] clausula = this.construirClausula(base);
+
+            if (clausula != null) {
+                this.clausulas.add(clausula);
+            }
+        }
+
+        if (this.estadisticas != null) {
+            this.estadisticas.clausulas = this.clausulas.size();
+            this.estadisticas.literalesSolos =
+                    this.literalesSolos.getNumeroDeAsignados();
+            this.registrar(EstadisticasDeCaso.CLAUSULAS, inicio);
+        }
+    }
+
+    /**
+     * Simplifica el modelo en forma 2CNF para eliminar las clausulas unitarias
+     * pre: Se deben haber construido las clausulas que modelan los viajes
+     * post: los literales solos y sus consecuencias se han propagado: las
+     * disjunciones satisfechas o reducidas a un literal fueron eliminadas de
+     * this.dosCNF. Si se halló una contradicción, el caso no tiene solución.
+     */
+    private void simplificar2CNF() {
+        long inicio = this.reloj();
+
+        if (!this.tieneSolucion[0]) {
+            if (!this.literalesSolos.propagar(this.dosCNF)) {
+                this.tieneSolucion[0] = true;
+                this.tieneSolucion[1] = false;
+            } else if (this.dosCNF.isEmpty()) {
+                this.tieneSolucion[0] = true;
+                this.tieneSolucion[1] = true;
+            }
+        }
+
+        if (this.estadisticas != null) {
+            this.estadisticas.disjuncionesSimplificadas = this.dosCNF.size();
+            this.estadisticas.literalesForzados =
+                    this.literalesSolos.getNumeroDeAsignados();
+            this.registrar(EstadisticasDeCaso.SIMPLIFICACION, inicio);
+        }
+    }
+
+    /**
+     * Transforma las clausulas calculadas a la forma 2CNF
+     * pre: Se debe haber creado las clausulas que modelan los viajes.
+     * post: se cargan las clausulas en la forma 2CNF en this.dosCNF
+     */
+    public void construir2CNF() {
+
+        if (!this.tieneSolucion[0]
+                && this.implementacionGrafo != Main.GRAFO_DIRECTO) {
+            long inicio = this.reloj();
+
+            Iterator iterador = this.clausulas.iterator();
+            while (iterador.hasNext()) {
+                int[] clausula = (int[]) iterador.next();
+
+                int[][] disjunciones = CasoDePrueba.distributiva(clausula);
+
+                /* Se agregan las disjunciones para formar la fórmula de la
+                 * forma 2CNF. El almacén descarta las repetidas, sin importar
+                 * el orden de sus literales.
+                 */
+
+                for (int k = 0; k < 4; k++) {
+                    this.dosCNF.agregar(disjunciones[0][k],
+                                        disjunciones[1][k]);
+                }
+            }
+
+            if (this.estadisticas != null) {
+                this.estadisticas.disjunciones = this.dosCNF.getTotal();
+                this.registrar(EstadisticasDeCaso.DOS_CNF, inicio);
+            }
+
+            this.simplificar2CNF();
+        }
+    }
+
+    /**
+     * Construye el grafo de implicaciones que representa ésta instancia del
+     * problema
+     * pre: Debe de haberse construido y simplificado las clausulas de la forma
+     * 2CNF
+     * post: en caso de que no se haya conseguido ya la solucion, se construye
+     * un grafo de implicaciones que modela esta instancia del problema.
+     */
+    public void construirGrafoDeImplicaciones() {
+
+        if (!this.tieneSolucion[0]) {
+            long inicio = this.reloj();
+
+            if (this.implementacionGrafo == Main.GRAFO_CSR) {
+                this.construirGrafoCSR();
+            } else if (this.implementacionGrafo == Main.GRAFO_DIRECTO) {
+                this.compilarViajes();
+            } else {
+                this.construirGrafoArcoPorArco();
+            }
+
+            if (this.estadisticas != null) {
+                this.estadisticas.nodos = this.digrafo.getNumberOfNodes();
+                this.estadisticas.arcos = this.digrafo.getNumberOfArcs();
+                this.registrar(EstadisticasDeCaso.GRAFO, inicio);
+            }
+        }
+    }
+
+    /**
+     * Construye el grafo de implicaciones como un DiGraphList, un
+     * DiGraphMatrix, un DiGraphBitMatrix o un DiGraphIntList, según
+     * this.implementacionGrafo, agregando los arcos de cada disjunción uno a
+     * uno.
+     * pre: Debe de haberse construido y simplificado las clausulas de la forma
+     * 2CNF
+     * post: this.digrafo contiene el grafo de implicaciones.
+     */
+    private void construirGrafoArcoPorArco() {
+        if (this.implementacionGrafo == Main.GRAFO_MATRIZ) {
+            this.digrafo = new DiGraphMatrix(this.nNodos);
+        } else if (this.implementacionGrafo == Main.GRAFO_BITS) {
+            this.digrafo = new DiGraphBitMatrix(this.nNodos);
+        } else if (this.implementacionGrafo == Main.GRAFO_ENTEROS) {
+            this.digrafo = new DiGraphIntList(this.nNodos);
+        } else {
+            // Con índice de arcos, para que isArc no recorra las listas, y sin
+            // listas de arcos de entrada, que no se usan
+            this.digrafo = new DiGraphList(this.nNodos, true, true);
+        }
+
+        int total = this.dosCNF.getTotal();
+
+        for (int i = 0; i < total; i++) {
+            if (!this.dosCNF.estaViva(i)) {
+                continue;
+            }
+            int pe = this.dosCNF.getPrimero(i);
+            int q = this.dosCNF.getSegundo(i);
+
+            if (pe % 2 == 0) {
+                if (q % 2 == 0) {
+                    this.implicacionPoQ(pe, q, digrafo);
+                } else {
+                    this.implicacionPoNoQ(pe, q, digrafo);
+                }
+            } else {
+                if (q % 2 == 0) {
+                    this.implicacionNoPoQ(pe, q, digrafo);
+                } else {
+                    this.implicacionNoPoNoQ(pe, q, digrafo);
+                }
+            }
+        }
+    }
+
+    /**
+     * Construye el grafo de implicaciones como un DiGraphCSR, en dos pasadas
+     * sobre las disjunciones: la primera cuenta el grado externo de cada
+     * literal, y la segunda coloca cada destino en su fila. Cada disjuncion
+     * (p \/ q) produce los arcos !p -&gt; q y !q -&gt; p; el complemento de un
+     * literal x es (x ^ 1), pues los literales sin negación son pares.
+     * pre: Debe de haberse construido y simplificado las clausulas de la forma
+     * 2CNF
+     * post: this.digrafo es un DiGraphCSR con el grafo de implicaciones.
+     */
+    private void construirGrafoCSR() {
+        int[] inicio = new int[this.nNodos + 1];
+
+        int total = this.dosCNF.getTotal();
+
+        // Primera pasada: grado externo de cada literal.
+        for (int i = 0; i < total; i++) {
+            if (this.dosCNF.estaViva(i)) {
+                inicio[(this.dosCNF.getPrimero(i) ^ 1) + 1]++;
+                inicio[(this.dosCNF.getSegundo(i) ^ 1) + 1]++;
+            }
+        }
+        for (int i = 0; i < this.nNodos; i++) {
+            inicio[i + 1] += inicio[i];
+        }
+
+        // Segunda pasada: se coloca cada destino en la fila de su fuente.
+        int[] destinos = new int[inicio[this.nNodos]];
+        int[] proximo = new int[this.nNodos];
+        System.arraycopy(inicio, 0, proximo, 0, this.nNodos);
+        for (int i = 0; i < total; i++) {
+            if (this.dosCNF.estaViva(i)) {
+                int pe = this.dosCNF.getPrimero(i);
+                int q = this.dosCNF.getSegundo(i);
+                destinos[proximo[pe ^ 1]++] = q;
+                destinos[proximo[q ^ 1]++] = pe;
+            }
+        }
+
+        this.digrafo = new DiGraphCSR(this.nNodos, inicio, destinos);
+    }
+
+    /**
+     * Compila los viajes directamente en el grafo de implicaciones, como un
+     * DiGraphCSR, en una sola pasada sobre this.viajes y sin crear objetos
+     * de cláusulas, disjunciones ni literales solos. Cada viaje deja sus arcos
+     * en un par de arreglos de enteros (fuente y destino): los 8 arcos de las
+     * 4 disjunciones de su cláusula distribuida (ver disjuncionesDelViaje),
+     * o el arco !x -&gt; x si hay un
+     * único camino, por el literal x; este arco obliga a que x sea verdadero,
+     * pues si x fuera falso, !x implicaría x. Luego los arcos se agrupan por
+     * fuente con un ordenamiento por conteo, y el constructor de DiGraphCSR
+     * ordena cada fila y elimina los arcos repetidos.
+     * pre: this.implementacionGrafo == Main.GRAFO_DIRECTO &amp;&amp; las
+     * esquinas de los viajes están dentro de la ciudad, pues los literales
+     * se usan como índices sin verificarlos
+     * post: this.digrafo es un DiGraphCSR con el grafo de implicaciones de
+     * todos los viajes.
+     */
+    private void compilarViajes() {
+        int fin = 4 * Math.max(this.p, 0);
+        int[] fuentes = new int[2 * fin];
+        int[] destinos = new int[2 * fin];
+        int m = 0;
+
+        int[] disj = new int[8];
+        for (int base = 0; base < fin; base += 4) {
+            int n = CasoDePrueba.disjuncionesDelViaje(this.viajes[base],
+                    this.viajes[base + 1], this.viajes[base + 2],
+                    this.viajes[base + 3], this.offset, disj);
+            for (int k = 0; k < 2 * n; k += 2) {
+                if (disj[k] == disj[k + 1]) {
+                    fuentes[m] = disj[k] ^ 1; destinos[m] = disj[k]; m++;
+                } else {
+                    m = CasoDePrueba.implicaciones(disj[k], disj[k + 1],
+                                                   fuentes, destinos, m);
+                }
+            }
+        }
+
+        int[] inicio = new int[this.nNodos + 1];
+        for (int i = 0; i < m; i++) {
+            inicio[fuentes[i] + 1]++;
+        }
+        for (int i = 0; i < this.nNodos; i++) {
+            inicio[i + 1] += inicio[i];
+        }
+        int[] filas = new int[m];
+        int[] proximo = new int[this.nNodos];
+        System.arraycopy(inicio, 0, proximo, 0, this.nNodos);
+        for (int i = 0; i < m; i++) {
+            filas[proximo[fuentes[i]]++] = destinos[i];
+        }
+
+        this.digrafo = new DiGraphCSR(this.nNodos, inicio, filas);
+    }
+
+    /**
+     * calcula las componentes fuertemente conexas con el algoritmo indicado
+     * por this.algoritmoComponentes (por defecto, la versión iterativa del
+     * algoritmo de Tarjan), o en paralelo si el grafo es muy grande (ver
+     * setUmbralesParalelos)
+     * pre: this.digrafo != null;
+     * post: Se calculan las componentes fuertemente conexas del digrafo que
+     * modela esta instancia del problema y se cargan en this.componentes.
+     */
+    public void calcularComponentesFuertementeConexas() {
+
+        if (!this.tieneSolucion[0]) {
+            long inicio = this.reloj();
+
+            AlgoritmoDeComponentes algoritmo =
+                    this.nuevoAlgoritmoDeComponentes();
+            this.componentes = algoritmo.ejecutar();
+            this.nComponentes = algoritmo.getNumeroDeComponentes();
+
+            if (this.estadisticas != null) {
+                this.registrar(EstadisticasDeCaso.COMPONENTES, inicio);
+                this.contarComponentes();
+            }
+
+            if (this.nComponentes == 1) {
+                this.tieneSolucion[0] = true;
+                this.tieneSolucion[1] = false;
+            }
+
+            if (this.nComponentes == this.nNodos) {
+                this.tieneSolucion[0] = true;
+                this.tieneSolucion[1] = true;
+            }
+        }
+    }
+
+    /**
+     * Determina si algún literal está en la misma componente fuertemente
+     * conexa que su complemento. Como el literal 2i y su complemento 2i+1 son
+     * consecutivos, basta una pasada sobre this.componentes.
+     * pre: se deben haber calculado las componentes fuertemente conexas
+     * post: se retorna true si ningún literal comparte componente con su
+     * complemento, false en caso contrario.
+     * @return true si no hay contradiccion, false en caso contrario.
+     */
+    private boolean esSatisfacible() {
+        for (int i = 0; i < this.nNodos; i += 2) {
+            if (this.componentes[i] == this.componentes[i + 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decide si el caso tiene solución.
+     * pre: se deben haber ejecutado las fases anteriores de la resolución
+     * post: En caso de que no se haya encontrado antes la solución, se analizan
+     * las componentes fuertemente conexas para determinar la solución.
+     * @return true si el caso tiene solución, false si no
+     */
+    public boolean decision() {
+        long inicio = this.reloj();
+
+        if (!this.tieneSolucion[0]) {
+            this.tieneSolucion[0] = true;
+            this.tieneSolucion[1] = this.esSatisfacible();
+        }
+
+        if (this.estadisticas != null) {
+            this.estadisticas.tieneSolucion = this.tieneSolucion[1];
+            this.registrar(EstadisticasDeCaso.DECISION, inicio);
+        }
+        return this.tieneSolucion[1];
+    }
+
+    /**
+     * Ejecuta todas las fases de la resolución del caso: cláusulas, 2CNF,
+     * grafo de implicaciones, componentes fuertemente conexas y decisión.
+     * pre: el caso no se ha resuelto antes
+     * post: se devuelve la solución del caso.
+     * @return true si el caso tiene solución, false si no
+     */
+    public boolean resolver() {
+        this.construirClausulas();
+        this.construir2CNF();
+        this.construirGrafoDeImplicaciones();
+        this.calcularComponentesFuertementeConexas();
+        return this.decision();
+    }
+
+    /**
+     * Retorna una asignación de las variables que satisface el caso, hallada
+     * en tiempo lineal. Los literales forzados por la propagación unitaria
+     * conservan su valor; las demás variables sólo aparecen en las
+     * disjunciones que quedaron tras la simplificación, y su valor se escoge
+     * con las componentes fuertemente conexas: como éstas están
+     * numeradas en orden topológico inverso, el literal x es verdadero si su
+     * componente termina antes que la de su complemento, es decir, si
+     * componentes[x] &lt; componentes[x ^ 1]. Las variables que no aparecen en
+     * ningún viaje quedan sin negar.
+     *
+     * La variable de la calle k es calle(k) / 2 = k - 1, y la de la avenida k
+     * es avenida(k) / 2 = c + k - 1; el valor true corresponde al literal sin
+     * negación (W-E para las calles, N-S para las avenidas).
+     * pre: se debe haber llamado a this.decision()
+     * post: si el caso tiene solución, el resultado tiene c + a posiciones y
+     * satisface todos los viajes.
+     * @return la asignación de cada variable, o null si el caso no tiene
+     * solución
+     */
+    public boolean[] asignacion() {
+        if (!this.tieneSolucion[1]) {
+            return null;
+        }
+        boolean[] valor = new boolean[this.nNodos / 2];
+        for (int i = 0; i < valor.length; i++) {
+            int x = 2 * i;
+            if (this.literalesSolos.estaAsignado(x)) {
+                valor[i] = true;
+            } else if (this.literalesSolos.estaAsignado(x + 1)) {
+                valor[i] = false;
+            } else if (this.componentes != null) {
+                valor[i] = (this.componentes[x] < this.componentes[x + 1]);
+            } else {
+                valor[i] = true;
+            }
+        }
+        return valor;
+    }
+
+    /**
+     * Activa la recolección de contadores y tiempos de la resolución en
+     * {@code estadisticas}.
+     * pre: estadisticas != null, y la resolución no ha comenzado
+     * post: las etapas siguientes registran sus datos en estadisticas.
+     * @param estadisticas donde se registran los datos del caso
+     */
+    public void setEstadisticas(EstadisticasDeCaso estadisticas) {
+        this.estadisticas = estadisticas;
+        estadisticas.numero = this.numero;
+        estadisticas.calles = this.c;
+        estadisticas.avenidas = this.a;
+        estadisticas.viajes = this.p;
+    }
+
+    /**
+     * Establece el algoritmo con el que se calcularán las componentes
+     * fuertemente conexas.
+     * pre: algoritmo es una de las constantes Main.COMPONENTES_*, y no se han
+     * calculado las componentes
+     * post: this.algoritmoComponentes == algoritmo
+     * @param algoritmo el algoritmo a usar
+     */
+    public void setAlgoritmoDeComponentes(int algoritmo) {
+        this.algoritmoComponentes = algoritmo;
+    }
+
+    /**
+     * Establece a partir de qué tamaño del grafo de implicaciones las
+     * componentes fuertemente conexas se calculan en paralelo, con
+     * ComponentesEnParalelo, sin importar el algoritmo establecido.
+     * pre: 0 &lt;= nodos &amp;&amp; 0 &lt;= arcos, y no se han calculado las
+     * componentes
+     * post: se usará ComponentesEnParalelo si el grafo tiene al menos nodos
+     * nodos o al menos arcos arcos.
+     * @param nodos número mínimo de nodos
+     * @param arcos número mínimo de arcos
+     */
+    public void setUmbralesParalelos(int nodos, int arcos) {
+        this.umbralNodosParalelo = nodos;
+        this.umbralArcosParalelo = arcos;
+    }
+
+    /**
+     * Establece el pool donde se calculan las componentes en paralelo. Sin
+     * pool, no se usa ComponentesEnParalelo, sino el algoritmo establecido o,
+     * si éste es Main.COMPONENTES_PARALELO, la versión iterativa del
+     * algoritmo de Tarjan.
+     * pre: no se han calculado las componentes
+     * post: this.pool == pool
+     * @param pool el pool compartido, o null
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Retorna las estadísticas del caso.
+     * pre: true
+     * post: true
+     * @return las estadísticas del caso, o null si no se pidieron
+     */
+    public EstadisticasDeCaso getEstadisticas() {
+        return this.estadisticas;
+    }
+
+    /**
+     * Retorna el grafo de implicaciones del caso.
+     * pre: true
+     * post: true
+     * @return el grafo de implicaciones, o null si no se ha construido (o si
+     * la solución se halló antes de construirlo)
+     */
+    public DiGraph getGrafoDeImplicaciones() {
+        return this.digrafo;
+    }
+
+    /**
+     * Retorna el número del caso dentro del archivo de entrada.
+     * pre: true
+     * post: true
+     * @return el número del caso, comenzando en 1
+     */
+    public int getNumero() {
+        return this.numero;
+    }
+
+    /**
+     * Retorna el número de calles del caso.
+     * pre: true
+     * post: true
+     * @return el número de calles
+     */
+    public int getCalles() {
+        return this.c;
+    }
+
+    // MÉTODOS PRIVADOS AUXILIARES:
+
+    /**
+     * Retorna el instante actual, si se recolectan estadísticas.
+     * @return System.nanoTime(), o 0 si this.estadisticas es null
+     */
+    private long reloj() {
+        return (this.estadisticas == null ? 0 : System.nanoTime());
+    }
+
+    /**
+     * Suma a la etapa dada el tiempo transcurrido desde inicio.
+     * pre: inicio fue obtenido con this.reloj()
+     * post: si se recolectan estadísticas, el tiempo queda registrado.
+     * @param etapa una de las constantes de etapa de EstadisticasDeCaso
+     * @param inicio instante en que comenzó la etapa
+     */
+    private void registrar(int etapa, long inicio) {
+        if (this.estadisticas != null) {
+            this.estadisticas.nanos[etapa] += System.nanoTime() - inicio;
+        }
+    }
+
+    /**
+     * Crea el algoritmo de componentes fuertemente conexas indicado por
+     * this.algoritmoComponentes, sobre this.digrafo; si el grafo alcanza
+     * alguno de los umbrales y hay un pool, ComponentesEnParalelo.
+     * pre: this.digrafo != null
+     * post: true
+     * @return el algoritmo, listo para ejecutarse
+     */
+    private AlgoritmoDeComponentes nuevoAlgoritmoDeComponentes() {
+        if (this.pool != null
+                && (this.algoritmoComponentes == Main.COMPONENTES_PARALELO
+                    || this.umbralNodosParalelo <= this.nNodos
+                    || this.umbralArcosParalelo <=
+                                        this.digrafo.getNumberOfArcs())) {
+            return new ComponentesEnParalelo(this.digrafo, this.pool);
+        } else if (this.algoritmoComponentes == Main.COMPONENTES_RECURSIVO) {
+            return new TarjanRecursivo(this.digrafo);
+        } else if (this.algoritmoComponentes == Main.COMPONENTES_KOSARAJU) {
+            return new KosarajuIterativo(this.digrafo);
+        } else if (this.algoritmoComponentes == Main.COMPONENTES_GABOW) {
+            return new GabowIterativo(this.digrafo);
+        } else {
+            return new TarjanIterativo(this.digrafo);
+        }
+    }
+
+    /**
+     * Registra el número de componentes fuertemente conexas y el tamaño de la
+     * mayor.
+     * pre: se deben haber calculado las componentes y this.estadisticas no es
+     * null
+     * post: las estadísticas tienen los datos de las componentes.
+     */
+    private void contarComponentes() {
+        int[] tam = new int[this.nComponentes];
+        int mayor = 0;
+        for (int v = 0; v < this.nNodos; v++) {
+            int t = ++tam[this.componentes[v]];
+            if (mayor < t) {
+                mayor = t;
+            }
+        }
+        this.estadisticas.componentes = this.nComponentes;
+        this.estadisticas.mayorComponente = mayor;
+    }
+}
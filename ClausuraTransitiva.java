@@ -0,0 +1,164 @@
+/**
+ * Clausura reflexiva y transitiva de un digrafo, calculada sin iterar hasta
+ * un punto fijo: primero se condensan las componentes fuertemente conexas con
+ * TarjanIterativo, y luego se calcula el alcance de cada componente sobre el
+ * grafo de componentes (que es acíclico) como un conjunto de bits.
+ *
+ * TarjanIterativo numera las componentes en orden topológico inverso (si hay
+ * un arco de la componente x a la componente y, entonces y &lt; x), así que
+ * basta recorrerlas en orden creciente: cuando se procesa una componente, el
+ * alcance de todas sus sucesoras ya está calculado, y el suyo es la unión de
+ * esos alcances más ella misma. El costo es O(n + m) para la condensación y
+ * O(m * k / 64) para las uniones, con k componentes.
+ *
+ * Dos nodos de la misma componente alcanzan exactamente los mismos nodos, por
+ * lo que la clausura se guarda por componente y no por nodo.
+ */
+public class ClausuraTransitiva {
+
+    // Modelo de representación:
+
+    /**
+     * Componente de cada nodo, según TarjanIterativo
+     */
+    private int[]       componentes;
+
+    /**
+     * Número de componentes
+     */
+    private int         nComponentes;
+
+    /**
+     * Nodos de cada componente: los de la componente c están en
+     * miembros[inicioMiembros[c]] .. miembros[inicioMiembros[c+1] - 1].
+     */
+    private int[]       inicioMiembros;
+    private int[]       miembros;
+
+    /**
+     * alcance[c] es el conjunto de bits de las componentes alcanzables desde
+     * la componente c, incluida ella misma.
+     */
+    private long[][]    alcance;
+
+    // CONSTRUCTOR:
+
+    /**
+     * Calcula la clausura del digrafo dado. Si no es un DiGraphCSR, se copia
+     * una vez a esa representación.
+     * pre: digrafo != null
+     * post: this.alcanza(u, v) indica si hay un camino de u a v en digrafo.
+     * @param digrafo el grafo cuya clausura se calcula
+     */
+    public ClausuraTransitiva(DiGraph digrafo) {
+        DiGraphCSR csr = (digrafo instanceof DiGraphCSR ?
+                                    (DiGraphCSR) digrafo :
+                                    new DiGraphCSR(digrafo));
+        int n = csr.getNumberOfNodes();
+        int[] inicio = csr.getOutStart();
+        int[] destinos = csr.getOutTargets();
+
+        TarjanIterativo tarjan = new TarjanIterativo(csr);
+        this.componentes = tarjan.ejecutar();
+        this.nComponentes = tarjan.getNumeroDeComponentes();
+
+        // Se agrupan los nodos por componente (ordenamiento por conteo)
+        this.inicioMiembros = new int[this.nComponentes + 1];
+        for (int v = 0; v < n; v++) {
+            this.inicioMiembros[this.componentes[v] + 1]++;
+        }
+        for (int c = 0; c < this.nComponentes; c++) {
+            this.inicioMiembros[c + 1] += this.inicioMiembros[c];
+        }
+        this.miembros = new int[n];
+        int[] proximo = new int[this.nComponentes];
+        System.arraycopy(this.inicioMiembros, 0, proximo, 0,
+                         this.nComponentes);
+        for (int v = 0; v < n; v++) {
+            this.miembros[proximo[this.componentes[v]]++] = v;
+        }
+
+        // Alcance de cada componente, en orden topológico inverso
+        int palabras = (this.nComponentes + 63) >>> 6;
+        this.alcance = new long[this.nComponentes][palabras];
+        for (int c = 0; c < this.nComponentes; c++) {
+            long[] propio = this.alcance[c];
+            propio[c >>> 6] |= 1L << c;
+            for (int k = this.inicioMiembros[c];
+                 k < this.inicioMiembros[c + 1]; k++) {
+                int u = this.miembros[k];
+                for (int e = inicio[u]; e < inicio[u + 1]; e++) {
+                    int d = this.componentes[destinos[e]];
+                    if ((propio[d >>> 6] & (1L << d)) == 0) {
+                        long[] ajeno = this.alcance[d];
+                        for (int w = 0; w < palabras; w++) {
+                            propio[w] |= ajeno[w];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    // MÉTODOS:
+
+    /**
+     * Indica si hay un camino (posiblemente vacío) de u a v.
+     * pre: u y v son nodos del digrafo
+     * post: true
+     * @param u nodo de partida
+     * @param v nodo de llegada
+     * @return true si v es alcanzable desde u, false en caso contrario
+     */
+    public boolean alcanza(int u, int v) {
+        int d = this.componentes[v];
+        return (this.alcance[this.componentes[u]][d >>> 6] & (1L << d)) != 0;
+    }
+
+    /**
+     * Retorna los nodos alcanzables desde u, incluido u, agrupados por
+     * componente.
+     * pre: u es un nodo del digrafo
+     * post: el resultado tiene cada nodo alcanzable desde u exactamente una
+     * vez.
+     * @param u nodo de partida
+     * @return arreglo nuevo con los nodos alcanzables desde u
+     */
+    public int[] alcanzables(int u) {
+        long[] bits = this.alcance[this.componentes[u]];
+        int total = 0;
+        for (int w = 0; w < bits.length; w++) {
+            long palabra = bits[w];
+            while (palabra != 0) {
+                int d = (w << 6) + Long.numberOfTrailingZeros(palabra);
+                total += this.inicioMiembros[d + 1] - this.inicioMiembros[d];
+                palabra &= palabra - 1;
+            }
+        }
+
+        int[] nodos = new int[total];
+        int k = 0;
+        for (int w = 0; w < bits.length; w++) {
+            long palabra = bits[w];
+            while (palabra != 0) {
+                int d = (w << 6) + Long.numberOfTrailingZeros(palabra);
+                int tam = this.inicioMiembros[d + 1] - this.inicioMiembros[d];
+                System.arraycopy(this.miembros, this.inicioMiembros[d],
+                                 nodos, k, tam);
+                k += tam;
+                palabra &= palabra - 1;
+            }
+        }
+        return nodos;
+    }
+
+    /**
+     * Retorna el número de componentes fuertemente conexas del digrafo.
+     * pre: true
+     * post: true
+     * @return el número de componentes
+     */
+    public int getNumeroDeComponentes() {
+        return this.nComponentes;
+    }
+}
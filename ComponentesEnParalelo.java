@@ -0,0 +1,491 @@
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cálculo en paralelo de las componentes fuertemente conexas de un digrafo
+ * grande, sobre los arreglos de un DiGraphCSR, con el método de alcance
+ * hacia adelante y hacia atrás (FW-BW) y recorte de nodos triviales, en un
+ * ForkJoinPool.
+ *
+ * ALGORITMO:
+ *
+ * Se parte del conjunto de todos los nodos, que es cerrado: ninguna
+ * componente tiene nodos dentro y fuera de él. Cada conjunto cerrado se
+ * resuelve así:
+ *
+ * 1. Recorte: todo nodo del conjunto sin predecesores o sin sucesores dentro
+ *    del conjunto (entre los nodos que quedan) es una componente por sí solo.
+ *    Se eliminan en cascada con una cola, en tiempo lineal en los arcos del
+ *    conjunto.
+ *
+ * 2. FW-BW: entre los nodos que quedan se escoge un pivote y se marcan los
+ *    nodos del conjunto que alcanza (F) y los que lo alcanzan (B). F y B
+ *    juntos son la componente del pivote, y el resto del conjunto se parte en
+ *    F - B, B - F y los nodos que no están en ninguno, que son a su vez
+ *    conjuntos cerrados y se resuelven de la misma manera, de forma
+ *    independiente. Los conjuntos de al menos UMBRAL_TAREA nodos se resuelven
+ *    en tareas nuevas del pool; los demás, en la misma tarea.
+ *
+ * 3. Renumeración: las componentes halladas no siguen ningún orden, así que
+ *    al final se renumeran en orden topológico inverso del grafo de
+ *    componentes (como en TarjanIterativo), quitando primero las componentes
+ *    sin arcos de salida, como en el algoritmo de Kahn.
+ *
+ * Cada conjunto se identifica con una etiqueta en this.particion, y sólo la
+ * tarea que lo resuelve escribe en las posiciones de sus nodos. Al recorrer
+ * los arcos, una tarea puede leer la etiqueta de un nodo de otro conjunto
+ * mientras otra tarea la cambia, pero las etiquetas nuevas siempre son
+ * distintas de las existentes, así que la lectura nunca confunde un nodo
+ * ajeno con uno propio.
+ *
+ * El pool lo recibe el constructor, para que los cálculos de todos los casos
+ * compartan los mismos hilos (ver Main). La renumeración es secuencial y
+ * lineal; el trabajo en paralelo es el de los recortes y alcances, que en el
+ * peor caso es cuadrático, por lo que sólo conviene en grafos muy grandes
+ * (ver CasoDePrueba).
+ */
+public class ComponentesEnParalelo implements AlgoritmoDeComponentes {
+
+    /**
+     * Número mínimo de nodos de un conjunto para resolverlo en una tarea
+     * aparte.
+     */
+    public static final int     UMBRAL_TAREA = 4096;
+
+    // Marcas de los alcances en this.marca
+    private static final byte   ADELANTE = 1;
+    private static final byte   ATRAS = 2;
+
+    // Adyacencias del grafo y de su transpuesto en forma CSR
+    private int[]   inicio;
+    private int[]   destinos;
+    private int[]   inicioInverso;
+    private int[]   fuentes;
+    private int     nNodos;
+
+    // Pool donde se ejecutan las tareas
+    private ForkJoinPool pool;
+
+    /**
+     * Etiqueta del conjunto al que pertenece cada nodo, -1 si ya tiene
+     * componente
+     */
+    private int[]   particion;
+
+    /**
+     * Marcas de los alcances del conjunto al que pertenece cada nodo
+     */
+    private byte[]  marca;
+
+    /**
+     * Grados de entrada y de salida de cada nodo dentro de su conjunto, para
+     * el recorte
+     */
+    private int[]   gradoEntrada;
+    private int[]   gradoSalida;
+
+    /**
+     * Componente de cada nodo, -1 si aún no se le ha asignado
+     */
+    private int[]   comp;
+
+    /**
+     * Próxima etiqueta de conjunto y próximo número de componente libres
+     */
+    private AtomicInteger etiquetas;
+    private AtomicInteger componentes;
+
+    /**
+     * Numero de componentes halladas
+     */
+    private int     nComponentes;
+
+    // CONSTRUCTOR:
+
+    /**
+     * Crea una nueva instancia de ComponentesEnParalelo sobre el digrafo dado,
+     * que usará el pool dado. Si el digrafo no es un DiGraphCSR, se copia una
+     * vez a esa representación.
+     * pre: digrafo != null &amp;&amp; pool != null
+     * post: se reserva la memoria necesaria para la ejecución.
+     * @param digrafo el grafo a descomponer
+     * @param pool el pool donde se ejecutan las tareas
+     */
+    public ComponentesEnParalelo(DiGraph digrafo, ForkJoinPool pool) {
+        DiGraphCSR csr = (digrafo instanceof DiGraphCSR ?
+                                    (DiGraphCSR) digrafo :
+                                    new DiGraphCSR(digrafo));
+        this.inicio = csr.getOutStart();
+        this.destinos = csr.getOutTargets();
+        this.inicioInverso = csr.getInStart();
+        this.fuentes = csr.getInSources();
+        this.nNodos = csr.getNumberOfNodes();
+        this.pool = pool;
+
+        this.particion = new int[this.nNodos];
+        this.marca = new byte[this.nNodos];
+        this.gradoEntrada = new int[this.nNodos];
+        this.gradoSalida = new int[this.nNodos];
+        this.comp = new int[this.nNodos];
+        this.etiquetas = new AtomicInteger();
+        this.componentes = new AtomicInteger();
+    }
+
+    // MÉTODOS:
+
+    /**
+     * Calcula las componentes fuertemente conexas del digrafo.
+     * pre: true
+     * post: se devuelve el arreglo de componentes, y
+     * this.getNumeroDeComponentes() indica cuántas hay.
+     * @return arreglo comp, donde comp[v] es la componente del nodo v
+     */
+    public int[] ejecutar() {
+        for (int v = 0; v < this.nNodos; v++) {
+            this.particion[v] = 0;
+            this.marca[v] = 0;
+            this.comp[v] = -1;
+        }
+        this.etiquetas.set(1);
+        this.componentes.set(0);
+
+        if (0 < this.nNodos) {
+            int[] todos = new int[this.nNodos];
+            for (int v = 0; v < this.nNodos; v++) {
+                todos[v] = v;
+            }
+            this.pool.invoke(new Division(todos, 0));
+        }
+        this.nComponentes = this.componentes.get();
+        this.renumerar();
+        return this.comp;
+    }
+
+    /**
+     * Retorna el número de componentes halladas por la última ejecución.
+     * pre: se debe haber llamado a this.ejecutar()
+     * post: se devuelve el número de componentes fuertemente conexas.
+     * @return el número de componentes fuertemente conexas
+     */
+    public int getNumeroDeComponentes() {
+        return this.nComponentes;
+    }
+
+    // MÉTODOS PRIVADOS AUXILIARES:
+
+    /**
+     * Elimina en cascada los nodos del conjunto {@code nodos} sin predecesores
+     * o sin sucesores dentro del conjunto, cada uno como una componente.
+     * pre: todos los nodos de nodos tienen la etiqueta etiqueta
+     * post: los nodos eliminados tienen componente y particion -1.
+     * @param nodos el conjunto a recortar
+     * @param etiqueta la etiqueta del conjunto
+     * @return los nodos que quedan, con la etiqueta etiqueta; nodos mismo si
+     * no se eliminó ninguno
+     */
+    private int[] recortar(int[] nodos, int etiqueta) {
+        int[] cola = new int[nodos.length];
+        int fin = 0;
+        for (int k = 0; k < nodos.length; k++) {
+            int v = nodos[k];
+            int entrada = 0;
+            for (int i = this.inicioInverso[v]; i < this.inicioInverso[v + 1];
+                                                                        i++) {
+                if (this.particion[this.fuentes[i]] == etiqueta) {
+                    entrada++;
+                }
+            }
+            int salida = 0;
+            for (int i = this.inicio[v]; i < this.inicio[v + 1]; i++) {
+                if (this.particion[this.destinos[i]] == etiqueta) {
+                    salida++;
+                }
+            }
+            this.gradoEntrada[v] = entrada;
+            this.gradoSalida[v] = salida;
+        }
+        for (int k = 0; k < nodos.length; k++) {
+            int v = nodos[k];
+            if (this.gradoEntrada[v] == 0 || this.gradoSalida[v] == 0) {
+                cola[fin++] = v;
+                this.particion[v] = -1;
+            }
+        }
+
+        for (int k = 0; k < fin; k++) {
+            int v = cola[k];
+            this.comp[v] = this.componentes.getAndIncrement();
+            for (int i = this.inicio[v]; i < this.inicio[v + 1]; i++) {
+                int w = this.destinos[i];
+                if (this.particion[w] == etiqueta
+                        && --this.gradoEntrada[w] == 0) {
+                    cola[fin++] = w;
+                    this.particion[w] = -1;
+                }
+            }
+            for (int i = this.inicioInverso[v]; i < this.inicioInverso[v + 1];
+                                                                        i++) {
+                int u = this.fuentes[i];
+                if (this.particion[u] == etiqueta
+                        && --this.gradoSalida[u] == 0) {
+                    cola[fin++] = u;
+                    this.particion[u] = -1;
+                }
+            }
+        }
+
+        if (fin == 0) {
+            return nodos;
+        }
+        int[] restantes = new int[nodos.length - fin];
+        int n = 0;
+        for (int k = 0; k < nodos.length; k++) {
+            if (this.particion[nodos[k]] == etiqueta) {
+                restantes[n++] = nodos[k];
+            }
+        }
+        return restantes;
+    }
+
+    /**
+     * Recorta el conjunto {@code nodos}, resuelve la componente de un pivote
+     * de los nodos que quedan y parte el resto en los conjuntos cerrados
+     * F - B, B - F y el de los nodos no alcanzados, que se agregan a
+     * {@code salida}.
+     * pre: nodos no es vacío y todos sus nodos tienen la etiqueta etiqueta
+     * post: los nodos recortados y los de la componente del pivote tienen
+     * componente, y cada conjunto agregado a salida tiene su propia etiqueta.
+     * @param nodos el conjunto a dividir
+     * @param etiqueta la etiqueta del conjunto
+     * @param salida donde se agregan los conjuntos que quedan por resolver
+     */
+    private void dividir(int[] nodos, int etiqueta, List<Division> salida) {
+        nodos = this.recortar(nodos, etiqueta);
+        if (nodos.length == 0) {
+            return;
+        }
+        int pivote = nodos[nodos.length / 2];
+        if (nodos.length == 1) {
+            this.comp[pivote] = this.componentes.getAndIncrement();
+            this.particion[pivote] = -1;
+            return;
+        }
+
+        int[] cola = new int[nodos.length];
+        this.alcanzar(pivote, etiqueta, this.inicio, this.destinos, ADELANTE,
+                      cola);
+        this.alcanzar(pivote, etiqueta, this.inicioInverso, this.fuentes,
+                      ATRAS, cola);
+
+        int nAdelante = 0;
+        int nAtras = 0;
+        int nResto = 0;
+        for (int k = 0; k < nodos.length; k++) {
+            byte m = this.marca[nodos[k]];
+            if (m == ADELANTE) {
+                nAdelante++;
+            } else if (m == ATRAS) {
+                nAtras++;
+            } else if (m == 0) {
+                nResto++;
+            }
+        }
+
+        int c = this.componentes.getAndIncrement();
+        int[] adelante = new int[nAdelante];
+        int[] atras = new int[nAtras];
+        int[] resto = new int[nResto];
+        int etiquetaAdelante = this.etiquetas.getAndIncrement();
+        int etiquetaAtras = this.etiquetas.getAndIncrement();
+        nAdelante = 0;
+        nAtras = 0;
+        nResto = 0;
+        for (int k = 0; k < nodos.length; k++) {
+            int v = nodos[k];
+            byte m = this.marca[v];
+            this.marca[v] = 0;
+            if (m == ADELANTE) {
+                adelante[nAdelante++] = v;
+                this.particion[v] = etiquetaAdelante;
+            } else if (m == ATRAS) {
+                atras[nAtras++] = v;
+                this.particion[v] = etiquetaAtras;
+            } else if (m == 0) {
+                resto[nResto++] = v;
+            } else {
+                this.comp[v] = c;
+                this.particion[v] = -1;
+            }
+        }
+
+        if (0 < nAdelante) {
+            salida.add(new Division(adelante, etiquetaAdelante));
+        }
+        if (0 < nAtras) {
+            salida.add(new Division(atras, etiquetaAtras));
+        }
+        if (0 < nResto) {
+            salida.add(new Division(resto, etiqueta));
+        }
+    }
+
+    /**
+     * Marca con {@code bit} los nodos del conjunto {@code etiqueta} que se
+     * alcanzan desde {@code origen} por los arcos dados (los del grafo o los
+     * del transpuesto).
+     * pre: origen tiene la etiqueta etiqueta, y cola tiene al menos tantas
+     * posiciones como nodos el conjunto
+     * post: los nodos alcanzados tienen bit en this.marca.
+     * @param origen el nodo desde donde se busca
+     * @param etiqueta la etiqueta del conjunto
+     * @param ini inicios de fila de los arcos a recorrer
+     * @param ady adyacencias de los arcos a recorrer
+     * @param bit la marca a poner
+     * @param cola arreglo de trabajo para la búsqueda
+     */
+    private void alcanzar(int origen, int etiqueta, int[] ini, int[] ady,
+                          byte bit, int[] cola)
+    {
+        int fin = 0;
+        cola[fin++] = origen;
+        this.marca[origen] |= bit;
+        for (int k = 0; k < fin; k++) {
+            int v = cola[k];
+            for (int i = ini[v]; i < ini[v + 1]; i++) {
+                int w = ady[i];
+                if (this.particion[w] == etiqueta
+                        && (this.marca[w] & bit) == 0) {
+                    this.marca[w] |= bit;
+                    cola[fin++] = w;
+                }
+            }
+        }
+    }
+
+    /**
+     * Renumera las componentes en orden topológico inverso del grafo de
+     * componentes: una componente recibe su número cuando ya lo tienen todas
+     * aquellas a las que llegan sus arcos.
+     * pre: this.comp asigna a cada nodo un número en [0, this.nComponentes)
+     * post: si hay un arco de la componente x a la componente y (x != y),
+     * entonces y &lt; x.
+     */
+    private void renumerar() {
+        int nComp = this.nComponentes;
+
+        // Nodos de cada componente, agrupados por componente
+        int[] inicioComp = new int[nComp + 1];
+        for (int v = 0; v < this.nNodos; v++) {
+            inicioComp[this.comp[v] + 1]++;
+        }
+        for (int c = 0; c < nComp; c++) {
+            inicioComp[c + 1] += inicioComp[c];
+        }
+        int[] nodosComp = new int[this.nNodos];
+        int[] proximo = new int[nComp];
+        for (int c = 0; c < nComp; c++) {
+            proximo[c] = inicioComp[c];
+        }
+        for (int v = 0; v < this.nNodos; v++) {
+            nodosComp[proximo[this.comp[v]]++] = v;
+        }
+
+        // Arcos de salida de cada componente hacia otras
+        int[] salidas = proximo;
+        for (int c = 0; c < nComp; c++) {
+            salidas[c] = 0;
+        }
+        for (int v = 0; v < this.nNodos; v++) {
+            for (int i = this.inicio[v]; i < this.inicio[v + 1]; i++) {
+                if (this.comp[this.destinos[i]] != this.comp[v]) {
+                    salidas[this.comp[v]]++;
+                }
+            }
+        }
+
+        int[] cola = new int[nComp];
+        int fin = 0;
+        for (int c = 0; c < nComp; c++) {
+            if (salidas[c] == 0) {
+                cola[fin++] = c;
+            }
+        }
+        int[] numero = new int[nComp];
+        for (int k = 0; k < fin; k++) {
+            int c = cola[k];
+            numero[c] = k;
+            for (int j = inicioComp[c]; j < inicioComp[c + 1]; j++) {
+                int v = nodosComp[j];
+                for (int i = this.inicioInverso[v];
+                                        i < this.inicioInverso[v + 1]; i++) {
+                    int d = this.comp[this.fuentes[i]];
+                    if (d != c && --salidas[d] == 0) {
+                        cola[fin++] = d;
+                    }
+                }
+            }
+        }
+
+        for (int v = 0; v < this.nNodos; v++) {
+            this.comp[v] = numero[this.comp[v]];
+        }
+    }
+
+    // CLASES INTERNAS:
+
+    /**
+     * Tarea que resuelve un conjunto cerrado de nodos. Los conjuntos que
+     * resultan de dividirlo se resuelven en tareas nuevas si son grandes, o
+     * en esta misma tarea si no, con una pila en lugar de recursión.
+     */
+    private class Division extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        // Los nodos del conjunto y su etiqueta
+        private int[]   nodos;
+        private int     etiqueta;
+
+        /**
+         * Crea una tarea para el conjunto dado.
+         * @param nodos los nodos del conjunto
+         * @param etiqueta la etiqueta de los nodos del conjunto
+         */
+        Division(int[] nodos, int etiqueta) {
+            this.nodos = nodos;
+            this.etiqueta = etiqueta;
+        }
+
+        /**
+         * Resuelve el conjunto y espera a las tareas que haya creado.
+         */
+        protected void compute() {
+            List<Division> pendientes = new ArrayLista();
+            List<Division> nuevas = new ArrayLista();
+            List<Division> hijas = new ArrayLista();
+            pendientes.add(this);
+
+            while (!pendientes.isEmpty()) {
+                Division d = pendientes.remove(pendientes.size() - 1);
+                nuevas.clear();
+                ComponentesEnParalelo.this.dividir(d.nodos, d.etiqueta,
+                                                   nuevas);
+                d.nodos = null;
+                for (int k = 0; k < nuevas.size(); k++) {
+                    Division nueva = nuevas.get(k);
+                    if (UMBRAL_TAREA <= nueva.nodos.length) {
+                        nueva.fork();
+                        hijas.add(nueva);
+                    } else {
+                        pendientes.add(nueva);
+                    }
+                }
+            }
+
+            for (int k = 0; k < hijas.size(); k++) {
+                hijas.get(k).join();
+            }
+        }
+    }
+}
@@ -0,0 +1,168 @@
+import java.util.Arrays;
+
+/**
+ * Almacén de disjunciones de dos literales (p \/ q) sin repeticiones, usado
+ * por Main para la fórmula en forma 2CNF. Como la disjunción es conmutativa,
+ * (p \/ q) y (q \/ p) se consideran la misma: cada disjunción se normaliza al
+ * par (min, max), que se empaqueta en un {@code long} y se guarda en un
+ * ConjuntoDeLongs. Así, agregar una disjunción cuesta O(1) amortizado y no
+ * crea arreglos temporales.
+ *
+ * Las disjunciones se numeran en orden de inserción, y pueden eliminarse por
+ * su número. Una disjunción eliminada deja de contar en {@code size()}, pero
+ * su número no se reutiliza; los recorridos deben saltarla consultando
+ * {@code estaViva(i)}.
+ */
+public class ConjuntoDeDisjunciones {
+
+    // Modelo de representación:
+
+    // Literales de cada disjunción, con primero[i] <= segundo[i]
+    private int[]           primero;
+    private int[]           segundo;
+
+    // Indica si la disjunción i fue eliminada
+    private boolean[]       eliminada;
+
+    // Número de disjunciones insertadas (vivas o no) y vivas
+    private int             total;
+    private int             vivas;
+
+    // Pares (min, max) ya insertados
+    private ConjuntoDeLongs claves;
+
+    // Constructores:
+
+    /**
+     * Construye un almacén vacío.
+     * pre: {@code true;}
+     * post: {@code this.isEmpty();}
+     */
+    public ConjuntoDeDisjunciones() {
+        this(16);
+    }
+
+    /**
+     * Construye un almacén vacío con espacio para {@code esperadas}
+     * disjunciones sin necesidad de crecer.
+     * pre: {@code 0 <= esperadas}
+     * post: {@code this.isEmpty();}
+     * @param esperadas número de disjunciones que se espera almacenar
+     */
+    public ConjuntoDeDisjunciones(int esperadas) {
+        int capacidad = Math.max(esperadas, 16);
+        this.primero = new int[capacidad];
+        this.segundo = new int[capacidad];
+        this.eliminada = new boolean[capacidad];
+        this.total = 0;
+        this.vivas = 0;
+        this.claves = new ConjuntoDeLongs(esperadas);
+    }
+
+    // Métodos:
+
+    /**
+     * Agrega la disjunción (p \/ q), salvo que ella o (q \/ p) ya hayan sido
+     * agregadas antes.
+     * pre: {@code 0 <= p && 0 <= q}
+     * post: la disjunción está en el almacén.
+     * @param p primer literal
+     * @param q segundo literal
+     * @return true si la disjunción es nueva, false si ya estaba
+     */
+    public boolean agregar(int p, int q) {
+        int menor = Math.min(p, q);
+        int mayor = Math.max(p, q);
+        if (!this.claves.add(((long) menor << 32) | mayor)) {
+            return false;
+        }
+        if (this.total == this.primero.length) {
+            int capacidad = 2 * this.total;
+            this.primero = Arrays.copyOf(this.primero, capacidad);
+            this.segundo = Arrays.copyOf(this.segundo, capacidad);
+            this.eliminada = Arrays.copyOf(this.eliminada, capacidad);
+        }
+        this.primero[this.total] = menor;
+        this.segundo[this.total] = mayor;
+        this.total++;
+        this.vivas++;
+        return true;
+    }
+
+    /**
+     * Elimina la disjunción número {@code i}.
+     * pre: {@code 0 <= i < this.getTotal()}
+     * post: {@code !this.estaViva(i)}
+     * @param i número de la disjunción
+     */
+    public void eliminar(int i) {
+        if (!this.eliminada[i]) {
+            this.eliminada[i] = true;
+            this.vivas--;
+        }
+    }
+
+    /**
+     * Indica si la disjunción número {@code i} no ha sido eliminada.
+     * pre: {@code 0 <= i < this.getTotal()}
+     * post: el resultado es true si la disjunción i no ha sido eliminada
+     * @param i número de la disjunción
+     * @return true si la disjunción i no ha sido eliminada
+     */
+    public boolean estaViva(int i) {
+        return !this.eliminada[i];
+    }
+
+    /**
+     * Retorna el menor literal de la disjunción número {@code i}.
+     * pre: {@code 0 <= i < this.getTotal()}
+     * post: true
+     * @param i número de la disjunción
+     * @return el menor literal de la disjunción
+     */
+    public int getPrimero(int i) {
+        return this.primero[i];
+    }
+
+    /**
+     * Retorna el mayor literal de la disjunción número {@code i}.
+     * pre: {@code 0 <= i < this.getTotal()}
+     * post: true
+     * @param i número de la disjunción
+     * @return el mayor literal de la disjunción
+     */
+    public int getSegundo(int i) {
+        return this.segundo[i];
+    }
+
+    /**
+     * Retorna el número de disjunciones insertadas, incluyendo las eliminadas.
+     * Los números válidos de disjunción están en [0, getTotal()).
+     * pre: true
+     * post: true
+     * @return el número de disjunciones insertadas
+     */
+    public int getTotal() {
+        return this.total;
+    }
+
+    /**
+     * Determina si no quedan disjunciones vivas.
+     * pre: true
+     * post: el resultado es true si size() == 0
+     * @return true si size() == 0
+     */
+    public boolean isEmpty() {
+        return (this.vivas == 0);
+    }
+
+    /**
+     * Retorna el número de disjunciones vivas.
+     * pre: true
+     * post: true
+     * @return el número de disjunciones que no han sido eliminadas
+     */
+    public int size() {
+        return this.vivas;
+    }
+}
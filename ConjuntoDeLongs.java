@@ -0,0 +1,197 @@
+import java.util.Arrays;
+
+/**
+ * Conjunto de enteros largos no negativos, implementado como una tabla de
+ * hash de direccionamiento abierto con sondeo lineal sobre un arreglo de
+ * {@code long}. No guarda objetos: ni las claves ni las cajas de la tabla
+ * generan basura, por lo que insertar y consultar cuesta O(1) amortizado y no
+ * reserva memoria salvo al crecer la tabla.
+ *
+ * La tabla siempre tiene un tamaño potencia de dos, y crece al doble cuando
+ * su ocupación supera la mitad.
+ */
+public class ConjuntoDeLongs {
+
+    // Modelo de representación:
+
+    // Marca de caja vacía. Por eso las claves deben ser no negativas.
+    private static final long VACIO = -1L;
+
+    private long[] tabla;
+    private int    mascara;
+    private int    tam;
+
+    // Constructores:
+
+    /**
+     * Construye un conjunto vacío.
+     * pre: {@code true;}
+     * post: {@code this.isEmpty();}
+     */
+    public ConjuntoDeLongs() {
+        this(16);
+    }
+
+    /**
+     * Construye un conjunto vacío con espacio para {@code esperados} claves
+     * sin necesidad de crecer.
+     * pre: {@code 0 <= esperados}
+     * post: {@code this.isEmpty();}
+     * @param esperados número de claves que se espera almacenar
+     */
+    public ConjuntoDeLongs(int esperados) {
+        int capacidad = 16;
+        while (capacidad < 2 * esperados) {
+            capacidad <<= 1;
+        }
+        this.tabla = new long[capacidad];
+        Arrays.fill(this.tabla, VACIO);
+        this.mascara = capacidad - 1;
+        this.tam = 0;
+    }
+
+    // Métodos:
+
+    /**
+     * Agrega {@code clave} al conjunto.
+     * pre: {@code 0 <= clave}
+     * post: {@code this.contains(clave);}
+     * @param clave la clave a agregar
+     * @return true si la clave no estaba en el conjunto, false si ya estaba
+     */
+    public boolean add(long clave) {
+        int pos = this.posicion(clave);
+        while (this.tabla[pos] != VACIO) {
+            if (this.tabla[pos] == clave) {
+                return false;
+            }
+            pos = (pos + 1) & this.mascara;
+        }
+        this.tabla[pos] = clave;
+        this.tam++;
+        if (this.tabla.length < 2 * this.tam) {
+            this.crecer();
+        }
+        return true;
+    }
+
+    /**
+     * Vacia el conjunto, conservando el tamaño de la tabla.
+     * pre: {@code true;}
+     * post: {@code this.isEmpty();}
+     */
+    public void clear() {
+        Arrays.fill(this.tabla, VACIO);
+        this.tam = 0;
+    }
+
+    /**
+     * Permite saber si {@code clave} pertenece al conjunto.
+     * pre: {@code true;}
+     * post: el resultado es true si {@code clave} esta en este conjunto, false
+     * en caso contrario.
+     * @param clave la clave a consultar
+     * @return true si {@code clave} esta en este conjunto
+     */
+    public boolean contains(long clave) {
+        int pos = this.posicion(clave);
+        while (this.tabla[pos] != VACIO) {
+            if (this.tabla[pos] == clave) {
+                return true;
+            }
+            pos = (pos + 1) & this.mascara;
+        }
+        return false;
+    }
+
+    /**
+     * Elimina {@code clave} del conjunto. Para no dejar marcas de borrado en
+     * la tabla, las claves siguientes del mismo grupo de cajas ocupadas se
+     * desplazan hacia atrás, a la caja liberada, cuando ésta queda entre su
+     * caja inicial y la caja que ocupan; así las búsquedas siguen
+     * deteniéndose en la primera caja vacía.
+     * pre: {@code true;}
+     * post: {@code !this.contains(clave);}
+     * @param clave la clave a eliminar
+     * @return true si la clave estaba en el conjunto, false si no
+     */
+    public boolean remove(long clave) {
+        int pos = this.posicion(clave);
+        while (this.tabla[pos] != VACIO) {
+            if (this.tabla[pos] == clave) {
+                int hueco = pos;
+                int sig = (pos + 1) & this.mascara;
+                while (this.tabla[sig] != VACIO) {
+                    int inicial = this.posicion(this.tabla[sig]);
+                    // Distancia de la caja inicial a sig, y del hueco a sig
+                    if (((sig - hueco) & this.mascara)
+                            <= ((sig - inicial) & this.mascara)) {
+                        this.tabla[hueco] = this.tabla[sig];
+                        hueco = sig;
+                    }
+                    sig = (sig + 1) & this.mascara;
+                }
+                this.tabla[hueco] = VACIO;
+                this.tam--;
+                return true;
+            }
+            pos = (pos + 1) & this.mascara;
+        }
+        return false;
+    }
+
+    /**
+     * Determina si el conjunto no tiene elementos.
+     * pre: {@code true;}
+     * post: el resultado es true si size() &eq; 0. falso en caso contrario
+     * @return true si size() &eq; 0. falso en caso contrario
+     */
+    public boolean isEmpty() {
+        return (this.tam == 0);
+    }
+
+    /**
+     * Retorna el número de claves en el conjunto.
+     * pre: {@code true;}
+     * post: el resultado es el número de claves en el conjunto
+     * @return el número de claves en el conjunto
+     */
+    public int size() {
+        return this.tam;
+    }
+
+    // Métodos privados auxiliares:
+
+    /**
+     * Calcula la caja inicial de {@code clave}, mezclando sus bits con una
+     * multiplicación por la razón áurea para que claves consecutivas no queden
+     * en cajas consecutivas.
+     * @param clave la clave
+     * @return la caja donde comienza el sondeo de {@code clave}
+     */
+    private int posicion(long clave) {
+        long h = clave * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & this.mascara;
+    }
+
+    /**
+     * Duplica el tamaño de la tabla y reinserta todas las claves.
+     * pre: {@code true;}
+     * post: la tabla tiene el doble de cajas y las mismas claves.
+     */
+    private void crecer() {
+        long[] vieja = this.tabla;
+        this.tabla = new long[2 * vieja.length];
+        Arrays.fill(this.tabla, VACIO);
+        this.mascara = this.tabla.length - 1;
+        for (int k = 0; k < vieja.length; k++) {
+            if (vieja[k] != VACIO) {
+                int pos = this.posicion(vieja[k]);
+                while (this.tabla[pos] != VACIO) {
+                    pos = (pos + 1) & this.mascara;
+                }
+                this.tabla[pos] = vieja[k];
+            }
+        }
+    }
+}
@@ -0,0 +1,233 @@
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Convertidor de archivos de entrada entre el formato de texto del enunciado
+ * y el formato binario compacto que lee LectorBinario (ver su documentación).
+ * Sirve para convertir una sola vez los archivos grandes que se resuelven
+ * muchas veces, y luego resolverlos con "java Main -binario".
+ *
+ * Ambas conversiones leen y escriben con buffers de bytes y sin crear
+ * Strings, así que funcionan con archivos de varios GB con memoria constante.
+ *
+ * USO:
+ *
+ *     java ConvertidorBinario [-a-texto] archivo_entrada archivo_salida
+ *
+ * Sin opciones, convierte un archivo de texto a binario; con -a-texto,
+ * convierte un archivo binario a texto.
+ */
+public class ConvertidorBinario {
+
+    // Modelo de representación:
+
+    // Lector del archivo de origen, de texto o binario
+    private LectorDeEnteros         in;
+
+    // Archivo que se genera, y su buffer de escritura
+    private FileChannel             canal;
+    private ByteBuffer              buffer;
+
+    // Enteros de la línea en curso
+    private int[]                   tokens;
+
+    // CONSTRUCTOR:
+
+    /**
+     * Crea un convertidor del archivo {@code origen} al archivo
+     * {@code destino}.
+     * pre: origen != null &amp;&amp; destino != null
+     * post: los archivos están abiertos y listos para la conversión.
+     * @param origen nombre del archivo a convertir
+     * @param destino nombre del archivo a generar
+     * @param origenBinario true si origen está en formato binario
+     * @throws IOException si no se puede abrir alguno de los archivos
+     */
+    public ConvertidorBinario(String origen, String destino,
+                              boolean origenBinario) throws IOException
+    {
+        FileChannel entrada;
+        try {
+            entrada = new FileInputStream(origen).getChannel();
+        } catch (FileNotFoundException ex) {
+            throw new ExcepcionArchivoNoExiste("Problema al leer el " +
+                    "archivo \"" + origen + "\": EL ARCHIVO NO SE " +
+                    "ENCUENTRA!!!");
+        }
+        if (origenBinario) {
+            this.in = new LectorBinario(entrada, LectorDeEnteros.TAM_BUFFER);
+        } else {
+            this.in = new LectorDeEnteros(entrada, LectorDeEnteros.TAM_BUFFER);
+        }
+        this.canal = new FileOutputStream(destino).getChannel();
+        this.buffer = ByteBuffer.allocate(EscritorConBuffer.TAM_BUFFER);
+        this.tokens = new int[4];
+    }
+
+    // MÉTODOS:
+
+    /**
+     * Copia todos los casos del archivo de origen al de destino; el formato
+     * de salida es binario si el de entrada es de texto, y viceversa.
+     * pre: el convertidor no se ha usado antes
+     * post: el archivo de destino contiene los mismos casos que el de origen,
+     * y ambos archivos están cerrados.
+     * @throws IOException si ocurre un error de lectura o escritura, o un error
+     * de formato en el archivo de origen
+     */
+    public void convertir() throws IOException {
+        boolean aBinario = !(this.in instanceof LectorBinario);
+        try {
+            if (aBinario) {
+                this.buffer.put(LectorBinario.MAGIA);
+            }
+            this.copiarLinea(1, aBinario);
+            int nCasos = this.tokens[0];
+            for (int k = 1; k <= nCasos; k++) {
+                this.copiarLinea(3, aBinario);
+                int p = this.tokens[2];
+                for (int i = 0; i < p; i++) {
+                    this.copiarLinea(4, aBinario);
+                }
+            }
+            this.vaciar();
+        } finally {
+            try {
+                this.canal.close();
+            } finally {
+                this.in.close();
+            }
+        }
+    }
+
+    // MÉTODOS PRIVADOS AUXILIARES:
+
+    /**
+     * Lee la siguiente línea del archivo de origen, que debe tener
+     * {@code nEnteros} enteros, y la escribe en el de destino.
+     * @param nEnteros número de enteros que debe tener la línea
+     * @param aBinario true si se escribe en formato binario
+     * @throws IOException si ocurre un error de lectura o escritura, o si la
+     * línea no tiene el formato esperado
+     */
+    private void copiarLinea(int nEnteros, boolean aBinario)
+                                                        throws IOException
+    {
+        int nTokens = this.in.leerLinea(this.tokens);
+        if (nTokens != nEnteros || !this.in.esLineaNumerica()) {
+            throw new ExcepcionFormatoIncorrecto("\nProblema leyendo la " +
+                    "linea " + this.in.getNumeroDeLinea() + ":\nSe " +
+                    "esperaban " + nEnteros + " enteros y se encontró:" +
+                    "\n\n\t\t" + (nTokens < 0 ? "el fin del archivo" :
+                                                this.in.getTextoLinea()));
+        }
+
+        for (int i = 0; i < nEnteros; i++) {
+            if (aBinario) {
+                this.escribirVarint(this.tokens[i]);
+            } else {
+                if (0 < i) {
+                    this.escribirByte(' ');
+                }
+                this.escribirEntero(this.tokens[i]);
+            }
+        }
+        if (!aBinario) {
+            this.escribirByte('\n');
+        }
+    }
+
+    /**
+     * Escribe un entero como varint en zigzag (ver LectorBinario).
+     * @param n el entero
+     * @throws IOException si ocurre un error al escribir
+     */
+    private void escribirVarint(int n) throws IOException {
+        if (this.buffer.remaining() < 5) {
+            this.vaciar();
+        }
+        int zigzag = (n << 1) ^ (n >> 31);
+        while ((zigzag & ~0x7F) != 0) {
+            this.buffer.put((byte) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        this.buffer.put((byte) zigzag);
+    }
+
+    /**
+     * Escribe un entero en decimal, sin crear un String.
+     * @param n el entero
+     * @throws IOException si ocurre un error al escribir
+     */
+    private void escribirEntero(int n) throws IOException {
+        if (this.buffer.remaining() < 11) {
+            this.vaciar();
+        }
+        long valor = n;
+        if (valor < 0) {
+            this.buffer.put((byte) '-');
+            valor = -valor;
+        }
+        int inicio = this.buffer.position();
+        do {
+            this.buffer.put((byte) ('0' + valor % 10));
+            valor /= 10;
+        } while (valor != 0);
+
+        // Los dígitos quedaron al revés
+        byte[] bytes = this.buffer.array();
+        for (int i = inicio, j = this.buffer.position() - 1; i < j; i++, j--) {
+            byte b = bytes[i];
+            bytes[i] = bytes[j];
+            bytes[j] = b;
+        }
+    }
+
+    /**
+     * Escribe un byte.
+     * @param b el byte
+     * @throws IOException si ocurre un error al escribir
+     */
+    private void escribirByte(char b) throws IOException {
+        if (!this.buffer.hasRemaining()) {
+            this.vaciar();
+        }
+        this.buffer.put((byte) b);
+    }
+
+    /**
+     * Escribe en el archivo el contenido del buffer.
+     * @throws IOException si ocurre un error al escribir
+     */
+    private void vaciar() throws IOException {
+        this.buffer.flip();
+        while (this.buffer.hasRemaining()) {
+            this.canal.write(this.buffer);
+        }
+        this.buffer.clear();
+    }
+
+    /**
+     * Programa principal del convertidor. Ver la documentación de la clase.
+     * @param args las opciones y los nombres de los archivos
+     * @throws IOException si ocurre un error de lectura o escritura, o un
+     * error en los argumentos
+     */
+    public static void main(String[] args) throws IOException {
+        boolean aTexto = (args.length == 3 && args[0].equals("-a-texto"));
+
+        if (args.length != 2 && !aTexto) {
+            throw new ExcepcionFormatoIncorrecto("Error de sintaxis en la " +
+                    "llamada del programa.\n\nUSO:\n\n\tjava " +
+                    "ConvertidorBinario [-a-texto] archivo_entrada " +
+                    "archivo_salida\n\n");
+        }
+
+        int k = args.length - 2;
+        new ConvertidorBinario(args[k], args[k + 1], aTexto).convertir();
+    }
+}
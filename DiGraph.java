@@ -1,4 +1,5 @@
 import java.io.IOException;
+import java.util.Iterator;
 
 /**
  * DiGraph es una interfaz que determina los metodos basicos que debe tener un
@@ -185,6 +186,55 @@ public abstract class DiGraph {
      */
     public abstract List<Integer> getSucesors(int nodeId);
 
+    /**
+     * Retorna los predecesores del nodo nodeId como un arreglo de int, sin
+     * empaquetarlos en objetos Integer. Esta version copia el resultado de
+     * getPredecesors; las subclases la redefinen para leer su representacion
+     * directamente.
+     *
+     * @param nodeId el id del nodo del que se quieren los predecesores
+     *
+     * @return arreglo nuevo con los predecesores de nodeId
+     */
+    public int[] predecessorsOf(int nodeId) {
+        return DiGraph.generarArrEnteros(this.getPredecesors(nodeId));
+    }
+
+    /**
+     * Retorna los sucesores del nodo nodeId como un arreglo de int, sin
+     * empaquetarlos en objetos Integer. Esta version copia el resultado de
+     * getSucesors; las subclases la redefinen para leer su representacion
+     * directamente.
+     *
+     * @param nodeId el id del nodo del que se quieren los sucesores
+     *
+     * @return arreglo nuevo con los sucesores de nodeId
+     */
+    public int[] successorsOf(int nodeId) {
+        return DiGraph.generarArrEnteros(this.getSucesors(nodeId));
+    }
+
+    /**
+     * Función auxiliar que genera un arreglo de int a partir de una lista de
+     * Integer.
+     * pre: true
+     * post: Se devuelve un arreglo de int, con los valores enteros contenidos
+     * en la lista {@code lista}
+     * @param lista Lista de Integer a transformar
+     * @return arreglo de int con los mismos elementos de lista.
+     */
+    protected static int[] generarArrEnteros(List<Integer> lista) {
+        int[] arr = new int[lista.size()];
+        Iterator iter = lista.iterator();
+
+        for (int i = 0; i < arr.length; i++) {
+            int x = ((Integer)iter.next()).intValue();
+            arr[i] = x;
+        }
+
+        return arr;
+    }
+
     /**
      * Indica si un arco existe en este DiGraph
      * <b>Pre</b>: {@code arco} no debe pertenecer a {@code this}, y sus nodos
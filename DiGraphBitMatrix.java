@@ -0,0 +1,768 @@
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.PrintStream;
+
+/**
+ * DiGraphBitMatrix es una clase concreta que representa un digrafo usando una
+ * matriz de adyacencias de bits: la fila del nodo i es un arreglo de long, y
+ * el arco (i, j) existe si el bit {@code j % 64} de la palabra {@code j / 64}
+ * de esa fila está encendido.
+ *
+ * Ocupa un bit por celda, en lugar del byte por celda del boolean[][] de
+ * DiGraphMatrix, y permite operar sobre 64 columnas a la vez: la clausura
+ * transitiva (alcance) une filas completas con un OR por palabra, en lugar de
+ * consultar isArc celda por celda.
+ *
+ * @version 1.0
+ * @since 1.6
+ */
+public class DiGraphBitMatrix extends DiGraph {
+
+    // Modelo de representación:
+
+    // filas[i] es la fila de bits del nodo i; todas tienen palabras posiciones.
+    private long[][] filas;
+
+    // Número de palabras de cada fila: ceil(numNodes / 64).
+    private int      palabras;
+
+    // Constructores:
+
+    /**
+     * Crea un DiGraphBitMatrix vacio.
+     * <b>Pre</b>: {@code true;}
+     * <b>Post</b>: este DiGraphBitMatrix está vacio.
+     */
+    public DiGraphBitMatrix() {
+        this(0);
+    }
+
+    /**
+     * Crea un DiGraphBitMatrix con n nodos y sin arcos.
+     * <b>Pre</b>: {@code 0 <= n}
+     * <b>Post</b>: este DiGraphBitMatrix tiene {@code n} nodos y ningún arco.
+     * @param n el número de nodos con los que se inicializa este
+     * DiGraphBitMatrix.
+     */
+    public DiGraphBitMatrix(int n) {
+        this.numNodes = n;
+        this.numArcs = 0;
+        this.palabras = DiGraphBitMatrix.palabrasPara(n);
+        this.filas = new long[n][this.palabras];
+    }
+
+    /**
+     * Crea un DiGraphBitMatrix a partir del contenido del archivo, con el
+     * formato de DiGraphList.
+     * <b>Pre</b>: {@code fileName} debe existir, ser un archivo, poder leerse,
+     * no puede tener errores de formato ni inconsistencias en el número de
+     * nodos o arcos.
+     * <b>Post</b>: Este DiGraphBitMatrix se inicializa exitosamente con el
+     * DiGraph representado en el archivo {@code fileName}.
+     * @param fileName Nombre del archivo a leer
+     * @throws IOException En caso de que {@code fileName} no exista, no sea un
+     * archivo, no se pueda leer, tenga un error de formato, o alguna
+     * inconsistencia en cuanto al numero de arcos o el numero de nodos
+     */
+    public DiGraphBitMatrix(String fileName) throws IOException {
+        this(0);
+        this.read(fileName);
+    }
+
+    /**
+     * Crea un DiGraphBitMatrix a partir del DiGraph g
+     * <b>Pre</b>: {@code true;}
+     * <b>Post</b>: {@code this.equals(g)}
+     *
+     * @param g el grafo fuente.
+     */
+    public DiGraphBitMatrix(DiGraph g) {
+        this.copiar(g);
+    }
+
+    // Métodos:
+
+    /**
+     * Agrega un arco a este DiGraphBitMatrix
+     * <b>Pre</b>: {@code arco} no debe pertenecer a {@code this} y los nodos de
+     * {@code arco} deben estar en {@code this}; {@code arco} no debe ser vacio
+     * <b>Post</b>: El DiGraphBitMatrix contendra el arco {@code arco}
+     *
+     * @param arco El arco a agregar
+     * @return El arco agregado, o null en caso de que los nodos src y dst no se
+     * encuentren en el DiGraphBitMatrix o el arco ya exista
+     */
+    public Arc addArc(Arc arco) {
+        if (this.insertar(arco.getSrc(), arco.getDst())) {
+            return arco;
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Agrega un arco a este DiGraphBitMatrix.
+     * <b>Pre</b>: Los nodos src y dst deben encontrase en el DiGraphBitMatrix
+     * y no debe existir un arco entre ellos.
+     * <b>Post</b>: El DiGraphBitMatrix contendra un nuevo arco que tendra a src
+     * y dst como nodos fuente y destino respectivamente.
+     *
+     * @param src nodo fuente del arco
+     * @param dst nodo destino del arco
+     * @return El arco agregado y null en caso de que los nodos src y dst no se
+     * encuentren en el DiGraphBitMatrix o el arco ya exista.
+     */
+    public Arc addArc(int src, int dst) {
+        if (this.insertar(src, dst)) {
+            return new Arc(src, dst);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Agrega un arco a este DiGraphBitMatrix. El costo no se almacena, pues
+     * esta representación sólo guarda un bit por arco.
+     * <b>Pre</b>: Los nodos src y dst deben encontrase en el DiGraphBitMatrix
+     * y no debe existir un arco entre ellos.
+     * <b>Post</b>: El DiGraphBitMatrix contendra un nuevo arco que tendra a src
+     * y dst como nodos fuente y destino respectivamente.
+     *
+     * @param src nodo fuente del arco
+     * @param dst nodo destino del arco
+     * @param costo costo del arco
+     * @return El arco agregado y null en caso de que los nodos src y dst no se
+     * encuentren en el DiGraphBitMatrix o el arco ya exista.
+     */
+    public Arc addArc(int src, int dst, double costo) {
+        if (this.insertar(src, dst)) {
+            return new Arc(src, dst, costo);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Agrega un arco a este DiGraphBitMatrix. El identificador no se almacena,
+     * pues esta representación sólo guarda un bit por arco.
+     * <b>Pre</b>: true
+     * <b>Post</b>: etse arco va de {@code src} a {@code dst}
+     *
+     * @param src nodo fuente del arco
+     * @param dst nodo destino del arco
+     * @param  ident identificador del arco
+     * @return El arco agregado
+     */
+    public Arc addArc(int src, int dst, String ident) {
+        if (this.insertar(src, dst)) {
+            return new Arc(src, dst, ident);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Agrega un arco a este DiGraphBitMatrix. Ni el costo ni el identificador
+     * se almacenan, pues esta representación sólo guarda un bit por arco.
+     * <b>Pre</b>: true
+     * <b>Post</b>: etse arco va de {@code src} a {@code dst}
+     *
+     * @param src nodo fuente del arco
+     * @param dst nodo destino del arco
+     * @param costo costo del arco
+     * @param  ident identificador del arco
+     * @return El arco agregado
+     */
+    public Arc addArc(int src, int dst, double costo, String ident) {
+        if (this.insertar(src, dst)) {
+            return new Arc(src, dst, costo, ident);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Permite agregar <i>num</i> nuevos nodos a este DiGraphBitMatrix.
+     * <b>Pre</b>: Debe existir un DiGraphBitMatrix.
+     * <b>Post</b>: El DiGraphBitMatrix contendrá <i>num</i> nodos nuevos, sin
+     * arcos.
+     *
+     * @param num numero de nodos a agregar
+     */
+    public void addNodes(int num) {
+        if (0 < num) {
+            int n = this.numNodes + num;
+            int p = DiGraphBitMatrix.palabrasPara(n);
+            long[][] nuevas = new long[n][p];
+            for (int i = 0; i < this.numNodes; i++) {
+                System.arraycopy(this.filas[i], 0, nuevas[i], 0, this.palabras);
+            }
+            this.filas = nuevas;
+            this.palabras = p;
+            this.numNodes = n;
+        }
+    }
+
+    /**
+     * Retorna un Digraph que es la clausura transitiva de este DiGraph
+     * calculada usando el algoritmo Roy-Warshal sobre filas de bits: para cada
+     * nodo intermedio k, toda fila i que alcanza a k se une con la fila de k,
+     * 64 columnas por operación.
+     * <b>Pre</b>: Debe existir un DiGraphBitMatrix.
+     * <b>Post</b>: Se obtendra un DiGraphBitMatrix con la clausura reflexiva y
+     * transitiva de este grafo, que no se altera.
+     *
+     * @return un Digraph que es la clausura transitiva de este DiGraph
+     * calculada usando el algoritmo Roy-Warshal
+     */
+    @Override
+    public DiGraph alcance() {
+        DiGraphBitMatrix ret = this.clone();
+        long[][] f = ret.filas;
+        int p = ret.palabras;
+
+        // Se agrega la identidad
+        for (int i = 0; i < this.numNodes; i++) {
+            f[i][i >>> 6] |= 1L << i;
+        }
+
+        for (int k = 0; k < this.numNodes; k++) {
+            long[] filaK = f[k];
+            int palabraK = k >>> 6;
+            long bitK = 1L << k;
+            for (int i = 0; i < this.numNodes; i++) {
+                long[] filaI = f[i];
+                if (i != k && (filaI[palabraK] & bitK) != 0) {
+                    for (int w = 0; w < p; w++) {
+                        filaI[w] |= filaK[w];
+                    }
+                }
+            }
+        }
+
+        ret.contarArcos();
+        return ret;
+    }
+
+    /**
+     * Genera una copia de este DiGraphBitMatrix.
+     * <b>Pre</b>: Debe existir un DiGraphBitMatrix.
+     * <b>Post</b>: El DiGraphBitMatrix tendra una copia exacta.
+     *
+     * @return una copia de este DiGraphBitMatrix.
+     */
+    @Override
+    public DiGraphBitMatrix clone() {
+        DiGraphBitMatrix nuevo = new DiGraphBitMatrix(0);
+        nuevo.numNodes = this.numNodes;
+        nuevo.numArcs = this.numArcs;
+        nuevo.palabras = this.palabras;
+        nuevo.filas = new long[this.numNodes][];
+        for (int i = 0; i < this.numNodes; i++) {
+            nuevo.filas[i] = this.filas[i].clone();
+        }
+        return nuevo;
+    }
+
+    /**
+     * Elimina un arco de este DiGraphBitMatrix.
+     * <b>Pre</b>: Los nodos fuente y destino, es decir nodeIniId y nodeFinId
+     * deben existir en el DiGraphBitMatrix.
+     * <b>Post</b>: No existira arco entre los nodos nodeIniId y nodeFinId.
+     *
+     * @param nodeIniId nodo fuente del arco
+     * @param nodeFinId nodo destino del arco
+     * @return El arco eliminado y null en caso de que el arco no exista.
+     */
+    public Arc delArc(int nodeIniId, int nodeFinId) {
+        if (this.isArc(nodeIniId, nodeFinId)) {
+            this.filas[nodeIniId][nodeFinId >>> 6] &= ~(1L << nodeFinId);
+            this.numArcs--;
+            return new Arc(nodeIniId, nodeFinId);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Determina si el DiGraph g es igual a este DiGraphBitMatrix.
+     * <b>Pre</b>: debe existir un DiGraphBitMatrix y un Digraph g.
+     * <b>Post</b>: Se obtendra true en caso de que los grafos relacionados sean
+     * iguales y false en caso contrario.
+     *
+     * @param g el grafo con el que se quiere comparar
+     * @return true si los dos DiGraph contienen los mismos nodos y los mismos
+     * arcos, return false en caso contrario.
+     */
+    public boolean equals(DiGraph g) {
+        if (this.numArcs == g.numArcs && this.numNodes == g.numNodes) {
+            boolean eq = true;
+            for (int i = 0; i < this.numNodes && eq; i++) {
+                int[] sucesores = this.successorsOf(i);
+                for (int k = 0; k < sucesores.length && eq; k++) {
+                    eq = g.isArc(i, sucesores[k]);
+                }
+            }
+            return eq;
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Busca el Arco cuyo nodo fuente es nodoSrc y nodo destino es nodoDst.
+     * <b>Pre</b>: Los nodos nodoSrc y nodoDst deben pertenecer al
+     * DiGraphBitMatrix y debe existir un arco entre ellos.
+     * <b>Post</b>: Se obtendra, en caso de que exista, el arco cuyos nodos
+     * fuente y destino son nodoSrc y nodoDst respectivamente.
+     *
+     * @param nodoSrc nodo fuente
+     * @param nodoDst nodo destino
+     *
+     * @return el Arco cuyo nodo fuente es nodoSrc y nodo destino es nodoDst.
+     */
+    public Arc getArc(int nodoSrc, int nodoDst) {
+        if (this.isArc(nodoSrc, nodoDst)) {
+            return new Arc(nodoSrc, nodoDst);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Retorna el grado de un nodo en este DiGraphBitMatrix.
+     * <b>Pre</b>: El nodo nodeId debe pertencer al DiGraphBitMatrix.
+     * <b>Post</b>: Se obtendra el numero de arcos que llegan y salen de nodeId,
+     * es decir el grado.
+     *
+     * @param nodeId identificacion del nodo
+     * @return el grado del nodo nodeId en este Grafo
+     */
+    public int getDegree(int nodeId) {
+        return this.getInDegree(nodeId) + this.getOutDegree(nodeId);
+    }
+
+    /**
+     * Retorna el grado interno de un nodo en este DiGraphBitMatrix, revisando
+     * su columna.
+     * <b>Pre</b>: El nodo nodeId debe pertenecer al DiGraphBitMatrix.
+     * <b>Post</b>: Se obtendra el numero de arcos que llegan a NodeId.
+     *
+     * @param nodeId identificacion del nodo
+     * @return el grado interno del nodo nodeId en este Grafo.
+     */
+    public int getInDegree(int nodeId) {
+        int palabra = nodeId >>> 6;
+        long bit = 1L << nodeId;
+        int k = 0;
+        for (int i = 0; i < this.numNodes; i++) {
+            if ((this.filas[i][palabra] & bit) != 0) {
+                k++;
+            }
+        }
+        return k;
+    }
+
+    /**
+     * Retorna la lista de arcos que tienen a nodeId como destino.
+     * <b>Pre</b>: El nodoId debe pertencer al DiGraphBitMatrix.
+     * <b>Post</b>: Se obtendra la lista de arcos que tienen a nodeId como nodo
+     * final.
+     *
+     * @param nodeId identificador del nodo
+     * @return la lista de arcos que tienen a nodeId como destino.
+     */
+    public List<Arc> getInEdges(int nodeId) {
+        int[] predecesores = this.predecessorsOf(nodeId);
+        List<Arc> arcos = new ArrayLista(predecesores.length);
+        for (int k = 0; k < predecesores.length; k++) {
+            arcos.add(new Arc(predecesores[k], nodeId));
+        }
+        return arcos;
+    }
+
+    /**
+     * Retorna el numero de arcos en el DiGraphBitMatrix.
+     * <b>Pre</b>: Debe existir un DiGraphBitMatrix.
+     * <b>Post</b>: Se obtendra el numero de arcos que pertencen al
+     * DiGraphBitMatrix.
+     *
+     * @return numero de arcos que hay en el DiGraphBitMatrix.
+     */
+    public int getNumberOfArcs() {
+        return this.numArcs;
+    }
+
+    /**
+     * Retorna el numero de nodos que hay en el DiGraphBitMatrix.
+     * <b>Pre</b>: Debe existir un DiGraphBitMatrix.
+     * <b>Post</b>: Se obtendra el numero de nodos que pertencen al
+     * DiGraphBitMatrix.
+     *
+     * @return numero de nodos en el grafo
+     */
+    public int getNumberOfNodes() {
+        return this.numNodes;
+    }
+
+    /**
+     * Retorna el grado externo de un nodo en este DiGraphBitMatrix, contando
+     * los bits encendidos de su fila.
+     * <b>Pre</b>: El nodo nodeId debe pertenecer al DiGraphBitMatrix.
+     * <b>Post</b>: Se obtendra el numero de arcos que salen de nodeId.
+     *
+     * @param nodeId identificacion del nodo
+     * @return el grado externo del nodo nodeId en este Grafo
+     */
+    public int getOutDegree(int nodeId) {
+        long[] fila = this.filas[nodeId];
+        int k = 0;
+        for (int w = 0; w < this.palabras; w++) {
+            k += Long.bitCount(fila[w]);
+        }
+        return k;
+    }
+
+    /**
+     * Retorna la lista de arcos que tienen a nodeId como fuente.
+     * <b>Pre</b>: El nodo nodeId debe pertenecer al DiGraphBitMatrix.
+     * <b>Post</b>: Se obtendra la lista de arcos que tienen a nodeId como nodo
+     * inicial.
+     *
+     * @param nodeId identificador del nodo
+     * @return la lista de arcos que tienen a nodeId como fuente
+     */
+    public List<Arc> getOutEdges(int nodeId) {
+        int[] sucesores = this.successorsOf(nodeId);
+        List<Arc> arcos = new ArrayLista(sucesores.length);
+        for (int k = 0; k < sucesores.length; k++) {
+            arcos.add(new Arc(nodeId, sucesores[k]));
+        }
+        return arcos;
+    }
+
+    /**
+     * Retorna la lista de predecesores del nodo nodeId
+     * <b>Pre</b>: El nodo nodeId debe pertenecer al DiGraphBitMatrix.
+     * <b>Post</b>: Se obtendra la lista de nodos que tienen a nodeId como nodo
+     * de destino.
+     *
+     * @param nodeId el id del nodo del que se quieren los predecesores
+     * @return lista de predecesores de nodeId
+     */
+    public List<Integer> getPredecesors(int nodeId) {
+        int[] predecesores = this.predecessorsOf(nodeId);
+        List<Integer> predecesors = new ArrayLista(predecesores.length);
+        for (int k = 0; k < predecesores.length; k++) {
+            predecesors.add(Integer.valueOf(predecesores[k]));
+        }
+        return predecesors;
+    }
+
+    /**
+     * Retorna la lista de sucesores del nodo nodeId
+     * <b>Pre</b>: El nodoId debe pertenecer al DiGraphBitMatrix.
+     * <b>Post</b>: Se obtendra la lista de nodos que tienen a nodeId como nodo
+     * fuente.
+     *
+     * @param nodeId el id del nodo del que se quieren los sucesores
+     * @return lista de sucesores de nodeId
+     */
+    public List<Integer> getSucesors(int nodeId) {
+        int[] sucesores = this.successorsOf(nodeId);
+        List<Integer> sucesors = new ArrayLista(sucesores.length);
+        for (int k = 0; k < sucesores.length; k++) {
+            sucesors.add(Integer.valueOf(sucesores[k]));
+        }
+        return sucesors;
+    }
+
+    /**
+     * Retorna los predecesores del nodo nodeId como un arreglo de int.
+     * <b>Pre</b>: El nodo nodeId debe pertenecer al DiGraphBitMatrix.
+     * <b>Post</b>: el resultado tiene los nodos k con un arco (k, nodeId), en
+     * orden creciente.
+     *
+     * @param nodeId el id del nodo del que se quieren los predecesores
+     * @return arreglo nuevo con los predecesores de nodeId
+     */
+    @Override
+    public int[] predecessorsOf(int nodeId) {
+        int palabra = nodeId >>> 6;
+        long bit = 1L << nodeId;
+        IntList predecesors = new IntList();
+        for (int i = 0; i < this.numNodes; i++) {
+            if ((this.filas[i][palabra] & bit) != 0) {
+                predecesors.add(i);
+            }
+        }
+        return predecesors.toArray();
+    }
+
+    /**
+     * Retorna los sucesores del nodo nodeId como un arreglo de int, recorriendo
+     * sólo los bits encendidos de su fila.
+     * <b>Pre</b>: El nodoId debe pertenecer al DiGraphBitMatrix.
+     * <b>Post</b>: el resultado tiene los nodos k con un arco (nodeId, k), en
+     * orden creciente.
+     *
+     * @param nodeId el id del nodo del que se quieren los sucesores
+     * @return arreglo nuevo con los sucesores de nodeId
+     */
+    @Override
+    public int[] successorsOf(int nodeId) {
+        long[] fila = this.filas[nodeId];
+        int[] sucesors = new int[this.getOutDegree(nodeId)];
+        int k = 0;
+        for (int w = 0; w < this.palabras; w++) {
+            long bits = fila[w];
+            while (bits != 0) {
+                sucesors[k++] = (w << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        return sucesors;
+    }
+
+    /**
+     * Indica si un arco existe en este DiGraphBitMatrix.
+     * <b>Pre</b>: Los nodos de {@code arco} deben pertenecer a {@code this}
+     * <b>Post</b>: Se obtendra true en caso de que el arco exista y false si
+     * ocurre lo contrario.
+     *
+     * @param arco el arco a buscar
+     * @return true si exite un arco desde el nodo src hasta el nodo dst.
+     * false en caso contrario
+     */
+    public boolean isArc(Arc arco) {
+        return this.isArc(arco.getSrc(), arco.getDst());
+    }
+
+    /**
+     * Indica si un arco existe en este DiGraphBitMatrix.
+     * <b>Pre</b>: Los nodos src y dst deben pertenecer al DiGraphBitMatrix.
+     * <b>Post</b>: Se obtendra true en caso de que el arco exista y false si
+     * ocurre lo contrario.
+     *
+     * @param src el id del nodo origen del arco
+     * @param dst el id del nodo destino del arco
+     * @return true si exite un arco desde el nodo src hasta el nodo dst.
+     * false en caso contrario
+     */
+    public boolean isArc(int src, int dst) {
+        if ((0 <= src && src < this.numNodes) &&
+            (0 <= dst && dst < this.numNodes)) {
+            return (this.filas[src][dst >>> 6] & (1L << dst)) != 0;
+        }
+        return false;
+    }
+
+    /**
+     * Inicializa este DiGraphBitMatrix en el DiGraph representado en el
+     * contenido del archivo {@code fileName}, con el formato de DiGraphList.
+     * <b>Pre</b>: {@code fileName} debe existir, ser un archivo, poder leerse,
+     * no puede tener errores de formato ni inconsistencias en el número de
+     * nodos o arcos.
+     * <b>Post</b>: Este DiGraphBitMatrix se inicializa exitosamente con el
+     * DiGraph representado en el archivo {@code fileName}.
+     *
+     * @param fileName Nombre del archivo a leer
+     * @throws IOException En caso de que {@code fileName} no exista, no sea un
+     * archivo, no se pueda leer, tenga un error de formato, o alguna
+     * inconsistencia en cuanto al numero de arcos o el numero de nodos
+     */
+    public void read(String fileName) throws IOException {
+        this.copiar(new DiGraphList(fileName));
+    }
+
+    /**
+     * Remueve todos los arcos de este grafo
+     * <b>Pre</b>: Debe existir un DiGraphBitMatrix.
+     * <b>Post</b>: Se obtendra la lista de los arcos que fueron eliminados, y
+     * este grafo quedará sin arcos.
+     *
+     * @return lista de arcos eliminados
+     */
+    public List<Arc> removeAllArcs() {
+        List<Arc> lista = new ArrayLista(this.numArcs);
+        for (int i = 0; i < this.numNodes; i++) {
+            int[] sucesores = this.successorsOf(i);
+            for (int k = 0; k < sucesores.length; k++) {
+                lista.add(new Arc(i, sucesores[k]));
+            }
+        }
+        this.filas = new long[this.numNodes][this.palabras];
+        this.numArcs = 0;
+        return lista;
+    }
+
+    /**
+     * Invierte la direccion de un arco
+     * <b>Pre</b>: Los nodos nodeIniId y nodeFinId deben pertenecer al
+     * DiGraphBitMatrix.
+     * <b>Post</b>: Se obtendra true en caso de que el arco haya sido invertido
+     * y false en caso contrario.
+     *
+     * @param nodeIniId nodo fuente del arco antes de invertirlo
+     * @param nodeFinId nodo destino del arco antes de invertirlo
+     * @return true si el arco fue invertido, false en caso contrario
+     */
+    public boolean reverseArc(int nodeIniId, int nodeFinId) {
+        if (this.isArc(nodeIniId, nodeFinId) &&
+            !this.isArc(nodeFinId, nodeIniId)) {
+            this.delArc(nodeIniId, nodeFinId);
+            this.addArc(nodeFinId, nodeIniId);
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Invierte todos los arcos del DiGraphBitMatrix, transponiendo la matriz.
+     * <b>Pre</b>: Debe existir un DiGraphBitMatrix.
+     * <b>Post</b>: Todos los arcos quedan invertidos.
+     *
+     * @return true, pues todos los arcos pueden ser invertidos.
+     */
+    public boolean reverseArcs() {
+        long[][] transpuesta = new long[this.numNodes][this.palabras];
+        for (int i = 0; i < this.numNodes; i++) {
+            int[] sucesores = this.successorsOf(i);
+            for (int k = 0; k < sucesores.length; k++) {
+                transpuesta[sucesores[k]][i >>> 6] |= 1L << i;
+            }
+        }
+        this.filas = transpuesta;
+        return true;
+    }
+
+    /**
+     * Retorna la representacion en String de este DiGraphBitMatrix.
+     * <b>Pre</b>: Debe existir un DiGraphBitMatrix.
+     * <b>Post</b>: Se obtendra la representacion en String del
+     * DiGraphBitMatrix.
+     *
+     * @return la representacion en String de este DiGraphBitMatrix.
+     */
+    @Override
+    public String toString() {
+        StringBuilder string = new StringBuilder();
+        string.append(this.numNodes).append(' ').append(this.numArcs);
+        for (int i = 0; i < this.numNodes; i++) {
+            int[] sucesores = this.successorsOf(i);
+            for (int k = 0; k < sucesores.length; k++) {
+                string.append('\n').append(i).append(' ').append(sucesores[k]);
+            }
+        }
+        return string.toString();
+    }
+
+    /**
+     * Escribe la representacion de este DiGraph en el archivo {@code fileName},
+     * usando el mismo formato que DiGraphList.
+     * <b>pre</b>: {@code fileName} debe poder escribirse.
+     * <b>post</b>: El archivo {@code fileName} contiene la representación de
+     * este DiGraph.
+     * @param fileName Archivo a escribir
+     * @throws IOException En caso de que el archivo {@code fileName} no se
+     * pueda escribir.
+     */
+    public void write(String fileName) throws IOException {
+        File salida = new File(fileName);
+        if (!salida.exists() || !salida.isFile() || !salida.canWrite())
+        {
+            salida.delete();
+            salida.createNewFile();
+        }
+        salida.setWritable(true);
+        PrintStream out;
+        try {
+            out = new PrintStream(salida);
+            out.println(this.numNodes + " " + this.numArcs);
+            for (int i = 0; i < this.numNodes; i++) {
+                int[] sucesores = this.successorsOf(i);
+                for (int k = 0; k < sucesores.length; k++) {
+                    out.println(i + " " + sucesores[k]);
+                }
+            }
+            out.close();
+        } catch (FileNotFoundException fnfe) {
+            throw new ExcepcionArchivoNoSePuedeEscribir("\nProblema" +
+                    " escribiendo en el archivo \"" + fileName + "\"");
+        }
+    }
+
+    // METODOS PRIVADOS AUXILIARES:
+
+    /**
+     * Enciende el bit del arco (src, dst).
+     * <b>Pre</b>: true
+     * <b>Post</b>: si ambos nodos pertenecen al grafo y el arco no existía, el
+     * arco queda agregado.
+     * @param src nodo fuente
+     * @param dst nodo destino
+     * @return true si el arco fue agregado, false en caso contrario.
+     */
+    private boolean insertar(int src, int dst) {
+        if (!((0 <= src && src < this.numNodes) &&
+              (0 <= dst && dst < this.numNodes))) {
+            return false;
+        }
+        long[] fila = this.filas[src];
+        long bit = 1L << dst;
+        if ((fila[dst >>> 6] & bit) != 0) {
+            return false;
+        }
+        fila[dst >>> 6] |= bit;
+        this.numArcs++;
+        return true;
+    }
+
+    /**
+     * Reemplaza el contenido de este grafo por una copia de g.
+     * <b>Pre</b>: g != null
+     * <b>Post</b>: {@code this.equals(g)}
+     * @param g el grafo fuente
+     */
+    private void copiar(DiGraph g) {
+        int n = g.getNumberOfNodes();
+        this.numNodes = n;
+        this.palabras = DiGraphBitMatrix.palabrasPara(n);
+        this.filas = new long[n][this.palabras];
+        for (int i = 0; i < n; i++) {
+            int[] sucesores = g.successorsOf(i);
+            for (int k = 0; k < sucesores.length; k++) {
+                this.filas[i][sucesores[k] >>> 6] |= 1L << sucesores[k];
+            }
+        }
+        this.contarArcos();
+    }
+
+    /**
+     * Recalcula numArcs contando los bits encendidos de todas las filas.
+     * <b>Pre</b>: true
+     * <b>Post</b>: numArcs es el número de arcos de este grafo.
+     */
+    private void contarArcos() {
+        int m = 0;
+        for (int i = 0; i < this.numNodes; i++) {
+            for (int w = 0; w < this.palabras; w++) {
+                m += Long.bitCount(this.filas[i][w]);
+            }
+        }
+        this.numArcs = m;
+    }
+
+    /**
+     * Número de palabras de 64 bits necesarias para una fila de n columnas.
+     * <b>Pre</b>: {@code 0 <= n}
+     * <b>Post</b>: el resultado es ceil(n / 64).
+     * @param n número de columnas
+     * @return número de palabras de la fila
+     */
+    private static int palabrasPara(int n) {
+        return (n + 63) >>> 6;
+    }
+}
@@ -0,0 +1,850 @@
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Arrays;
+
+/**
+ * DiGraphCSR es una clase concreta que representa un digrafo usando la
+ * estructura de filas dispersas comprimidas (CSR, "compressed sparse row").
+ * Los sucesores del nodo i son los enteros almacenados en
+ * {@code outTargets[outStart[i]]} .. {@code outTargets[outStart[i+1] - 1]},
+ * ordenados de menor a mayor y sin repeticiones.
+ *
+ * Esta representación está pensada para grafos que se construyen una sola vez
+ * y luego sólo se recorren, como el grafo de implicaciones de Main: no hay un
+ * objeto Arc por arco, ni listas enlazadas, y los sucesores de un nodo están
+ * contiguos en memoria. Las operaciones que modifican el grafo están
+ * soportadas, pero cuestan O(n + m) cada una, pues desplazan los arreglos.
+ *
+ * @version 1.0
+ * @since 1.6
+ */
+public class DiGraphCSR extends DiGraph {
+
+    // Modelo de representación:
+
+    // outStart[i] es la posición en outTargets del primer sucesor del nodo i;
+    // outStart[numNodes] == numArcs.
+    private int[] outStart;
+
+    // Destinos de los arcos, agrupados por nodo fuente.
+    private int[] outTargets;
+
+    // Índice inverso (predecesores), construido sólo cuando se necesita e
+    // invalidado (null) cada vez que se modifica el grafo.
+    private int[] inStart;
+    private int[] inSources;
+
+    // Constructores:
+
+    /**
+     * Crea un DiGraphCSR vacio.
+     * <b>Pre</b>: {@code true;}
+     * <b>Post</b>: este DiGraphCSR está vacio.
+     */
+    public DiGraphCSR() {
+        this(0);
+    }
+
+    /**
+     * Crea un DiGraphCSR con n nodos y sin arcos.
+     * <b>Pre</b>: {@code 0 <= n}
+     * <b>Post</b>: este DiGraphCSR tiene {@code n} nodos y ningún arco.
+     * @param n el número de nodos con los que se inicializa este DiGraphCSR.
+     */
+    public DiGraphCSR(int n) {
+        this.outStart = new int[n + 1];
+        this.outTargets = new int[0];
+        this.numNodes = n;
+        this.numArcs = 0;
+    }
+
+    /**
+     * Crea un DiGraphCSR a partir de sus arreglos de filas comprimidas. Las
+     * filas se ordenan y se eliminan los arcos repetidos, por lo que los
+     * arreglos recibidos pasan a pertenecer a este DiGraphCSR y no deben ser
+     * modificados por el llamador.
+     * <b>Pre</b>: {@code start.length == n + 1}, {@code start} es no
+     * decreciente, {@code start[0] == 0}, {@code start[n] <= targets.length}
+     * y todo destino está en [0, n).
+     * <b>Post</b>: este DiGraphCSR tiene {@code n} nodos y los arcos
+     * descritos por {@code start} y {@code targets}, sin repeticiones.
+     * @param n número de nodos
+     * @param start posición de inicio de la fila de cada nodo
+     * @param targets destinos de los arcos, agrupados por nodo fuente
+     */
+    public DiGraphCSR(int n, int[] start, int[] targets) {
+        this.numNodes = n;
+        this.outStart = start;
+        this.outTargets = targets;
+        this.compactar();
+    }
+
+    /**
+     * Crea un DiGraphCSR a partir del contenido del archivo.
+     * <b>Pre</b>: {@code fileName} debe existir, ser un archivo, poder leerse,
+     * no puede tener errores de formato ni inconsistencias en el número de
+     * nodos o arcos.
+     * <b>Post</b>: Este DiGraphCSR se inicializa exitosamente con el DiGraph
+     * representado en el archivo {@code fileName}.
+     * @param fileName Nombre del archivo a leer
+     * @throws IOException En caso de que {@code fileName} no exista, no sea un
+     * archivo, no se pueda leer, tenga un error de formato, o alguna
+     * inconsistencia en cuanto al numero de arcos o el numero de nodos
+     */
+    public DiGraphCSR(String fileName) throws IOException {
+        this(0);
+        this.read(fileName);
+    }
+
+    /**
+     * Crea un DiGraphCSR a partir del DiGraph g
+     * <b>Pre</b>: {@code true;}
+     * <b>Post</b>: {@code this.equals(g)}
+     *
+     * @param g el grafo fuente.
+     */
+    public DiGraphCSR(DiGraph g) {
+        this.copiar(g);
+    }
+
+    // Métodos:
+
+    /**
+     * Agrega un arco a este DiGraphCSR
+     * <b>Pre</b>: {@code arco} no debe pertenecer a {@code this} y los nodos de
+     * {@code arco} deben estar en {@code this}; {@code arco} no debe ser vacio
+     * <b>Post</b>: El DiGraphCSR contendra el arco {@code arco}
+     *
+     * @param arco El arco a agregar
+     * @return El arco agregado, o null en caso de que los nodos src y dst no se
+     * encuentren en el DiGraphCSR o el arco ya exista
+     */
+    public Arc addArc(Arc arco) {
+        if (this.insertar(arco.getSrc(), arco.getDst())) {
+            return arco;
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Agrega un arco a este DiGraphCSR.
+     * <b>Pre</b>: Los nodos src y dst deben encontrase en el DiGraphCSR y no
+     * debe existir un arco entre ellos.
+     * <b>Post</b>: El DiGraphCSR contendra un nuevo arco que tendra a src y
+     * dst como nodos fuente y destino respectivamente.
+     *
+     * @param src nodo fuente del arco
+     * @param dst nodo destino del arco
+     * @return El arco agregado y null en caso de que los nodos src y dst no se
+     * encuentren en el DiGraphCSR o el arco ya exista.
+     */
+    public Arc addArc(int src, int dst) {
+        if (this.insertar(src, dst)) {
+            return new Arc(src, dst);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Agrega un arco a este DiGraphCSR. El costo no se almacena, pues esta
+     * representación no guarda objetos Arc.
+     * <b>Pre</b>: Los nodos src y dst deben encontrase en el DiGraphCSR y no
+     * debe existir un arco entre ellos.
+     * <b>Post</b>: El DiGraphCSR contendra un nuevo arco que tendra a src y
+     * dst como nodos fuente y destino respectivamente.
+     *
+     * @param src nodo fuente del arco
+     * @param dst nodo destino del arco
+     * @param costo costo del arco
+     * @return El arco agregado y null en caso de que los nodos src y dst no se
+     * encuentren en el DiGraphCSR o el arco ya exista.
+     */
+    public Arc addArc(int src, int dst, double costo) {
+        if (this.insertar(src, dst)) {
+            return new Arc(src, dst, costo);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Agrega un arco a este DiGraphCSR. El identificador no se almacena, pues
+     * esta representación no guarda objetos Arc.
+     * <b>Pre</b>: true
+     * <b>Post</b>: etse arco va de {@code src} a {@code dst}
+     *
+     * @param src nodo fuente del arco
+     * @param dst nodo destino del arco
+     * @param  ident identificador del arco
+     * @return El arco agregado
+     */
+    public Arc addArc(int src, int dst, String ident) {
+        if (this.insertar(src, dst)) {
+            return new Arc(src, dst, ident);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Agrega un arco a este DiGraphCSR. Ni el costo ni el identificador se
+     * almacenan, pues esta representación no guarda objetos Arc.
+     * <b>Pre</b>: true
+     * <b>Post</b>: etse arco va de {@code src} a {@code dst}
+     *
+     * @param src nodo fuente del arco
+     * @param dst nodo destino del arco
+     * @param costo costo del arco
+     * @param  ident identificador del arco
+     * @return El arco agregado
+     */
+    public Arc addArc(int src, int dst, double costo, String ident) {
+        if (this.insertar(src, dst)) {
+            return new Arc(src, dst, costo, ident);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Permite agregar <i>num</i> nuevos nodos a este DiGraphCSR.
+     * <b>Pre</b>: Debe existir un DiGraphCSR.
+     * <b>Post</b>: El DiGraphCSR contendrá <i>num</i> nodos nuevos, sin arcos.
+     *
+     * @param num numero de nodos a agregar
+     */
+    public void addNodes(int num) {
+        if (0 < num) {
+            int[] nuevo = new int[this.numNodes + num + 1];
+            System.arraycopy(this.outStart, 0, nuevo, 0, this.numNodes + 1);
+            for (int k = this.numNodes + 1; k < nuevo.length; k++) {
+                nuevo[k] = this.numArcs;
+            }
+            this.outStart = nuevo;
+            this.numNodes += num;
+            this.invalidarInverso();
+        }
+    }
+
+    /**
+     * Genera una copia de este DiGraphCSR.
+     * <b>Pre</b>: Debe existir un DiGraphCSR.
+     * <b>Post</b>: El DiGraphCSR tendra una copia exacta.
+     *
+     * @return una copia de este DiGraphCSR.
+     */
+    @Override
+    public DiGraphCSR clone() {
+        DiGraphCSR nuevo = new DiGraphCSR(0);
+        nuevo.numNodes = this.numNodes;
+        nuevo.numArcs = this.numArcs;
+        nuevo.outStart = this.outStart.clone();
+        nuevo.outTargets = Arrays.copyOf(this.outTargets, this.numArcs);
+        return nuevo;
+    }
+
+    /**
+     * Elimina un arco de este DiGraphCSR.
+     * <b>Pre</b>: Los nodos fuente y destino, es decir nodeIniId y nodeFinId
+     * deben existir en el DiGraphCSR.
+     * <b>Post</b>: No existira arco entre los nodos nodeIniId y nodeFinId.
+     *
+     * @param nodeIniId nodo fuente del arco
+     * @param nodeFinId nodo destino del arco
+     * @return El arco eliminado y null en caso de que el arco no exista.
+     */
+    public Arc delArc(int nodeIniId, int nodeFinId) {
+        int pos = this.buscar(nodeIniId, nodeFinId);
+        if (pos < 0) {
+            return null;
+        }
+        System.arraycopy(this.outTargets, pos + 1, this.outTargets, pos,
+                         this.numArcs - pos - 1);
+        for (int k = nodeIniId + 1; k <= this.numNodes; k++) {
+            this.outStart[k]--;
+        }
+        this.numArcs--;
+        this.invalidarInverso();
+        return new Arc(nodeIniId, nodeFinId);
+    }
+
+    /**
+     * Determina si el DiGraph g es igual a este DiGraphCSR.
+     * <b>Pre</b>: debe existir un DiGraphCSR y un Digraph g.
+     * <b>Post</b>: Se obtendra true en caso de que los grafos relacionados sean
+     * iguales y false en caso contrario.
+     *
+     * @param g el grafo con el que se quiere comparar
+     * @return true si los dos DiGraph contienen los mismos nodos y los mismos
+     * arcos, return false en caso contrario.
+     */
+    public boolean equals(DiGraph g) {
+        if (this.numArcs == g.numArcs && this.numNodes == g.numNodes) {
+            boolean eq = true;
+            for (int i = 0; i < this.numNodes && eq; i++) {
+                for (int k = this.outStart[i];
+                     k < this.outStart[i + 1] && eq; k++) {
+                    eq = g.isArc(i, this.outTargets[k]);
+                }
+            }
+            return eq;
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Busca el Arco cuyo nodo fuente es nodoSrc y nodo destino es nodoDst.
+     * <b>Pre</b>: Los nodos nodoSrc y nodoDst deben pertenecer al DiGraphCSR
+     * y debe existir un arco entre ellos.
+     * <b>Post</b>: Se obtendra, en caso de que exista, el arco cuyos nodos
+     * fuente y destino son nodoSrc y nodoDst respectivamente.
+     *
+     * @param nodoSrc nodo fuente
+     * @param nodoDst nodo destino
+     *
+     * @return el Arco cuyo nodo fuente es nodoSrc y nodo destino es nodoDst.
+     */
+    public Arc getArc(int nodoSrc, int nodoDst) {
+        if (this.isArc(nodoSrc, nodoDst)) {
+            return new Arc(nodoSrc, nodoDst);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Retorna el grado de un nodo en este DiGraphCSR.
+     * <b>Pre</b>: El nodo nodeId debe pertencer al DiGraphCSR.
+     * <b>Post</b>: Se obtendra el numero de arcos que llegan y salen de nodeId,
+     * es decir el grado.
+     *
+     * @param nodeId identificacion del nodo
+     * @return el grado del nodo nodeId en este Grafo
+     */
+    public int getDegree(int nodeId) {
+        return this.getInDegree(nodeId) + this.getOutDegree(nodeId);
+    }
+
+    /**
+     * Retorna el grado interno de un nodo en este DiGraphCSR. La primera
+     * consulta construye el índice inverso.
+     * <b>Pre</b>: El nodo nodeId debe pertenecer al DiGraphCSR.
+     * <b>Post</b>: Se obtendra el numero de arcos que llegan a NodeId.
+     *
+     * @param nodeId identificacion del nodo
+     * @return el grado interno del nodo nodeId en este Grafo.
+     */
+    public int getInDegree(int nodeId) {
+        this.construirInverso();
+        return this.inStart[nodeId + 1] - this.inStart[nodeId];
+    }
+
+    /**
+     * Retorna la lista de arcos que tienen a nodeId como destino.
+     * <b>Pre</b>: El nodoId debe pertencer al DiGraphCSR.
+     * <b>Post</b>: Se obtendra la lista de arcos que tienen a nodeId como nodo
+     * final.
+     *
+     * @param nodeId identificador del nodo
+     * @return la lista de arcos que tienen a nodeId como destino.
+     */
+    public List<Arc> getInEdges(int nodeId) {
+        this.construirInverso();
+        List<Arc> arcos = new Lista();
+        for (int k = this.inStart[nodeId]; k < this.inStart[nodeId + 1]; k++) {
+            arcos.add(new Arc(this.inSources[k], nodeId));
+        }
+        return arcos;
+    }
+
+    /**
+     * Retorna el numero de arcos en el DiGraphCSR.
+     * <b>Pre</b>: Debe existir un DiGraphCSR.
+     * <b>Post</b>: Se obtendra el numero de arcos que pertencen al DiGraphCSR.
+     *
+     * @return numero de arcos que hay en el DiGraphCSR.
+     */
+    public int getNumberOfArcs() {
+        return this.numArcs;
+    }
+
+    /**
+     * Retorna el numero de nodos que hay en el DiGraphCSR.
+     * <b>Pre</b>: Debe existir un DiGraphCSR.
+     * <b>Post</b>: Se obtendra el numero de nodos que pertencen al DiGraphCSR.
+     *
+     * @return numero de nodos en el grafo
+     */
+    public int getNumberOfNodes() {
+        return this.numNodes;
+    }
+
+    /**
+     * Retorna el grado externo de un nodo en este DiGraphCSR.
+     * <b>Pre</b>: El nodo nodeId debe pertenecer al DiGraphCSR.
+     * <b>Post</b>: Se obtendra el numero de arcos que salen de nodeId.
+     *
+     * @param nodeId identificacion del nodo
+     * @return el grado externo del nodo nodeId en este Grafo
+     */
+    public int getOutDegree(int nodeId) {
+        return this.outStart[nodeId + 1] - this.outStart[nodeId];
+    }
+
+    /**
+     * Retorna la lista de arcos que tienen a nodeId como fuente
+     * <b>Pre</b>: El nodo nodeId debe pertenecer al DiGraphCSR.
+     * <b>Post</b>:Se obtendra la lista de arcos que tienen a nodeId como nodo
+     * inicial.
+     *
+     * @param nodeId identificador del nodo
+     * @return la lista de arcos que tienen a nodeId como fuente
+     */
+    public List<Arc> getOutEdges(int nodeId) {
+        List<Arc> arcos = new Lista();
+        for (int k = this.outStart[nodeId]; k < this.outStart[nodeId + 1];
+             k++) {
+            arcos.add(new Arc(nodeId, this.outTargets[k]));
+        }
+        return arcos;
+    }
+
+    /**
+     * Retorna la lista de predecesores del nodo nodeId
+     * <b>Pre</b>: El nodo nodeId debe pertenecer al DiGraphCSR.
+     * <b>Post</b>: Se obtendra la lista de nodos que tienen a nodeId como nodo
+     * de destino.
+     *
+     * @param nodeId el id del nodo del que se quieren los predecesores
+     * @return lista de predecesores de nodeId
+     */
+    public List<Integer> getPredecesors(int nodeId) {
+        this.construirInverso();
+        List<Integer> predecesors = new Lista();
+        for (int k = this.inStart[nodeId]; k < this.inStart[nodeId + 1]; k++) {
+            predecesors.add(Integer.valueOf(this.inSources[k]));
+        }
+        return predecesors;
+    }
+
+    /**
+     * Retorna la lista de sucesores del nodo nodeId
+     * <b>Pre</b>: El nodoId debe pertenecer al DiGraphCSR.
+     * <b>Post</b>: Se obtendra la lista de nodos que tienen a nodeId como nodo
+     * fuente.
+     *
+     * @param nodeId el id del nodo del que se quieren los sucesores
+     * @return lista de sucesores de nodeId
+     */
+    public List<Integer> getSucesors(int nodeId) {
+        List<Integer> sucesors = new Lista();
+        for (int k = this.outStart[nodeId]; k < this.outStart[nodeId + 1];
+             k++) {
+            sucesors.add(Integer.valueOf(this.outTargets[k]));
+        }
+        return sucesors;
+    }
+
+    /**
+     * Retorna los predecesores del nodo nodeId, copiados de la representacion
+     * inversa (que se construye la primera vez que se necesita).
+     * <b>Pre</b>: El nodo nodeId debe pertenecer al DiGraphCSR.
+     * <b>Post</b>: el resultado tiene {@code getInDegree(nodeId)} posiciones.
+     *
+     * @param nodeId el id del nodo del que se quieren los predecesores
+     * @return arreglo nuevo con los predecesores de nodeId
+     */
+    @Override
+    public int[] predecessorsOf(int nodeId) {
+        this.construirInverso();
+        return Arrays.copyOfRange(this.inSources, this.inStart[nodeId],
+                                  this.inStart[nodeId + 1]);
+    }
+
+    /**
+     * Retorna los sucesores del nodo nodeId, copiados de su fila.
+     * <b>Pre</b>: El nodo nodeId debe pertenecer al DiGraphCSR.
+     * <b>Post</b>: el resultado tiene {@code getOutDegree(nodeId)} posiciones.
+     *
+     * @param nodeId el id del nodo del que se quieren los sucesores
+     * @return arreglo nuevo con los sucesores de nodeId
+     */
+    @Override
+    public int[] successorsOf(int nodeId) {
+        return Arrays.copyOfRange(this.outTargets, this.outStart[nodeId],
+                                  this.outStart[nodeId + 1]);
+    }
+
+    /**
+     * Retorna el arreglo de inicios de fila de este DiGraphCSR: los sucesores
+     * del nodo i estan en las posiciones [start[i], start[i+1]) del arreglo
+     * devuelto por {@code getOutTargets()}. El arreglo es el mismo que usa
+     * este grafo internamente, y no debe ser modificado.
+     * <b>Pre</b>: true
+     * <b>Post</b>: el resultado tiene {@code numNodes + 1} posiciones.
+     * @return el arreglo de inicios de fila
+     */
+    public int[] getOutStart() {
+        return this.outStart;
+    }
+
+    /**
+     * Retorna el arreglo de destinos de este DiGraphCSR, agrupados por nodo
+     * fuente. Sólo las primeras {@code getNumberOfArcs()} posiciones son
+     * válidas. El arreglo es el mismo que usa este grafo internamente, y no
+     * debe ser modificado.
+     * <b>Pre</b>: true
+     * <b>Post</b>: se devuelve el arreglo de destinos.
+     * @return el arreglo de destinos
+     */
+    public int[] getOutTargets() {
+        return this.outTargets;
+    }
+
+    /**
+     * Retorna el arreglo de inicios de fila del grafo transpuesto: los
+     * predecesores del nodo i estan en las posiciones [start[i], start[i+1])
+     * del arreglo devuelto por {@code getInSources()}. La primera consulta
+     * construye el índice inverso. El arreglo es el mismo que usa este grafo
+     * internamente, y no debe ser modificado.
+     * <b>Pre</b>: true
+     * <b>Post</b>: el resultado tiene {@code numNodes + 1} posiciones.
+     * @return el arreglo de inicios de fila del grafo transpuesto
+     */
+    public int[] getInStart() {
+        this.construirInverso();
+        return this.inStart;
+    }
+
+    /**
+     * Retorna el arreglo de fuentes de los arcos de este DiGraphCSR,
+     * agrupados por nodo destino. La primera consulta construye el índice
+     * inverso. El arreglo es el mismo que usa este grafo internamente, y no
+     * debe ser modificado.
+     * <b>Pre</b>: true
+     * <b>Post</b>: el resultado tiene {@code getNumberOfArcs()} posiciones.
+     * @return el arreglo de fuentes
+     */
+    public int[] getInSources() {
+        this.construirInverso();
+        return this.inSources;
+    }
+
+    /**
+     * Indica si un arco existe en este DiGraphCSR.
+     * <b>Pre</b>: Los nodos de {@code arco} deben pertenecer a {@code this}
+     * <b>Post</b>: Se obtendra true en caso de que el arco exista y false si
+     * ocurre lo contrario.
+     *
+     * @param arco el arco a buscar
+     * @return true si exite un arco desde el nodo src hasta el nodo dst.
+     * false en caso contrario
+     */
+    public boolean isArc(Arc arco) {
+        return this.isArc(arco.getSrc(), arco.getDst());
+    }
+
+    /**
+     * Indica si un arco existe en este DiGraphCSR. Como las filas están
+     * ordenadas, la búsqueda es binaria.
+     * <b>Pre</b>: Los nodos src y dst deben pertenecer al DiGraphCSR.
+     * <b>Post</b>: Se obtendra true en caso de que el arco exista y false si
+     * ocurre lo contrario.
+     *
+     * @param src el id del nodo origen del arco
+     * @param dst el id del nodo destino del arco
+     * @return true si exite un arco desde el nodo src hasta el nodo dst.
+     * false en caso contrario
+     */
+    @Override
+    public boolean isArc(int src, int dst) {
+        return (0 <= this.buscar(src, dst));
+    }
+
+    /**
+     * Inicializa este DiGraphCSR en el DiGraph representado en el contenido
+     * del archivo {@code fileName}, con el mismo formato que acepta
+     * DiGraphList.
+     * <b>Pre</b>: {@code fileName} debe existir, ser un archivo, poder leerse,
+     * no puede tener errores de formato ni inconsistencias en el número de
+     * nodos o arcos.
+     * <b>Post</b>: Este DiGraphCSR se inicializa exitosamente con el DiGraph
+     * representado en el archivo {@code fileName}.
+     *
+     * @param fileName Nombre del archivo a leer
+     * @throws IOException En caso de que {@code fileName} no exista, no sea un
+     * archivo, no se pueda leer, tenga un error de formato, o alguna
+     * inconsistencia en cuanto al numero de arcos o el numero de nodos
+     */
+    public void read(String fileName) throws IOException {
+        this.copiar(new DiGraphList(fileName));
+    }
+
+    /**
+     * Remueve todos los arcos de este grafo
+     * <b>Pre</b>: Debe existir un DiGraphCSR.
+     * <b>Post</b>: Se obtendra la lista de los arcos que fueron eliminados, y
+     * este grafo quedará sin arcos.
+     *
+     * @return lista de arcos eliminados
+     */
+    public List<Arc> removeAllArcs() {
+        List<Arc> lista = new Lista();
+        for (int i = 0; i < this.numNodes; i++) {
+            for (int k = this.outStart[i]; k < this.outStart[i + 1]; k++) {
+                lista.add(new Arc(i, this.outTargets[k]));
+            }
+        }
+        this.outStart = new int[this.numNodes + 1];
+        this.outTargets = new int[0];
+        this.numArcs = 0;
+        this.invalidarInverso();
+        return lista;
+    }
+
+    /**
+     * Invierte la direccion de un arco
+     * <b>Pre</b>: Los nodos nodeIniId y nodeFinId deben pertenecer al
+     * DiGraphCSR.
+     * <b>Post</b>: Se obtendra true en caso de que el arco haya sido invertido
+     * y false en caso contrario.
+     *
+     * @param nodeIniId nodo fuente del arco antes de invertirlo
+     * @param nodeFinId nodo destino del arco antes de invertirlo
+     * @return true si el arco fue invertido, false en caso contrario
+     */
+    public boolean reverseArc(int nodeIniId, int nodeFinId) {
+        if (this.isArc(nodeIniId, nodeFinId) &&
+            !this.isArc(nodeFinId, nodeIniId)) {
+            this.delArc(nodeIniId, nodeFinId);
+            this.addArc(nodeFinId, nodeIniId);
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Invierte todos los arcos del DiGraphCSR: el grafo pasa a ser su propio
+     * transpuesto, que es exactamente el índice inverso.
+     * <b>Pre</b>: Debe existir un DiGraphCSR.
+     * <b>Post</b>: Todos los arcos quedan invertidos.
+     *
+     * @return true, pues todos los arcos pueden ser invertidos.
+     */
+    public boolean reverseArcs() {
+        this.construirInverso();
+        int[] start = this.inStart;
+        int[] sources = this.inSources;
+        this.inStart = this.outStart;
+        this.inSources = this.outTargets;
+        this.outStart = start;
+        this.outTargets = sources;
+        return true;
+    }
+
+    /**
+     * Retorna la representacion en String de este DiGraphCSR.
+     * <b>Pre</b>: Debe existir un DiGraphCSR.
+     * <b>Post</b>: Se obtendra la representacion en String del DiGraphCSR.
+     *
+     * @return la representacion en String de este DiGraphCSR.
+     */
+    @Override
+    public String toString() {
+        StringBuilder string = new StringBuilder();
+        string.append(this.numNodes).append(' ').append(this.numArcs);
+        for (int i = 0; i < this.numNodes; i++) {
+            for (int k = this.outStart[i]; k < this.outStart[i + 1]; k++) {
+                string.append('\n').append(i).append(' ')
+                      .append(this.outTargets[k]);
+            }
+        }
+        return string.toString();
+    }
+
+    /**
+     * Escribe la representacion de este DiGraph en el archivo {@code fileName},
+     * usando el mismo formato que DiGraphList.
+     * <b>pre</b>: {@code fileName} debe poder escribirse.
+     * <b>post</b>: El archivo {@code fileName} contiene la representación de
+     * este DiGraph.
+     * @param fileName Archivo a escribir
+     * @throws IOException En caso de que el archivo {@code fileName} no se
+     * pueda escribir.
+     */
+    public void write(String fileName) throws IOException {
+        File salida = new File(fileName);
+        if (!salida.exists() || !salida.isFile() || !salida.canWrite())
+        {
+            salida.delete();
+            salida.createNewFile();
+        }
+        salida.setWritable(true);
+        PrintStream out;
+        try {
+            out = new PrintStream(salida);
+            out.println(this.numNodes + " " + this.numArcs);
+            for (int i = 0; i < this.numNodes; i++) {
+                for (int k = this.outStart[i]; k < this.outStart[i + 1]; k++) {
+                    out.println(i + " " + this.outTargets[k]);
+                }
+            }
+            out.close();
+        } catch (FileNotFoundException fnfe) {
+            throw new ExcepcionArchivoNoSePuedeEscribir("\nProblema" +
+                    " escribiendo en el archivo \"" + fileName + "\"");
+        }
+    }
+
+    // METODOS PRIVADOS AUXILIARES:
+
+    /**
+     * Busca el arco (src, dst) en la fila de {@code src}.
+     * <b>Pre</b>: true
+     * <b>Post</b>: se devuelve la posición del arco en outTargets, o un
+     * número negativo si el arco no existe.
+     * @param src nodo fuente
+     * @param dst nodo destino
+     * @return la posición del arco en outTargets, o un número negativo si el
+     * arco no existe.
+     */
+    private int buscar(int src, int dst) {
+        if ((0 <= src && src < this.numNodes) &&
+            (0 <= dst && dst < this.numNodes)) {
+            int pos = Arrays.binarySearch(this.outTargets, this.outStart[src],
+                                          this.outStart[src + 1], dst);
+            return (0 <= pos ? pos : -1);
+        }
+        return -1;
+    }
+
+    /**
+     * Inserta el arco (src, dst) en su fila, manteniéndola ordenada.
+     * <b>Pre</b>: true
+     * <b>Post</b>: si ambos nodos pertenecen al grafo y el arco no existía, el
+     * arco queda agregado.
+     * @param src nodo fuente
+     * @param dst nodo destino
+     * @return true si el arco fue agregado, false en caso contrario.
+     */
+    private boolean insertar(int src, int dst) {
+        if (!((0 <= src && src < this.numNodes) &&
+              (0 <= dst && dst < this.numNodes))) {
+            return false;
+        }
+        int pos = Arrays.binarySearch(this.outTargets, this.outStart[src],
+                                      this.outStart[src + 1], dst);
+        if (0 <= pos) {
+            return false;
+        }
+        pos = -(pos + 1);
+        if (this.numArcs == this.outTargets.length) {
+            this.outTargets = Arrays.copyOf(this.outTargets,
+                                            2 * this.numArcs + 4);
+        }
+        System.arraycopy(this.outTargets, pos, this.outTargets, pos + 1,
+                         this.numArcs - pos);
+        this.outTargets[pos] = dst;
+        for (int k = src + 1; k <= this.numNodes; k++) {
+            this.outStart[k]++;
+        }
+        this.numArcs++;
+        this.invalidarInverso();
+        return true;
+    }
+
+    /**
+     * Copia en este DiGraphCSR los arcos de {@code g}.
+     * <b>Pre</b>: true
+     * <b>Post</b>: {@code this.equals(g)}
+     * @param g el grafo fuente
+     */
+    private void copiar(DiGraph g) {
+        int n = g.getNumberOfNodes();
+        int[] start = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            start[i + 1] = start[i] + g.getOutDegree(i);
+        }
+        int[] targets = new int[start[n]];
+        for (int i = 0; i < n; i++) {
+            Object[] arcos = g.getOutEdges(i).toArray();
+            for (int k = 0; k < arcos.length; k++) {
+                targets[start[i] + k] = ((Arc) arcos[k]).getDst();
+            }
+        }
+        this.numNodes = n;
+        this.outStart = start;
+        this.outTargets = targets;
+        this.compactar();
+    }
+
+    /**
+     * Ordena cada fila y elimina los arcos repetidos, desplazando las filas
+     * hacia la izquierda a medida que se compactan.
+     * <b>Pre</b>: outStart y outTargets describen las filas de numNodes nodos.
+     * <b>Post</b>: cada fila está ordenada y sin repeticiones, y numArcs
+     * contiene el número de arcos resultante.
+     */
+    private void compactar() {
+        int escritura = 0;
+        int inicio = this.outStart[0];
+        for (int i = 0; i < this.numNodes; i++) {
+            int fin = this.outStart[i + 1];
+            Arrays.sort(this.outTargets, inicio, fin);
+            this.outStart[i] = escritura;
+            for (int k = inicio; k < fin; k++) {
+                if (k == inicio || this.outTargets[k] != this.outTargets[k - 1]) {
+                    this.outTargets[escritura++] = this.outTargets[k];
+                }
+            }
+            inicio = fin;
+        }
+        this.outStart[this.numNodes] = escritura;
+        this.numArcs = escritura;
+        this.invalidarInverso();
+    }
+
+    /**
+     * Construye el índice inverso (predecesores de cada nodo) si no existe.
+     * <b>Pre</b>: true
+     * <b>Post</b>: inStart e inSources describen el grafo transpuesto.
+     */
+    private void construirInverso() {
+        if (this.inStart != null) {
+            return;
+        }
+        int[] start = new int[this.numNodes + 1];
+        for (int k = 0; k < this.numArcs; k++) {
+            start[this.outTargets[k] + 1]++;
+        }
+        for (int i = 0; i < this.numNodes; i++) {
+            start[i + 1] += start[i];
+        }
+        int[] sources = new int[this.numArcs];
+        int[] proximo = Arrays.copyOf(start, this.numNodes);
+        for (int i = 0; i < this.numNodes; i++) {
+            for (int k = this.outStart[i]; k < this.outStart[i + 1]; k++) {
+                sources[proximo[this.outTargets[k]]++] = i;
+            }
+        }
+        this.inStart = start;
+        this.inSources = sources;
+    }
+
+    /**
+     * Descarta el índice inverso, que deja de ser válido al modificar el
+     * grafo.
+     * <b>Pre</b>: true
+     * <b>Post</b>: {@code this.inStart == null && this.inSources == null}
+     */
+    private void invalidarInverso() {
+        this.inStart = null;
+        this.inSources = null;
+    }
+}
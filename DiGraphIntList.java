@@ -0,0 +1,681 @@
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.PrintStream;
+
+/**
+ * DiGraphIntList es una clase concreta que representa un digrafo sin costos
+ * ni identificadores en los arcos, usando listas de adyacencia de enteros
+ * primitivos (IntList): sucesores[i] contiene los destinos de los arcos que
+ * salen del nodo i, y predecesores[i] las fuentes de los arcos que llegan a
+ * él, en orden de inserción.
+ *
+ * A diferencia de DiGraphList, no hay un objeto Arc por arco: cada arco ocupa
+ * dos enteros (uno en cada lista), unos 8 bytes, en lugar del Arc (con su
+ * String, su double y sus dos enteros) y de las dos referencias a él. Los Arc
+ * sólo se crean cuando se piden con getOutEdges, getInEdges, getArc o
+ * removeAllArcs, y son copias: modificarlos no altera el grafo. Los costos y
+ * los identificadores recibidos por addArc no se almacenan.
+ *
+ * A diferencia de DiGraphCSR, agregar o eliminar un arco no desplaza los
+ * arcos de los demás nodos, así que sirve para grafos que se construyen arco
+ * por arco.
+ *
+ * @version 1.0
+ * @since 1.6
+ */
+public class DiGraphIntList extends DiGraph {
+
+    // Modelo de representación:
+
+    // sucesores[i] son los destinos de los arcos que salen del nodo i
+    private IntList[] sucesores;
+
+    // predecesores[i] son las fuentes de los arcos que llegan al nodo i
+    private IntList[] predecesores;
+
+    // Constructores:
+
+    /**
+     * Crea un DiGraphIntList vacio.
+     * <b>Pre</b>: {@code true;}
+     * <b>Post</b>: este DiGraphIntList está vacio.
+     */
+    public DiGraphIntList() {
+        this(0);
+    }
+
+    /**
+     * Crea un DiGraphIntList con n nodos y sin arcos.
+     * <b>Pre</b>: {@code 0 <= n}
+     * <b>Post</b>: este DiGraphIntList tiene {@code n} nodos y ningún arco.
+     * @param n el número de nodos con los que se inicializa este
+     * DiGraphIntList.
+     */
+    public DiGraphIntList(int n) {
+        this.numNodes = n;
+        this.numArcs = 0;
+        this.sucesores = new IntList[n];
+        this.predecesores = new IntList[n];
+        for (int i = 0; i < n; i++) {
+            this.sucesores[i] = new IntList(4);
+            this.predecesores[i] = new IntList(4);
+        }
+    }
+
+    /**
+     * Crea un DiGraphIntList a partir del contenido del archivo, con el
+     * formato de DiGraphList.
+     * <b>Pre</b>: {@code fileName} debe existir, ser un archivo, poder leerse,
+     * no puede tener errores de formato ni inconsistencias en el número de
+     * nodos o arcos.
+     * <b>Post</b>: Este DiGraphIntList se inicializa exitosamente con el
+     * DiGraph representado en el archivo {@code fileName}.
+     * @param fileName Nombre del archivo a leer
+     * @throws IOException En caso de que {@code fileName} no exista, no sea un
+     * archivo, no se pueda leer, tenga un error de formato, o alguna
+     * inconsistencia en cuanto al numero de arcos o el numero de nodos
+     */
+    public DiGraphIntList(String fileName) throws IOException {
+        this(0);
+        this.read(fileName);
+    }
+
+    /**
+     * Crea un DiGraphIntList a partir del DiGraph g
+     * <b>Pre</b>: {@code true;}
+     * <b>Post</b>: {@code this.equals(g)}
+     *
+     * @param g el grafo fuente.
+     */
+    public DiGraphIntList(DiGraph g) {
+        this.copiar(g);
+    }
+
+    // Métodos:
+
+    /**
+     * Agrega un arco a este DiGraphIntList. Sólo se almacenan sus nodos.
+     * <b>Pre</b>: {@code arco} no debe pertenecer a {@code this} y los nodos de
+     * {@code arco} deben estar en {@code this}; {@code arco} no debe ser vacio
+     * <b>Post</b>: El DiGraphIntList contendra el arco {@code arco}
+     *
+     * @param arco El arco a agregar
+     * @return El arco agregado, o null en caso de que los nodos src y dst no se
+     * encuentren en el DiGraphIntList o el arco ya exista
+     */
+    public Arc addArc(Arc arco) {
+        if (this.insertar(arco.getSrc(), arco.getDst())) {
+            return arco;
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Agrega un arco a este DiGraphIntList.
+     * <b>Pre</b>: Los nodos src y dst deben encontrase en el DiGraphIntList y
+     * no debe existir un arco entre ellos.
+     * <b>Post</b>: El DiGraphIntList contendra un nuevo arco que tendra a src y
+     * dst como nodos fuente y destino respectivamente.
+     *
+     * @param src nodo fuente del arco
+     * @param dst nodo destino del arco
+     * @return El arco agregado y null en caso de que los nodos src y dst no se
+     * encuentren en el DiGraphIntList o el arco ya exista.
+     */
+    public Arc addArc(int src, int dst) {
+        if (this.insertar(src, dst)) {
+            return new Arc(src, dst);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Agrega un arco a este DiGraphIntList. El costo no se almacena.
+     * <b>Pre</b>: Los nodos src y dst deben encontrase en el DiGraphIntList y
+     * no debe existir un arco entre ellos.
+     * <b>Post</b>: El DiGraphIntList contendra un nuevo arco que tendra a src y
+     * dst como nodos fuente y destino respectivamente.
+     *
+     * @param src nodo fuente del arco
+     * @param dst nodo destino del arco
+     * @param costo costo del arco
+     * @return El arco agregado y null en caso de que los nodos src y dst no se
+     * encuentren en el DiGraphIntList o el arco ya exista.
+     */
+    public Arc addArc(int src, int dst, double costo) {
+        if (this.insertar(src, dst)) {
+            return new Arc(src, dst, costo);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Agrega un arco a este DiGraphIntList. El identificador no se almacena.
+     * <b>Pre</b>: true
+     * <b>Post</b>: etse arco va de {@code src} a {@code dst}
+     *
+     * @param src nodo fuente del arco
+     * @param dst nodo destino del arco
+     * @param  ident identificador del arco
+     * @return El arco agregado
+     */
+    public Arc addArc(int src, int dst, String ident) {
+        if (this.insertar(src, dst)) {
+            return new Arc(src, dst, ident);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Agrega un arco a este DiGraphIntList. Ni el costo ni el identificador se
+     * almacenan.
+     * <b>Pre</b>: true
+     * <b>Post</b>: etse arco va de {@code src} a {@code dst}
+     *
+     * @param src nodo fuente del arco
+     * @param dst nodo destino del arco
+     * @param costo costo del arco
+     * @param  ident identificador del arco
+     * @return El arco agregado
+     */
+    public Arc addArc(int src, int dst, double costo, String ident) {
+        if (this.insertar(src, dst)) {
+            return new Arc(src, dst, costo, ident);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Permite agregar <i>num</i> nuevos nodos a este DiGraphIntList.
+     * <b>Pre</b>: Debe existir un DiGraphIntList.
+     * <b>Post</b>: El DiGraphIntList contendrá <i>num</i> nodos nuevos, sin
+     * arcos.
+     *
+     * @param num numero de nodos a agregar
+     */
+    public void addNodes(int num) {
+        if (0 < num) {
+            int n = this.numNodes + num;
+            IntList[] nuevosSucesores = new IntList[n];
+            IntList[] nuevosPredecesores = new IntList[n];
+            System.arraycopy(this.sucesores, 0, nuevosSucesores, 0,
+                             this.numNodes);
+            System.arraycopy(this.predecesores, 0, nuevosPredecesores, 0,
+                             this.numNodes);
+            for (int i = this.numNodes; i < n; i++) {
+                nuevosSucesores[i] = new IntList(4);
+                nuevosPredecesores[i] = new IntList(4);
+            }
+            this.sucesores = nuevosSucesores;
+            this.predecesores = nuevosPredecesores;
+            this.numNodes = n;
+        }
+    }
+
+    /**
+     * Genera una copia de este DiGraphIntList.
+     * <b>Pre</b>: Debe existir un DiGraphIntList.
+     * <b>Post</b>: El DiGraphIntList tendra una copia exacta.
+     *
+     * @return una copia de este DiGraphIntList.
+     */
+    @Override
+    public DiGraphIntList clone() {
+        return new DiGraphIntList(this);
+    }
+
+    /**
+     * Elimina un arco de este DiGraphIntList.
+     * <b>Pre</b>: Los nodos fuente y destino, es decir nodeIniId y nodeFinId
+     * deben existir en el DiGraphIntList.
+     * <b>Post</b>: No existira arco entre los nodos nodeIniId y nodeFinId.
+     *
+     * @param nodeIniId nodo fuente del arco
+     * @param nodeFinId nodo destino del arco
+     * @return El arco eliminado y null en caso de que el arco no exista.
+     */
+    public Arc delArc(int nodeIniId, int nodeFinId) {
+        if (this.isArc(nodeIniId, nodeFinId)) {
+            IntList salida = this.sucesores[nodeIniId];
+            IntList entrada = this.predecesores[nodeFinId];
+            salida.remove(salida.indexOf(nodeFinId));
+            entrada.remove(entrada.indexOf(nodeIniId));
+            this.numArcs--;
+            return new Arc(nodeIniId, nodeFinId);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Determina si el DiGraph g es igual a este DiGraphIntList.
+     * <b>Pre</b>: debe existir un DiGraphIntList y un Digraph g.
+     * <b>Post</b>: Se obtendra true en caso de que los grafos relacionados sean
+     * iguales y false en caso contrario.
+     *
+     * @param g el grafo con el que se quiere comparar
+     * @return true si los dos DiGraph contienen los mismos nodos y los mismos
+     * arcos, return false en caso contrario.
+     */
+    public boolean equals(DiGraph g) {
+        if (this.numArcs == g.numArcs && this.numNodes == g.numNodes) {
+            boolean eq = true;
+            for (int i = 0; i < this.numNodes && eq; i++) {
+                IntList salida = this.sucesores[i];
+                for (int k = 0; k < salida.size() && eq; k++) {
+                    eq = g.isArc(i, salida.get(k));
+                }
+            }
+            return eq;
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Busca el Arco cuyo nodo fuente es nodoSrc y nodo destino es nodoDst.
+     * <b>Pre</b>: Los nodos nodoSrc y nodoDst deben pertenecer al
+     * DiGraphIntList y debe existir un arco entre ellos.
+     * <b>Post</b>: Se obtendra, en caso de que exista, un Arc nuevo cuyos
+     * nodos fuente y destino son nodoSrc y nodoDst respectivamente.
+     *
+     * @param nodoSrc nodo fuente
+     * @param nodoDst nodo destino
+     *
+     * @return el Arco cuyo nodo fuente es nodoSrc y nodo destino es nodoDst.
+     */
+    public Arc getArc(int nodoSrc, int nodoDst) {
+        if (this.isArc(nodoSrc, nodoDst)) {
+            return new Arc(nodoSrc, nodoDst);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Retorna el grado de un nodo en este DiGraphIntList.
+     * <b>Pre</b>: El nodo nodeId debe pertencer al DiGraphIntList.
+     * <b>Post</b>: Se obtendra el numero de arcos que llegan y salen de nodeId,
+     * es decir el grado.
+     *
+     * @param nodeId identificacion del nodo
+     * @return el grado del nodo nodeId en este Grafo
+     */
+    public int getDegree(int nodeId) {
+        return this.getInDegree(nodeId) + this.getOutDegree(nodeId);
+    }
+
+    /**
+     * Retorna el grado interno de un nodo en este DiGraphIntList.
+     * <b>Pre</b>: El nodo nodeId debe pertenecer al DiGraphIntList.
+     * <b>Post</b>: Se obtendra el numero de arcos que llegan a NodeId.
+     *
+     * @param nodeId identificacion del nodo
+     * @return el grado interno del nodo nodeId en este Grafo.
+     */
+    public int getInDegree(int nodeId) {
+        return this.predecesores[nodeId].size();
+    }
+
+    /**
+     * Retorna la lista de arcos que tienen a nodeId como destino. Los Arc se
+     * crean en esta llamada.
+     * <b>Pre</b>: El nodoId debe pertencer al DiGraphIntList.
+     * <b>Post</b>: Se obtendra una lista nueva con los arcos que tienen a
+     * nodeId como nodo final.
+     *
+     * @param nodeId identificador del nodo
+     * @return la lista de arcos que tienen a nodeId como destino.
+     */
+    public List<Arc> getInEdges(int nodeId) {
+        IntList entrada = this.predecesores[nodeId];
+        List<Arc> arcos = new ArrayLista(entrada.size());
+        for (int k = 0; k < entrada.size(); k++) {
+            arcos.add(new Arc(entrada.get(k), nodeId));
+        }
+        return arcos;
+    }
+
+    /**
+     * Retorna el numero de arcos en el DiGraphIntList.
+     * <b>Pre</b>: Debe existir un DiGraphIntList.
+     * <b>Post</b>: Se obtendra el numero de arcos que pertencen al
+     * DiGraphIntList.
+     *
+     * @return numero de arcos que hay en el DiGraphIntList.
+     */
+    public int getNumberOfArcs() {
+        return this.numArcs;
+    }
+
+    /**
+     * Retorna el numero de nodos que hay en el DiGraphIntList.
+     * <b>Pre</b>: Debe existir un DiGraphIntList.
+     * <b>Post</b>: Se obtendra el numero de nodos que pertencen al
+     * DiGraphIntList.
+     *
+     * @return numero de nodos en el grafo
+     */
+    public int getNumberOfNodes() {
+        return this.numNodes;
+    }
+
+    /**
+     * Retorna el grado externo de un nodo en este DiGraphIntList.
+     * <b>Pre</b>: El nodo nodeId debe pertenecer al DiGraphIntList.
+     * <b>Post</b>: Se obtendra el numero de arcos que salen de nodeId.
+     *
+     * @param nodeId identificacion del nodo
+     * @return el grado externo del nodo nodeId en este Grafo
+     */
+    public int getOutDegree(int nodeId) {
+        return this.sucesores[nodeId].size();
+    }
+
+    /**
+     * Retorna la lista de arcos que tienen a nodeId como fuente. Los Arc se
+     * crean en esta llamada.
+     * <b>Pre</b>: El nodo nodeId debe pertenecer al DiGraphIntList.
+     * <b>Post</b>: Se obtendra una lista nueva con los arcos que tienen a
+     * nodeId como nodo inicial.
+     *
+     * @param nodeId identificador del nodo
+     * @return la lista de arcos que tienen a nodeId como fuente
+     */
+    public List<Arc> getOutEdges(int nodeId) {
+        IntList salida = this.sucesores[nodeId];
+        List<Arc> arcos = new ArrayLista(salida.size());
+        for (int k = 0; k < salida.size(); k++) {
+            arcos.add(new Arc(nodeId, salida.get(k)));
+        }
+        return arcos;
+    }
+
+    /**
+     * Retorna la lista de predecesores del nodo nodeId
+     * <b>Pre</b>: El nodo nodeId debe pertenecer al DiGraphIntList.
+     * <b>Post</b>: Se obtendra la lista de nodos que tienen a nodeId como nodo
+     * de destino.
+     *
+     * @param nodeId el id del nodo del que se quieren los predecesores
+     * @return lista de predecesores de nodeId
+     */
+    public List<Integer> getPredecesors(int nodeId) {
+        IntList entrada = this.predecesores[nodeId];
+        List<Integer> predecesors = new ArrayLista(entrada.size());
+        for (int k = 0; k < entrada.size(); k++) {
+            predecesors.add(Integer.valueOf(entrada.get(k)));
+        }
+        return predecesors;
+    }
+
+    /**
+     * Retorna la lista de sucesores del nodo nodeId
+     * <b>Pre</b>: El nodoId debe pertenecer al DiGraphIntList.
+     * <b>Post</b>: Se obtendra la lista de nodos que tienen a nodeId como nodo
+     * fuente.
+     *
+     * @param nodeId el id del nodo del que se quieren los sucesores
+     * @return lista de sucesores de nodeId
+     */
+    public List<Integer> getSucesors(int nodeId) {
+        IntList salida = this.sucesores[nodeId];
+        List<Integer> sucesors = new ArrayLista(salida.size());
+        for (int k = 0; k < salida.size(); k++) {
+            sucesors.add(Integer.valueOf(salida.get(k)));
+        }
+        return sucesors;
+    }
+
+    /**
+     * Retorna los predecesores del nodo nodeId como un arreglo de int.
+     * <b>Pre</b>: El nodo nodeId debe pertenecer al DiGraphIntList.
+     * <b>Post</b>: el resultado tiene {@code getInDegree(nodeId)} posiciones.
+     *
+     * @param nodeId el id del nodo del que se quieren los predecesores
+     * @return arreglo nuevo con los predecesores de nodeId
+     */
+    @Override
+    public int[] predecessorsOf(int nodeId) {
+        return this.predecesores[nodeId].toArray();
+    }
+
+    /**
+     * Retorna los sucesores del nodo nodeId como un arreglo de int.
+     * <b>Pre</b>: El nodoId debe pertenecer al DiGraphIntList.
+     * <b>Post</b>: el resultado tiene {@code getOutDegree(nodeId)} posiciones.
+     *
+     * @param nodeId el id del nodo del que se quieren los sucesores
+     * @return arreglo nuevo con los sucesores de nodeId
+     */
+    @Override
+    public int[] successorsOf(int nodeId) {
+        return this.sucesores[nodeId].toArray();
+    }
+
+    /**
+     * Indica si un arco existe en este DiGraphIntList.
+     * <b>Pre</b>: Los nodos de {@code arco} deben pertenecer a {@code this}
+     * <b>Post</b>: Se obtendra true en caso de que el arco exista y false si
+     * ocurre lo contrario.
+     *
+     * @param arco el arco a buscar
+     * @return true si exite un arco desde el nodo src hasta el nodo dst.
+     * false en caso contrario
+     */
+    public boolean isArc(Arc arco) {
+        return this.isArc(arco.getSrc(), arco.getDst());
+    }
+
+    /**
+     * Indica si un arco existe en este DiGraphIntList, recorriendo la más
+     * corta entre la lista de sucesores de src y la de predecesores de dst.
+     * <b>Pre</b>: Los nodos src y dst deben pertenecer al DiGraphIntList.
+     * <b>Post</b>: Se obtendra true en caso de que el arco exista y false si
+     * ocurre lo contrario.
+     *
+     * @param src el id del nodo origen del arco
+     * @param dst el id del nodo destino del arco
+     * @return true si exite un arco desde el nodo src hasta el nodo dst.
+     * false en caso contrario
+     */
+    public boolean isArc(int src, int dst) {
+        if ((0 <= src && src < this.numNodes) &&
+            (0 <= dst && dst < this.numNodes)) {
+            IntList salida = this.sucesores[src];
+            IntList entrada = this.predecesores[dst];
+            if (salida.size() <= entrada.size()) {
+                return salida.contains(dst);
+            } else {
+                return entrada.contains(src);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Inicializa este DiGraphIntList en el DiGraph representado en el
+     * contenido del archivo {@code fileName}, con el formato de DiGraphList.
+     * <b>Pre</b>: {@code fileName} debe existir, ser un archivo, poder leerse,
+     * no puede tener errores de formato ni inconsistencias en el número de
+     * nodos o arcos.
+     * <b>Post</b>: Este DiGraphIntList se inicializa exitosamente con el
+     * DiGraph representado en el archivo {@code fileName}.
+     *
+     * @param fileName Nombre del archivo a leer
+     * @throws IOException En caso de que {@code fileName} no exista, no sea un
+     * archivo, no se pueda leer, tenga un error de formato, o alguna
+     * inconsistencia en cuanto al numero de arcos o el numero de nodos
+     */
+    public void read(String fileName) throws IOException {
+        this.copiar(new DiGraphList(fileName));
+    }
+
+    /**
+     * Remueve todos los arcos de este grafo
+     * <b>Pre</b>: Debe existir un DiGraphIntList.
+     * <b>Post</b>: Se obtendra la lista de los arcos que fueron eliminados, y
+     * este grafo quedará sin arcos.
+     *
+     * @return lista de arcos eliminados
+     */
+    public List<Arc> removeAllArcs() {
+        List<Arc> lista = new ArrayLista(this.numArcs);
+        for (int i = 0; i < this.numNodes; i++) {
+            IntList salida = this.sucesores[i];
+            for (int k = 0; k < salida.size(); k++) {
+                lista.add(new Arc(i, salida.get(k)));
+            }
+            salida.clear();
+            this.predecesores[i].clear();
+        }
+        this.numArcs = 0;
+        return lista;
+    }
+
+    /**
+     * Invierte la direccion de un arco
+     * <b>Pre</b>: Los nodos nodeIniId y nodeFinId deben pertenecer al
+     * DiGraphIntList.
+     * <b>Post</b>: Se obtendra true en caso de que el arco haya sido invertido
+     * y false en caso contrario.
+     *
+     * @param nodeIniId nodo fuente del arco antes de invertirlo
+     * @param nodeFinId nodo destino del arco antes de invertirlo
+     * @return true si el arco fue invertido, false en caso contrario
+     */
+    public boolean reverseArc(int nodeIniId, int nodeFinId) {
+        if (this.isArc(nodeIniId, nodeFinId) &&
+            !this.isArc(nodeFinId, nodeIniId)) {
+            this.delArc(nodeIniId, nodeFinId);
+            this.insertar(nodeFinId, nodeIniId);
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Invierte todos los arcos del DiGraphIntList, intercambiando las listas de
+     * sucesores y de predecesores.
+     * <b>Pre</b>: Debe existir un DiGraphIntList.
+     * <b>Post</b>: Todos los arcos quedan invertidos.
+     *
+     * @return true, pues todos los arcos pueden ser invertidos.
+     */
+    public boolean reverseArcs() {
+        IntList[] aux = this.sucesores;
+        this.sucesores = this.predecesores;
+        this.predecesores = aux;
+        return true;
+    }
+
+    /**
+     * Retorna la representacion en String de este DiGraphIntList.
+     * <b>Pre</b>: Debe existir un DiGraphIntList.
+     * <b>Post</b>: Se obtendra la representacion en String del DiGraphIntList.
+     *
+     * @return la representacion en String de este DiGraphIntList.
+     */
+    @Override
+    public String toString() {
+        StringBuilder string = new StringBuilder();
+        string.append(this.numNodes).append(' ').append(this.numArcs);
+        for (int i = 0; i < this.numNodes; i++) {
+            IntList salida = this.sucesores[i];
+            for (int k = 0; k < salida.size(); k++) {
+                string.append('\n').append(i).append(' ').append(salida.get(k));
+            }
+        }
+        return string.toString();
+    }
+
+    /**
+     * Escribe la representacion de este DiGraph en el archivo {@code fileName},
+     * usando el mismo formato que DiGraphList.
+     * <b>pre</b>: {@code fileName} debe poder escribirse.
+     * <b>post</b>: El archivo {@code fileName} contiene la representación de
+     * este DiGraph.
+     * @param fileName Archivo a escribir
+     * @throws IOException En caso de que el archivo {@code fileName} no se
+     * pueda escribir.
+     */
+    public void write(String fileName) throws IOException {
+        File salida = new File(fileName);
+        if (!salida.exists() || !salida.isFile() || !salida.canWrite())
+        {
+            salida.delete();
+            salida.createNewFile();
+        }
+        salida.setWritable(true);
+        PrintStream out;
+        try {
+            out = new PrintStream(salida);
+            out.println(this.numNodes + " " + this.numArcs);
+            for (int i = 0; i < this.numNodes; i++) {
+                IntList sucs = this.sucesores[i];
+                for (int k = 0; k < sucs.size(); k++) {
+                    out.println(i + " " + sucs.get(k));
+                }
+            }
+            out.close();
+        } catch (FileNotFoundException fnfe) {
+            throw new ExcepcionArchivoNoSePuedeEscribir("\nProblema" +
+                    " escribiendo en el archivo \"" + fileName + "\"");
+        }
+    }
+
+    // METODOS PRIVADOS AUXILIARES:
+
+    /**
+     * Agrega el arco (src, dst) al final de las listas de sus dos nodos.
+     * <b>Pre</b>: true
+     * <b>Post</b>: si ambos nodos pertenecen al grafo y el arco no existía, el
+     * arco queda agregado.
+     * @param src nodo fuente
+     * @param dst nodo destino
+     * @return true si el arco fue agregado, false en caso contrario.
+     */
+    private boolean insertar(int src, int dst) {
+        if (!((0 <= src && src < this.numNodes) &&
+              (0 <= dst && dst < this.numNodes)) || this.isArc(src, dst)) {
+            return false;
+        }
+        this.sucesores[src].add(dst);
+        this.predecesores[dst].add(src);
+        this.numArcs++;
+        return true;
+    }
+
+    /**
+     * Reemplaza el contenido de este grafo por una copia de g.
+     * <b>Pre</b>: g != null
+     * <b>Post</b>: {@code this.equals(g)}
+     * @param g el grafo fuente
+     */
+    private void copiar(DiGraph g) {
+        int n = g.getNumberOfNodes();
+        this.numNodes = n;
+        this.numArcs = 0;
+        this.sucesores = new IntList[n];
+        this.predecesores = new IntList[n];
+        for (int i = 0; i < n; i++) {
+            this.sucesores[i] = new IntList(Math.max(g.getOutDegree(i), 4));
+            this.predecesores[i] = new IntList(Math.max(g.getInDegree(i), 4));
+        }
+        for (int i = 0; i < n; i++) {
+            int[] sucs = g.successorsOf(i);
+            for (int k = 0; k < sucs.length; k++) {
+                this.sucesores[i].add(sucs[k]);
+                this.predecesores[sucs[k]].add(i);
+            }
+            this.numArcs += sucs.length;
+        }
+    }
+}
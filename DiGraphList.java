@@ -7,7 +7,8 @@ import java.io.PrintStream;
 
 /**
  * DiGraphList es una clase concreta que representa un digrafo utilizando la
- * estructura Lista.
+ * estructura ArrayLista, con acceso por posicion en O(1) a los arcos de cada
+ * nodo.
  * Los arcos son almacenados como una lista y son almacenados en un
  * arreglo donde la posicion i representa el nodo en el que inciden.
  *
@@ -22,13 +23,23 @@ public class DiGraphList extends DiGraph {
     // Modelo de representación:
     
     // Arreglo de lista de los arcos, inArc[i] contine la lista
-    // de los arcos que cuyo destino es el nodo i
+    // de los arcos que cuyo destino es el nodo i. Si soloSucesores, se
+    // construye sólo cuando se necesita y es null mientras no sea válido.
     private List<Arc> inArcs[];
     
     // Arreglo de lista de los arcos, outArc[i] contine la lista
     // de los arcos que cuyo fuente es el nodo i
     private List<Arc> outArcs[];
 
+    // Índice opcional de los arcos, con la clave (src << 32) | dst de cada
+    // uno, para que isArc no recorra las listas; null si no se usa (ver
+    // setArcIndex)
+    private ConjuntoDeLongs indice;
+
+    // true si sólo se mantienen al día los arcos de salida (ver
+    // setForwardOnly)
+    private boolean soloSucesores;
+
     // Constructores:
 
     /**
@@ -53,13 +64,41 @@ public class DiGraphList extends DiGraph {
         this.inArcs = new List[n];
         this.outArcs = new List[n];
         for (int i = 0; i < n; i++) {
-            this.inArcs[i] = new Lista();
-            this.outArcs[i] = new Lista();
+            this.inArcs[i] = new ArrayLista();
+            this.outArcs[i] = new ArrayLista();
         }
         this.numNodes = n;
         this.numArcs = 0;
     }
 
+    /**
+     * Crea un DiGraphList con n nodos y sin arcos, con o sin índice de arcos
+     * (ver setArcIndex).
+     * <b>Pre</b>: {@code 0} &lt;= {@code n}
+     * <b>Post</b>: este DiGraphList tiene {@code n} nodos y ningún arco.
+     * @param n el número de nodos con los que se inicializa este DiGraphList.
+     * @param arcIndex true si se debe mantener el índice de arcos
+     */
+    public DiGraphList(int n, boolean arcIndex) {
+        this(n);
+        this.setArcIndex(arcIndex);
+    }
+
+    /**
+     * Crea un DiGraphList con n nodos y sin arcos, con o sin índice de arcos
+     * (ver setArcIndex), y manteniendo o no sólo los arcos de salida (ver
+     * setForwardOnly).
+     * <b>Pre</b>: {@code 0} &lt;= {@code n}
+     * <b>Post</b>: este DiGraphList tiene {@code n} nodos y ningún arco.
+     * @param n el número de nodos con los que se inicializa este DiGraphList.
+     * @param arcIndex true si se debe mantener el índice de arcos
+     * @param forwardOnly true si sólo se deben mantener los arcos de salida
+     */
+    public DiGraphList(int n, boolean arcIndex, boolean forwardOnly) {
+        this(n, arcIndex);
+        this.setForwardOnly(forwardOnly);
+    }
+
     /**
      * Crea un DiGraphList a partir del contenido del archivo.
      * <blockquote>
@@ -100,8 +139,8 @@ public class DiGraphList extends DiGraph {
         this.inArcs = new List[g.numNodes];
         this.outArcs = new List[g.numNodes];
         for (int i = 0; i < g.numNodes; i++) {
-            this.inArcs[i] = new Lista();
-            this.outArcs[i] = new Lista();
+            this.inArcs[i] = new ArrayLista();
+            this.outArcs[i] = new ArrayLista();
         }
         this.numNodes = g.numNodes;
         this.numArcs = 0;
@@ -131,9 +170,12 @@ public class DiGraphList extends DiGraph {
         if ((0 <= src && src < this.numNodes) &&
             (0 <= dst && dst < this.numNodes)) {
             if (!this.isArc(arco)) {
-                this.inArcs[dst].add(arco);
+                this.agregarEntrada(dst, arco);
                 this.outArcs[src].add(arco);
                 this.numArcs++;
+                if (this.indice != null) {
+                    this.indice.add(DiGraphList.clave(src, dst));
+                }
                 return (arco);
             } else {
                 return null;
@@ -161,9 +203,12 @@ public class DiGraphList extends DiGraph {
             (0 <= dst && dst < this.numNodes)) {
             if (!(this.isArc(src, dst))) {
                 Arc nuevo = new Arc(src, dst);
-                this.inArcs[dst].add(nuevo);
+                this.agregarEntrada(dst, nuevo);
                 this.outArcs[src].add(nuevo);
                 this.numArcs++;
+                if (this.indice != null) {
+                    this.indice.add(DiGraphList.clave(src, dst));
+                }
                 return (nuevo);
             } else {
                 return null;
@@ -192,9 +237,12 @@ public class DiGraphList extends DiGraph {
             (0 <= dst && dst < this.numNodes)) {
             if (!(this.isArc(src, dst))) {
                 Arc nuevo = new Arc(src, dst, costo);
-                this.inArcs[dst].add(nuevo);
+                this.agregarEntrada(dst, nuevo);
                 this.outArcs[src].add(nuevo);
                 this.numArcs++;
+                if (this.indice != null) {
+                    this.indice.add(DiGraphList.clave(src, dst));
+                }
                 return (nuevo);
             } else {
                 return null;
@@ -221,9 +269,12 @@ public class DiGraphList extends DiGraph {
             (0 <= dst && dst < this.numNodes)) {
             if (!(this.isArc(src, dst))) {
                 Arc nuevo = new Arc(src, dst, ident);
-                this.inArcs[dst].add(nuevo);
+                this.agregarEntrada(dst, nuevo);
                 this.outArcs[src].add(nuevo);
                 this.numArcs++;
+                if (this.indice != null) {
+                    this.indice.add(DiGraphList.clave(src, dst));
+                }
                 return (nuevo);
             } else {
                 return null;
@@ -251,9 +302,12 @@ public class DiGraphList extends DiGraph {
             (0 <= dst && dst < this.numNodes)) {
             if (!(this.isArc(src, dst))) {
                 Arc nuevo = new Arc(src, dst, costo, ident);
-                this.inArcs[dst].add(nuevo);
+                this.agregarEntrada(dst, nuevo);
                 this.outArcs[src].add(nuevo);
                 this.numArcs++;
+                if (this.indice != null) {
+                    this.indice.add(DiGraphList.clave(src, dst));
+                }
                 return (nuevo);
             } else {
                 return null;
@@ -275,53 +329,47 @@ public class DiGraphList extends DiGraph {
             List<Arc>[] arcosDeEntrada = new List[this.numNodes + num];
             List<Arc>[] arcosDeSalida = new List[this.numNodes + num];
             for (int k = 0; k < this.numNodes; k++) {
-                arcosDeEntrada[k] = this.inArcs[k];
                 arcosDeSalida[k] = this.outArcs[k];
             }
             for (int k = this.numNodes; k < this.numNodes + num; k++) {
-                arcosDeEntrada[k] = new Lista();
-                arcosDeSalida[k] = new Lista();
+                arcosDeEntrada[k] = new ArrayLista();
+                arcosDeSalida[k] = new ArrayLista();
+            }
+            if (this.inArcs != null) {
+                for (int k = 0; k < this.numNodes; k++) {
+                    arcosDeEntrada[k] = this.inArcs[k];
+                }
+                this.inArcs = (List<Arc>[])arcosDeEntrada;
             }
             this.numNodes = this.numNodes + num;
-            this.inArcs = (List<Arc>[])arcosDeEntrada;
             this.outArcs = (List<Arc>[])arcosDeSalida;
         }
     }
 
     /**
-     * Retorna un Digraph que es la clausura transitiva de este DiGraph
-     * calculada usando un algoritmo analogo al de Roy-Warshal.
+     * Retorna un Digraph que es la clausura reflexiva y transitiva de este
+     * DiGraph. Se calcula con ClausuraTransitiva (condensación de componentes
+     * fuertemente conexas y alcance por componente), y los arcos se agregan
+     * directamente a las listas, pues se sabe que no hay repetidos.
      * <b>Pre</b>: Debe existir un DigraphList.
-     * <b>Post</b>: Se obtendra un Digraph relacionado con la lista de arcos
-     * adyacentes del DigraphList, calculada usando un algoritmo analogo al
-     * de Roy -Warshal
+     * <b>Post</b>: Se obtendra un DigraphList con un arco (u, v) por cada par
+     * de nodos tal que v es alcanzable desde u; este grafo no se altera.
      *
      * @return un Digraph que es la clausura transitiva de este DiGraph
-     * calculada usando un algoritmo analogo al de Roy-Warshal
      */
     @Override
     public DiGraph alcance() {
-        DiGraphList salida = this.clone();
-        for (int i = 0; i < salida.numNodes; i++) {
-            salida.addArc(i, i);
-        }
-        int flag;
-        do {
-            boolean stop = false;
-            flag = salida.numArcs;
-            for (int a = 0; a < salida.numNodes && !stop; a++) {
-                for (int i = 0; i < salida.outArcs[a].size() && !stop; i++) {
-                    int b = salida.outArcs[a].get(i).getDst();
-                    for (int j = 0; j < salida.outArcs[b].size() && !stop; j++){
-                        int c = salida.outArcs[b].get(j).getDst();
-                        if (!salida.isArc(a, c)) {
-                            salida.addArc(a, c);
-                            stop = true;
-                        }
-                    }
-                }
+        ClausuraTransitiva clausura = new ClausuraTransitiva(this);
+        DiGraphList salida = new DiGraphList(this.numNodes);
+        for (int u = 0; u < this.numNodes; u++) {
+            int[] alcanzables = clausura.alcanzables(u);
+            for (int k = 0; k < alcanzables.length; k++) {
+                Arc nuevo = new Arc(u, alcanzables[k]);
+                salida.outArcs[u].add(nuevo);
+                salida.inArcs[alcanzables[k]].add(nuevo);
             }
-        } while (salida.numArcs > flag);
+            salida.numArcs += alcanzables.length;
+        }
         return salida;
     }
 
@@ -335,6 +383,8 @@ public class DiGraphList extends DiGraph {
     @Override
     public DiGraphList clone() {
         DiGraphList nuevo = new DiGraphList(this);
+        nuevo.setArcIndex(this.indice != null);
+        nuevo.setForwardOnly(this.soloSucesores);
         return nuevo;
     }
 
@@ -355,9 +405,16 @@ public class DiGraphList extends DiGraph {
             (0 <= nodeFinId && nodeFinId < this.numNodes)) {
             if (this.isArc(nodeIniId, nodeFinId)) {
                 Arc arco = new Arc(nodeIniId, nodeFinId);
-                this.inArcs[nodeFinId].remove(arco);
+                if (this.soloSucesores) {
+                    this.inArcs = null;
+                } else {
+                    this.inArcs[nodeFinId].remove(arco);
+                }
                 this.outArcs[nodeIniId].remove(arco);
                 this.numArcs--;
+                if (this.indice != null) {
+                    this.indice.remove(DiGraphList.clave(nodeIniId, nodeFinId));
+                }
                 return arco;
             } else {
                 return null;
@@ -435,6 +492,7 @@ public class DiGraphList extends DiGraph {
      * @return el grado interno del nodo nodeId en este Grafo.
      */
     public int getInDegree(int nodeId) {
+        this.construirInverso();
         return this.inArcs[nodeId].size();
     }
 
@@ -448,6 +506,7 @@ public class DiGraphList extends DiGraph {
      * @return la lista de arcos que tienen a nodeId como destino.
      */
     public List<Arc> getInEdges(int nodeId) {
+        this.construirInverso();
         return this.inArcs[nodeId];
     }
 
@@ -511,11 +570,11 @@ public class DiGraphList extends DiGraph {
      * @return lista de predecesores de nodeId
      */
     public List<Integer> getPredecesors(int nodeId) {
-        List<Integer> predecesors = new Lista();
-        Object[] arrArcs = this.inArcs[nodeId].toArray();
-        for (int k = 0; k < arrArcs.length; k++) {
-            Arc arco = (Arc)arrArcs[k];
-            predecesors.add(new Integer(arco.getSrc()));
+        this.construirInverso();
+        List<Arc> arcos = this.inArcs[nodeId];
+        List<Integer> predecesors = new ArrayLista(arcos.size());
+        for (int k = 0; k < arcos.size(); k++) {
+            predecesors.add(Integer.valueOf(arcos.get(k).getSrc()));
         }
         return predecesors;
     }
@@ -530,11 +589,47 @@ public class DiGraphList extends DiGraph {
      * @return lista de sucesores de nodeId
      */
     public List<Integer> getSucesors(int nodeId) {
-        List<Integer> sucesors = new Lista();
-        Object[] arrArcs = this.outArcs[nodeId].toArray();
-        for (int k = 0; k < arrArcs.length; k++) {
-            Arc arco = (Arc)arrArcs[k];
-            sucesors.add(new Integer(arco.getDst()));
+        List<Arc> arcos = this.outArcs[nodeId];
+        List<Integer> sucesors = new ArrayLista(arcos.size());
+        for (int k = 0; k < arcos.size(); k++) {
+            sucesors.add(Integer.valueOf(arcos.get(k).getDst()));
+        }
+        return sucesors;
+    }
+
+    /**
+     * Retorna los predecesores del nodo nodeId como un arreglo de int.
+     * <b>Pre</b>: El nodo nodeId debe pertenecer al DigraphList.
+     * <b>Post</b>: el resultado tiene {@code getInDegree(nodeId)} posiciones.
+     *
+     * @param nodeId el id del nodo del que se quieren los predecesores
+     * @return arreglo nuevo con los predecesores de nodeId
+     */
+    @Override
+    public int[] predecessorsOf(int nodeId) {
+        this.construirInverso();
+        List<Arc> arcos = this.inArcs[nodeId];
+        int[] predecesors = new int[arcos.size()];
+        for (int k = 0; k < predecesors.length; k++) {
+            predecesors[k] = arcos.get(k).getSrc();
+        }
+        return predecesors;
+    }
+
+    /**
+     * Retorna los sucesores del nodo nodeId como un arreglo de int.
+     * <b>Pre</b>: El nodoId debe pertenecer al DigraphList.
+     * <b>Post</b>: el resultado tiene {@code getOutDegree(nodeId)} posiciones.
+     *
+     * @param nodeId el id del nodo del que se quieren los sucesores
+     * @return arreglo nuevo con los sucesores de nodeId
+     */
+    @Override
+    public int[] successorsOf(int nodeId) {
+        List<Arc> arcos = this.outArcs[nodeId];
+        int[] sucesors = new int[arcos.size()];
+        for (int k = 0; k < sucesors.length; k++) {
+            sucesors[k] = arcos.get(k).getDst();
         }
         return sucesors;
     }
@@ -574,8 +669,13 @@ public class DiGraphList extends DiGraph {
         boolean es = false;
         if ((0 <= src && src < this.numNodes) &&
             (0 <= dst && dst < this.numNodes)) {
-            es = (this.outArcs[src].contains(new Arc(src,dst)) &&
-                  this.inArcs[dst].contains(new Arc(src,dst)));
+            if (this.indice != null) {
+                return this.indice.contains(DiGraphList.clave(src, dst));
+            }
+            es = this.outArcs[src].contains(new Arc(src,dst));
+            if (es && this.inArcs != null) {
+                es = this.inArcs[dst].contains(new Arc(src,dst));
+            }
         }
         return es;
     }
@@ -643,13 +743,19 @@ public class DiGraphList extends DiGraph {
                     this.inArcs = new List[new Integer(tokens[0]).intValue()];
                     this.outArcs = new List[new Integer(tokens[0]).intValue()];
                     for (int k = 0; k < this.inArcs.length; k++) {
-                        this.inArcs[k] = new Lista();
-                        this.outArcs[k] = new Lista();
+                        this.inArcs[k] = new ArrayLista();
+                        this.outArcs[k] = new ArrayLista();
+                    }
+                    if (this.soloSucesores) {
+                        this.inArcs = null;
                     }
                     /* Fin de las diferencias en este constructor entre
                      * DiGraphList y DiGraphMatrix
                      */
                     this.numNodes = new Integer(tokens[0]).intValue();
+                    if (this.indice != null) {
+                        this.indice.clear();
+                    }
                     int nArcos = new Integer(tokens[1]).intValue();
                     this.fillFromFile(inbuff, fileName, nArcos);
                 } else {
@@ -686,7 +792,7 @@ public class DiGraphList extends DiGraph {
      * @return lista de arcos eliminados
      */
     public List<Arc> removeAllArcs() {
-        List<Arc> lista = new Lista();
+        List<Arc> lista = new ArrayLista();
         for (int i = 0; i < this.numNodes; i++) {
             Object[] arrArcs = this.outArcs[i].toArray();
             for (int j = 0; j < arrArcs.length; j++) {
@@ -695,6 +801,12 @@ public class DiGraphList extends DiGraph {
         }
         this.inArcs = new List[this.numNodes];
         this.outArcs = new List[this.numNodes];
+        if (this.soloSucesores) {
+            this.inArcs = null;
+        }
+        if (this.indice != null) {
+            this.indice.clear();
+        }
         return lista;
     }
 
@@ -740,7 +852,8 @@ public class DiGraphList extends DiGraph {
      * debe quedar sin alteraciones.
      */
     public boolean reverseArcs() {
-        DiGraphList aux = new DiGraphList(this.numNodes);
+        DiGraphList aux = new DiGraphList(this.numNodes, this.indice != null,
+                                          this.soloSucesores);
         for (int i = 0; i < this.numNodes; i++) {
             for (int j = 0; j < this.numNodes; j++) {
                 if (this.isArc(i, j)) {
@@ -750,9 +863,63 @@ public class DiGraphList extends DiGraph {
         }
         this.inArcs = aux.inArcs;
         this.outArcs = aux.outArcs;
+        this.indice = aux.indice;
         return true;
     }
 
+    /**
+     * Activa o desactiva el índice de arcos de este DiGraphList: un conjunto
+     * de claves (src &lt;&lt; 32) | dst en una tabla de hash de enteros
+     * largos (ver ConjuntoDeLongs), que addArc, delArc y reverseArc mantienen
+     * al día. Con el índice, isArc, getArc y la verificación de arcos
+     * repetidos de addArc cuestan O(1) y no crean objetos, en lugar de
+     * recorrer las listas de arcos del nodo fuente y del nodo destino, lo que
+     * es cuadrático en nodos de grado alto. Cuesta unos 16 bytes por arco.
+     * <b>Pre</b>: Debe existir un DigraphList.
+     * <b>Post</b>: si {@code enabled}, el índice contiene exactamente los
+     * arcos de este DiGraphList; si no, el índice se descarta.
+     *
+     * @param enabled true para activar el índice, false para desactivarlo
+     */
+    public void setArcIndex(boolean enabled) {
+        if (!enabled) {
+            this.indice = null;
+        } else if (this.indice == null) {
+            this.indice = new ConjuntoDeLongs(this.numArcs);
+            for (int i = 0; i < this.numNodes; i++) {
+                List<Arc> arcos = this.outArcs[i];
+                for (int k = 0; k < arcos.size(); k++) {
+                    int dst = arcos.get(k).getDst();
+                    this.indice.add(DiGraphList.clave(i, dst));
+                }
+            }
+        }
+    }
+
+    /**
+     * Activa o desactiva el modo de sólo sucesores de este DiGraphList. En
+     * ese modo, addArc y delArc sólo actualizan las listas de arcos de salida,
+     * y las listas de arcos de entrada (inArcs) se construyen de una vez la
+     * primera vez que se consultan con getInDegree, getInEdges,
+     * getPredecesors o predecessorsOf; cualquier modificación posterior las
+     * descarta. Sirve para grafos que sólo se recorren hacia adelante, como el
+     * grafo de implicaciones, pues ahorra la mitad de las inserciones y de la
+     * memoria de las listas.
+     * <b>Pre</b>: Debe existir un DigraphList.
+     * <b>Post</b>: si no {@code enabled}, las listas de arcos de entrada están
+     * al día y addArc y delArc las mantienen.
+     *
+     * @param enabled true para mantener sólo los arcos de salida
+     */
+    public void setForwardOnly(boolean enabled) {
+        if (enabled) {
+            this.inArcs = null;
+        } else {
+            this.construirInverso();
+        }
+        this.soloSucesores = enabled;
+    }
+
     /**
      * Retorna la representacion en String de este DiGraphList.
      * <b>Pre</b>: Debe existir un DigraphList.
@@ -762,14 +929,16 @@ public class DiGraphList extends DiGraph {
      */
     @Override
     public String toString() {
-        String string = this.numNodes + " " + this.numArcs;
+        StringBuilder string = new StringBuilder();
+        string.append(this.numNodes).append(' ').append(this.numArcs);
         for (int i = 0; i < this.numNodes; i++) {
             for (int j = 0; j < this.outArcs[i].size(); j++) {
-                string += "\n" + this.outArcs[i].get(j).getSrc() + " " +
-                        this.outArcs[i].get(j).getDst();
+                Arc arco = this.outArcs[i].get(j);
+                string.append('\n').append(arco.getSrc()).append(' ')
+                      .append(arco.getDst());
             }
         }
-        return string;
+        return string.toString();
     }
 
     /**
@@ -828,6 +997,61 @@ public class DiGraphList extends DiGraph {
 
     // METODOS PRIVADOR AUXILIARES:
 
+    /**
+     * Retorna la clave del arco (src, dst) en el índice de arcos.
+     * @param src nodo fuente del arco
+     * @param dst nodo destino del arco
+     * @return (src &lt;&lt; 32) | dst, que es no negativa
+     */
+    private static long clave(int src, int dst) {
+        return ((long) src << 32) | dst;
+    }
+
+    /**
+     * Agrega arco a la lista de arcos de entrada de dst, o descarta las listas
+     * de arcos de entrada si sólo se mantienen los arcos de salida.
+     * @param dst nodo destino del arco
+     * @param arco el arco agregado
+     */
+    private void agregarEntrada(int dst, Arc arco) {
+        if (this.soloSucesores) {
+            this.inArcs = null;
+        } else {
+            this.inArcs[dst].add(arco);
+        }
+    }
+
+    /**
+     * Construye las listas de arcos de entrada a partir de las de salida, si
+     * no existen.
+     * <b>Pre</b>: true
+     * <b>Post</b>: inArcs[i] contiene los arcos cuyo destino es el nodo i.
+     */
+    private void construirInverso() {
+        if (this.inArcs != null) {
+            return;
+        }
+        int[] grado = new int[this.numNodes];
+        for (int i = 0; i < this.numNodes; i++) {
+            List<Arc> arcos = this.outArcs[i];
+            for (int k = 0; k < arcos.size(); k++) {
+                grado[arcos.get(k).getDst()]++;
+            }
+        }
+        List<Arc>[] entrada = new List[this.numNodes];
+        for (int i = 0; i < this.numNodes; i++) {
+            entrada[i] = new ArrayLista(grado[i]);
+        }
+        for (int i = 0; i < this.numNodes; i++) {
+            List<Arc> arcos = this.outArcs[i];
+            for (int k = 0; k < arcos.size(); k++) {
+                Arc arco = arcos.get(k);
+                entrada[arco.getDst()].add(arco);
+            }
+        }
+        this.inArcs = entrada;
+    }
+
     /**
      * Método auxiliar para llenar este DiGraph leyendo desde el archivo de
      * nombre {@code fileName}.
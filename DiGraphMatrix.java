@@ -564,6 +564,47 @@ public class DiGraphMatrix extends DiGraph {
         return sucesors;
     }
 
+    /**
+     * Retorna los predecesores del nodo nodeId como un arreglo de int.
+     * <b>Pre</b>: El nodo nodeId debe pertenecer al DiGraphMatrix.
+     * <b>Post</b>: el resultado tiene los nodos k con un arco (k, nodeId), en
+     * orden creciente.
+     *
+     * @param nodeId el id del nodo del que se quieren los predecesores
+     * @return arreglo nuevo con los predecesores de nodeId
+     */
+    @Override
+    public int[] predecessorsOf(int nodeId) {
+        IntList predecesors = new IntList();
+        for (int k = 0; k < this.numNodes; k++) {
+            if (this.matrix[k][nodeId]) {
+                predecesors.add(k);
+            }
+        }
+        return predecesors.toArray();
+    }
+
+    /**
+     * Retorna los sucesores del nodo nodeId como un arreglo de int.
+     * <b>Pre</b>: El nodoId debe pertenecer al DiGraphMatrix.
+     * <b>Post</b>: el resultado tiene los nodos k con un arco (nodeId, k), en
+     * orden creciente.
+     *
+     * @param nodeId el id del nodo del que se quieren los sucesores
+     * @return arreglo nuevo con los sucesores de nodeId
+     */
+    @Override
+    public int[] successorsOf(int nodeId) {
+        IntList sucesors = new IntList();
+        boolean[] fila = this.matrix[nodeId];
+        for (int k = 0; k < this.numNodes; k++) {
+            if (fila[k]) {
+                sucesors.add(k);
+            }
+        }
+        return sucesors.toArray();
+    }
+
     /**
      * Indica si un arco existe en este DiGraphArcMatrix.
      * <b>Pre</b>: Los nodos de {@code arco} deben pertenecer a {@code this]
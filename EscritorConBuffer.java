@@ -0,0 +1,94 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Base de los escritores de archivos de salida. Los bytes ya codificados se
+ * copian a un buffer grande, que se escribe en el canal del archivo sólo
+ * cuando se llena o al cerrar el escritor, en lugar de codificar un String y
+ * hacer una escritura al archivo por línea. Las subclases definen qué se
+ * escribe y lo agregan con agregar().
+ */
+public abstract class EscritorConBuffer {
+
+    // Tamaño por defecto del buffer de escritura
+    public static final int TAM_BUFFER = 1 << 20;
+
+    // Modelo de representación:
+
+    // Canal del archivo de salida
+    private FileChannel canal;
+
+    // Bytes aún no escritos en el canal
+    private ByteBuffer  buffer;
+
+    // CONSTRUCTOR:
+
+    /**
+     * Crea un escritor sobre el canal {@code canal}, con un buffer de
+     * {@code tamBuffer} bytes.
+     * pre: canal != null y está abierto para escritura; 0 &lt; tamBuffer
+     * post: no hay bytes pendientes.
+     * @param canal el canal del archivo de salida
+     * @param tamBuffer tamaño del buffer de escritura
+     */
+    protected EscritorConBuffer(FileChannel canal, int tamBuffer) {
+        this.canal = canal;
+        this.buffer = ByteBuffer.allocate(tamBuffer);
+    }
+
+    // MÉTODOS:
+
+    /**
+     * Agrega {@code largo} bytes ya codificados a la salida. Si no caben en
+     * el buffer, éste se vacía antes; si no caben ni en un buffer vacío, se
+     * escriben directamente en el canal.
+     * pre: el escritor no se ha cerrado; 0 &lt;= largo &lt;= bytes.length
+     * post: los bytes quedan en el buffer o en el archivo, después de todo lo
+     * agregado antes.
+     * @param bytes los bytes a agregar
+     * @param largo cuántos bytes de {@code bytes}, desde el comienzo
+     * @throws IOException si ocurre un error al escribir el archivo
+     */
+    protected void agregar(byte[] bytes, int largo) throws IOException {
+        if (this.buffer.remaining() < largo) {
+            this.vaciar();
+        }
+        if (this.buffer.remaining() < largo) {
+            ByteBuffer directo = ByteBuffer.wrap(bytes, 0, largo);
+            while (directo.hasRemaining()) {
+                this.canal.write(directo);
+            }
+        } else {
+            this.buffer.put(bytes, 0, largo);
+        }
+    }
+
+    /**
+     * Escribe en el archivo todos los bytes pendientes.
+     * pre: el escritor no se ha cerrado
+     * post: no hay bytes pendientes.
+     * @throws IOException si ocurre un error al escribir el archivo
+     */
+    public void vaciar() throws IOException {
+        this.buffer.flip();
+        while (this.buffer.hasRemaining()) {
+            this.canal.write(this.buffer);
+        }
+        this.buffer.clear();
+    }
+
+    /**
+     * Escribe los bytes pendientes y cierra el archivo de salida.
+     * pre: true
+     * post: todo lo agregado está en el archivo y el canal está cerrado.
+     * @throws IOException si ocurre un error al escribir o cerrar el archivo
+     */
+    public void close() throws IOException {
+        try {
+            this.vaciar();
+        } finally {
+            this.canal.close();
+        }
+    }
+}
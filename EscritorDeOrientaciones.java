@@ -0,0 +1,131 @@
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+
+/**
+ * Escritor de las orientaciones de calles y avenidas que satisfacen cada caso
+ * de prueba, en un segundo archivo de salida, con el buffer de
+ * EscritorConBuffer. Cada caso ocupa una línea con su respuesta y, si tiene
+ * solución, una línea para las calles y otra para las avenidas:
+ *
+ * <pre>
+ * Caso 1: Si.
+ * Calles: W-E E-W W-E
+ * Avenidas: N-S S-N
+ * Caso 2: No.
+ * </pre>
+ *
+ * La orientación de la calle k es la k-ésima de su línea, y lo mismo para las
+ * avenidas.
+ */
+public class EscritorDeOrientaciones extends EscritorConBuffer {
+
+    // Textos ya codificados
+    private static final byte[] CASO = bytes("Caso ");
+    private static final byte[] SI = bytes(": Si.\n");
+    private static final byte[] NO = bytes(": No.\n");
+    private static final byte[] CALLES = bytes("Calles:");
+    private static final byte[] AVENIDAS = bytes("\nAvenidas:");
+    private static final byte[] W_E = bytes(" W-E");
+    private static final byte[] E_W = bytes(" E-W");
+    private static final byte[] N_S = bytes(" N-S");
+    private static final byte[] S_N = bytes(" S-N");
+    private static final byte[] FIN = bytes("\n");
+
+    // Modelo de representación:
+
+    // Bytes del caso en construcción; crece si un caso no cabe
+    private byte[]  linea;
+    private int     largo;
+
+    // CONSTRUCTOR:
+
+    /**
+     * Crea un escritor de orientaciones sobre el canal {@code canal}.
+     * pre: canal != null y está abierto para escritura
+     * post: no hay casos pendientes.
+     * @param canal el canal del archivo de orientaciones
+     */
+    public EscritorDeOrientaciones(FileChannel canal) {
+        super(canal, TAM_BUFFER);
+        this.linea = new byte[256];
+    }
+
+    // MÉTODOS:
+
+    /**
+     * Agrega las orientaciones de un caso.
+     * pre: el escritor no se ha cerrado; si asignacion no es null, tiene al
+     * menos {@code calles} posiciones, las de las calles primero (ver
+     * CasoDePrueba.asignacion())
+     * post: el caso queda en el buffer, o en el archivo si el buffer se llenó.
+     * @param numero número del caso
+     * @param calles número de calles del caso
+     * @param asignacion la asignación del caso, o null si no tiene solución
+     * @throws IOException si ocurre un error al escribir el archivo
+     */
+    public void escribir(int numero, int calles, boolean[] asignacion)
+                                                        throws IOException
+    {
+        this.largo = 0;
+        this.poner(CASO);
+        this.poner(Integer.toString(numero));
+        if (asignacion == null) {
+            this.poner(NO);
+        } else {
+            this.poner(SI);
+            this.poner(CALLES);
+            for (int i = 0; i < asignacion.length; i++) {
+                if (i == calles) {
+                    this.poner(AVENIDAS);
+                }
+                if (i < calles) {
+                    this.poner(asignacion[i] ? W_E : E_W);
+                } else {
+                    this.poner(asignacion[i] ? N_S : S_N);
+                }
+            }
+            if (asignacion.length == calles) {
+                this.poner(AVENIDAS);
+            }
+            this.poner(FIN);
+        }
+        this.agregar(this.linea, this.largo);
+    }
+
+    /**
+     * Agrega bytes al caso en construcción, haciendo crecer this.linea si no
+     * caben.
+     * @param b los bytes a agregar
+     */
+    private void poner(byte[] b) {
+        if (this.linea.length < this.largo + b.length) {
+            byte[] nueva = new byte[Math.max(2 * this.linea.length,
+                                             this.largo + b.length)];
+            System.arraycopy(this.linea, 0, nueva, 0, this.largo);
+            this.linea = nueva;
+        }
+        System.arraycopy(b, 0, this.linea, this.largo, b.length);
+        this.largo += b.length;
+    }
+
+    /**
+     * Agrega un texto ASCII al caso en construcción.
+     * @param texto el texto a agregar
+     */
+    private void poner(String texto) {
+        this.poner(bytes(texto));
+    }
+
+    /**
+     * Codifica un texto ASCII.
+     * @param texto el texto
+     * @return sus bytes
+     */
+    private static byte[] bytes(String texto) {
+        byte[] b = new byte[texto.length()];
+        for (int i = 0; i < b.length; i++) {
+            b[i] = (byte) texto.charAt(i);
+        }
+        return b;
+    }
+}
@@ -0,0 +1,55 @@
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+
+/**
+ * Escritor de las respuestas ("Si." o "No.") de los casos de prueba en el
+ * archivo de salida. Las respuestas se copian como bytes ya codificados al
+ * buffer de EscritorConBuffer, así que escribir una respuesta es copiar 4
+ * bytes, en lugar de codificar un String y hacer una escritura al archivo por
+ * línea.
+ */
+public class EscritorDeRespuestas extends EscritorConBuffer {
+
+    // Respuestas ya codificadas
+    private static final byte[] SI = { 'S', 'i', '.', '\n' };
+    private static final byte[] NO = { 'N', 'o', '.', '\n' };
+
+    // CONSTRUCTORES:
+
+    /**
+     * Crea un escritor sobre el canal {@code canal}, con un buffer de
+     * {@code TAM_BUFFER} bytes.
+     * pre: canal != null y está abierto para escritura
+     * post: no hay respuestas pendientes.
+     * @param canal el canal del archivo de salida
+     */
+    public EscritorDeRespuestas(FileChannel canal) {
+        this(canal, TAM_BUFFER);
+    }
+
+    /**
+     * Crea un escritor sobre el canal {@code canal}, con un buffer de
+     * {@code tamBuffer} bytes.
+     * pre: canal != null y está abierto para escritura; 4 &lt;= tamBuffer
+     * post: no hay respuestas pendientes.
+     * @param canal el canal del archivo de salida
+     * @param tamBuffer tamaño del buffer de escritura
+     */
+    public EscritorDeRespuestas(FileChannel canal, int tamBuffer) {
+        super(canal, tamBuffer);
+    }
+
+    // MÉTODOS:
+
+    /**
+     * Agrega la respuesta de un caso: "Si." si tiene solución, "No." si no.
+     * pre: el escritor no se ha cerrado
+     * post: la respuesta queda en el buffer, o en el archivo si el buffer se
+     * llenó.
+     * @param tieneSolucion la respuesta del caso
+     * @throws IOException si ocurre un error al escribir el archivo
+     */
+    public void escribir(boolean tieneSolucion) throws IOException {
+        this.agregar(tieneSolucion ? SI : NO, SI.length);
+    }
+}
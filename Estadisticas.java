@@ -0,0 +1,143 @@
+import java.io.FileNotFoundException;
+import java.io.PrintStream;
+
+/**
+ * Acumula las estadísticas de todos los casos de un archivo de entrada (ver
+ * EstadisticasDeCaso) y las resume al final. Opcionalmente, escribe las de
+ * cada caso en un archivo CSV a medida que se acumulan, para hallar los casos
+ * patológicos de un lote.
+ *
+ * Main acumula los casos en el orden del archivo desde un solo hilo, también
+ * en el modo paralelo, así que esta clase no necesita sincronización.
+ */
+public class Estadisticas {
+
+    // Modelo de representación:
+
+    // Archivo CSV con una línea por caso; null si no se pidió
+    private PrintStream         csv;
+
+    private int                 nCasos;
+    private int                 nSi;
+
+    // Nanosegundos totales de cada etapa
+    private long[]              nanos;
+
+    // Totales y máximos de los contadores
+    private long                clausulas;
+    private long                literalesSolos;
+    private long                disjunciones;
+    private long                disjuncionesSimplificadas;
+    private long                arcos;
+    private int                 maxDisjunciones;
+    private int                 maxNodos;
+    private int                 maxArcos;
+    private int                 maxComponentes;
+    private int                 mayorComponente;
+
+    // Caso más lento y su tiempo
+    private int                 casoMasLento;
+    private long                nanosCasoMasLento;
+
+    // CONSTRUCTOR:
+
+    /**
+     * Crea un acumulador vacío.
+     * pre: true
+     * post: no hay casos acumulados; si archivoCSV no es null, se crea ese
+     * archivo con el encabezado de las columnas.
+     * @param archivoCSV nombre del archivo CSV por caso, o null
+     * @throws FileNotFoundException si no se puede crear el archivo CSV
+     */
+    public Estadisticas(String archivoCSV) throws FileNotFoundException {
+        if (archivoCSV != null) {
+            this.csv = new PrintStream(archivoCSV);
+            this.csv.println(EstadisticasDeCaso.encabezadoCSV());
+        }
+        this.nanos = new long[EstadisticasDeCaso.ETAPAS.length];
+        this.casoMasLento = -1;
+    }
+
+    // MÉTODOS:
+
+    /**
+     * Agrega las estadísticas de un caso.
+     * pre: caso != null
+     * post: caso queda acumulado, y escrito en el CSV si lo hay.
+     * @param caso las estadísticas del caso
+     */
+    public void acumular(EstadisticasDeCaso caso) {
+        this.nCasos++;
+        if (caso.tieneSolucion) {
+            this.nSi++;
+        }
+        for (int e = 0; e < this.nanos.length; e++) {
+            this.nanos[e] += caso.nanos[e];
+        }
+        long total = caso.getNanosTotales();
+        if (this.casoMasLento < 0 || this.nanosCasoMasLento < total) {
+            this.casoMasLento = caso.numero;
+            this.nanosCasoMasLento = total;
+        }
+
+        this.clausulas += caso.clausulas;
+        this.literalesSolos += caso.literalesSolos;
+        this.disjunciones += caso.disjunciones;
+        this.disjuncionesSimplificadas += caso.disjuncionesSimplificadas;
+        this.arcos += caso.arcos;
+        this.maxDisjunciones = Math.max(this.maxDisjunciones,
+                                        caso.disjunciones);
+        this.maxNodos = Math.max(this.maxNodos, caso.nodos);
+        this.maxArcos = Math.max(this.maxArcos, caso.arcos);
+        this.maxComponentes = Math.max(this.maxComponentes, caso.componentes);
+        this.mayorComponente = Math.max(this.mayorComponente,
+                                        caso.mayorComponente);
+
+        if (this.csv != null) {
+            this.csv.println(caso);
+        }
+    }
+
+    /**
+     * Escribe el resumen de los casos acumulados y cierra el archivo CSV.
+     * pre: out != null
+     * post: el resumen queda escrito en out.
+     * @param out flujo donde se escribe el resumen
+     */
+    public void imprimirResumen(PrintStream out) {
+        if (this.csv != null) {
+            this.csv.close();
+            this.csv = null;
+        }
+
+        long total = 0;
+        for (int e = 0; e < this.nanos.length; e++) {
+            total += this.nanos[e];
+        }
+
+        out.println("Casos: " + this.nCasos + " (Si: " + this.nSi +
+                    ", No: " + (this.nCasos - this.nSi) + ")");
+        out.println("Tiempo por etapa:");
+        for (int e = 0; e < this.nanos.length; e++) {
+            out.println(String.format("  %-16s %12.3f ms  %5.1f%%",
+                    EstadisticasDeCaso.ETAPAS[e], this.nanos[e] / 1e6,
+                    (total == 0 ? 0.0 : 100.0 * this.nanos[e] / total)));
+        }
+        out.println(String.format("  %-16s %12.3f ms", "total", total / 1e6));
+        if (0 <= this.casoMasLento) {
+            out.println(String.format("Caso más lento: %d (%.3f ms)",
+                    this.casoMasLento, this.nanosCasoMasLento / 1e6));
+        }
+        out.println("Cláusulas: " + this.clausulas +
+                    ", literales solos: " + this.literalesSolos);
+        out.println("Disjunciones: " + this.disjunciones +
+                    " (máx. por caso " + this.maxDisjunciones +
+                    "), tras simplificar: " + this.disjuncionesSimplificadas);
+        out.println("Grafos: máx. " + this.maxNodos + " nodos y " +
+                    this.maxArcos + " arcos por caso, " + this.arcos +
+                    " arcos en total");
+        out.println("Componentes: máx. " + this.maxComponentes +
+                    " por caso, la mayor de " + this.mayorComponente +
+                    " nodos");
+    }
+}
@@ -0,0 +1,146 @@
+/**
+ * Contadores y tiempos de la resolución de un caso de prueba: nanosegundos
+ * de cada etapa, tamaño de la fórmula, del grafo de implicaciones y de sus
+ * componentes fuertemente conexas. Los llena CasoDePrueba (y Main, para la
+ * lectura) sólo si se le asigna un objeto de esta clase, así que no cuestan
+ * nada cuando no se piden.
+ *
+ * Los contadores de una etapa que no se ejecutó, porque la solución se halló
+ * antes, quedan en 0.
+ */
+public class EstadisticasDeCaso {
+
+    // ETAPAS:
+
+    public static final int     LECTURA = 0;
+    public static final int     CLAUSULAS = 1;
+    public static final int     DOS_CNF = 2;
+    public static final int     SIMPLIFICACION = 3;
+    public static final int     GRAFO = 4;
+    public static final int     COMPONENTES = 5;
+    public static final int     DECISION = 6;
+
+    /**
+     * Nombres de las etapas, en el orden de las constantes.
+     */
+    public static final String[] ETAPAS = { "lectura", "clausulas", "2cnf",
+                                            "simplificacion", "grafo",
+                                            "componentes", "decision" };
+
+    // Modelo de representación:
+
+    /**
+     * Número del caso en el archivo de entrada.
+     */
+    public int      numero;
+
+    /**
+     * Calles, avenidas y viajes del caso.
+     */
+    public int      calles;
+    public int      avenidas;
+    public int      viajes;
+
+    /**
+     * Nanosegundos de cada etapa, indexados por las constantes de etapa.
+     */
+    public long[]   nanos = new long[ETAPAS.length];
+
+    /**
+     * Cláusulas de dos caminos construidas a partir de los viajes.
+     */
+    public int      clausulas;
+
+    /**
+     * Literales solos distintos (viajes por una sola calle o avenida), y
+     * literales forzados al terminar la propagación unitaria.
+     */
+    public int      literalesSolos;
+    public int      literalesForzados;
+
+    /**
+     * Disjunciones distintas de la fórmula 2CNF, antes y después de la
+     * simplificación.
+     */
+    public int      disjunciones;
+    public int      disjuncionesSimplificadas;
+
+    /**
+     * Nodos y arcos del grafo de implicaciones.
+     */
+    public int      nodos;
+    public int      arcos;
+
+    /**
+     * Número de componentes fuertemente conexas y tamaño de la mayor.
+     */
+    public int      componentes;
+    public int      mayorComponente;
+
+    /**
+     * Respuesta del caso.
+     */
+    public boolean  tieneSolucion;
+
+    // MÉTODOS:
+
+    /**
+     * Retorna el total de nanosegundos de todas las etapas.
+     * pre: true
+     * post: true
+     * @return la suma de this.nanos
+     */
+    public long getNanosTotales() {
+        long total = 0;
+        for (int e = 0; e < this.nanos.length; e++) {
+            total += this.nanos[e];
+        }
+        return total;
+    }
+
+    /**
+     * Retorna el encabezado del formato CSV de toString().
+     * pre: true
+     * post: true
+     * @return los nombres de las columnas, separados por comas
+     */
+    public static String encabezadoCSV() {
+        StringBuilder sb = new StringBuilder("caso,calles,avenidas,viajes");
+        for (int e = 0; e < ETAPAS.length; e++) {
+            sb.append(",ns_").append(ETAPAS[e]);
+        }
+        sb.append(",ns_total,clausulas,literales_solos,literales_forzados,");
+        sb.append("disjunciones,disjunciones_simplificadas,nodos,arcos,");
+        sb.append("componentes,mayor_componente,respuesta");
+        return sb.toString();
+    }
+
+    /**
+     * Retorna las estadísticas del caso como una línea CSV, con las columnas
+     * de encabezadoCSV().
+     * pre: true
+     * post: true
+     * @return las estadísticas separadas por comas
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(this.numero).append(',').append(this.calles).append(',');
+        sb.append(this.avenidas).append(',').append(this.viajes);
+        for (int e = 0; e < this.nanos.length; e++) {
+            sb.append(',').append(this.nanos[e]);
+        }
+        sb.append(',').append(this.getNanosTotales());
+        sb.append(',').append(this.clausulas);
+        sb.append(',').append(this.literalesSolos);
+        sb.append(',').append(this.literalesForzados);
+        sb.append(',').append(this.disjunciones);
+        sb.append(',').append(this.disjuncionesSimplificadas);
+        sb.append(',').append(this.nodos);
+        sb.append(',').append(this.arcos);
+        sb.append(',').append(this.componentes);
+        sb.append(',').append(this.mayorComponente);
+        sb.append(',').append(this.tieneSolucion ? "Si" : "No");
+        return sb.toString();
+    }
+}
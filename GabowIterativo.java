@@ -0,0 +1,170 @@
+/**
+ * Versión iterativa del algoritmo de Gabow (basado en caminos) para hallar
+ * las componentes fuertemente conexas de un digrafo, sobre los arreglos de
+ * un DiGraphCSR.
+ *
+ * Como Tarjan, hace una sola búsqueda en profundidad, pero en lugar de
+ * mantener el lowLink de cada nodo usa una segunda pila con los nodos que
+ * pueden ser raíz de una componente (los "límites" del camino actual): al
+ * encontrar un arco hacia un nodo empilado de índice i, se desempilan los
+ * límites de índice mayor que i, pues quedan en la misma componente. Un nodo
+ * que sigue en el tope de los límites al terminar es la raíz de una
+ * componente. No necesita el arreglo de lowLink, ni actualizar el del padre
+ * al retornar de cada llamada.
+ *
+ * Las componentes se numeran en el orden en que terminan, que es un orden
+ * topológico inverso, como en TarjanIterativo.
+ */
+public class GabowIterativo implements AlgoritmoDeComponentes {
+
+    // Adyacencias del grafo en forma CSR
+    private int[]   inicio;
+    private int[]   destinos;
+    private int     nNodos;
+
+    /**
+     * Indice (orden de descubrimiento) de cada nodo, -1 si no se ha visitado
+     */
+    private int[]   indice;
+
+    /**
+     * Pila de llamadas simulada: nodo en cada nivel, y la posición en
+     * this.destinos del próximo sucesor por revisar en ese nivel.
+     */
+    private int[]   pilaLlamadas;
+    private int[]   proximoArco;
+
+    /**
+     * Pila de nodos sin componente, y su tope
+     */
+    private int[]   pilaNodos;
+    private int     tope;
+
+    /**
+     * Pila de límites: nodos del camino actual que pueden ser raíz de una
+     * componente, y su tope
+     */
+    private int[]   limites;
+    private int     topeLimites;
+
+    /**
+     * Componente de cada nodo, -1 si aún no se le ha asignado
+     */
+    private int[]   comp;
+
+    /**
+     * Numero de componentes halladas
+     */
+    private int     nComponentes;
+
+    // CONSTRUCTOR:
+
+    /**
+     * Crea una nueva instancia de GabowIterativo sobre el digrafo dado. Si el
+     * digrafo no es un DiGraphCSR, se copia una vez a esa representación.
+     * pre: digrafo != null
+     * post: se reserva toda la memoria necesaria para la ejecución.
+     * @param digrafo el grafo a descomponer
+     */
+    public GabowIterativo(DiGraph digrafo) {
+        DiGraphCSR csr = (digrafo instanceof DiGraphCSR ?
+                                    (DiGraphCSR) digrafo :
+                                    new DiGraphCSR(digrafo));
+        this.inicio = csr.getOutStart();
+        this.destinos = csr.getOutTargets();
+        this.nNodos = csr.getNumberOfNodes();
+
+        this.indice = new int[this.nNodos];
+        this.pilaLlamadas = new int[this.nNodos];
+        this.proximoArco = new int[this.nNodos];
+        this.pilaNodos = new int[this.nNodos];
+        this.limites = new int[this.nNodos];
+        this.comp = new int[this.nNodos];
+    }
+
+    // MÉTODOS:
+
+    /**
+     * Calcula las componentes fuertemente conexas del digrafo.
+     * pre: true
+     * post: se devuelve el arreglo de componentes, y
+     * this.getNumeroDeComponentes() indica cuántas hay.
+     * @return arreglo comp, donde comp[v] es la componente del nodo v
+     */
+    public int[] ejecutar() {
+        for (int v = 0; v < this.nNodos; v++) {
+            this.indice[v] = -1;
+            this.comp[v] = -1;
+        }
+        this.tope = 0;
+        this.topeLimites = 0;
+        this.nComponentes = 0;
+
+        int index = 0;
+        for (int raiz = 0; raiz < this.nNodos; raiz++) {
+            if (this.indice[raiz] != -1) {
+                continue;
+            }
+
+            // Se "llama" a gabow(raiz)
+            int nivel = 0;
+            this.pilaLlamadas[0] = raiz;
+            this.proximoArco[0] = this.inicio[raiz];
+            this.indice[raiz] = index++;
+            this.pilaNodos[this.tope++] = raiz;
+            this.limites[this.topeLimites++] = raiz;
+
+            while (0 <= nivel) {
+                int v = this.pilaLlamadas[nivel];
+                int k = this.proximoArco[nivel];
+
+                if (k < this.inicio[v + 1]) {
+                    int w = this.destinos[k];
+                    this.proximoArco[nivel] = k + 1;
+
+                    if (this.indice[w] == -1) {
+                        // Se "llama" a gabow(w)
+                        nivel++;
+                        this.pilaLlamadas[nivel] = w;
+                        this.proximoArco[nivel] = this.inicio[w];
+                        this.indice[w] = index++;
+                        this.pilaNodos[this.tope++] = w;
+                        this.limites[this.topeLimites++] = w;
+                    } else if (this.comp[w] == -1) {
+                        // w está empilado: el ciclo une los límites desde w
+                        int iw = this.indice[w];
+                        while (iw < this.indice[this.limites[
+                                                    this.topeLimites - 1]]) {
+                            this.topeLimites--;
+                        }
+                    }
+                } else {
+                    // Se terminaron los sucesores de v
+                    if (this.limites[this.topeLimites - 1] == v) {
+                        this.topeLimites--;
+                        int w;
+                        do {
+                            w = this.pilaNodos[--this.tope];
+                            this.comp[w] = this.nComponentes;
+                        } while (w != v);
+                        this.nComponentes++;
+                    }
+
+                    // Se "retorna" al nivel anterior
+                    nivel--;
+                }
+            }
+        }
+        return this.comp;
+    }
+
+    /**
+     * Retorna el número de componentes halladas por la última ejecución.
+     * pre: se debe haber llamado a this.ejecutar()
+     * post: se devuelve el número de componentes fuertemente conexas.
+     * @return el número de componentes fuertemente conexas
+     */
+    public int getNumeroDeComponentes() {
+        return this.nComponentes;
+    }
+}
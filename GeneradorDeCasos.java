@@ -0,0 +1,515 @@
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Generador de archivos de entrada aleatorios en el formato que lee Main,
+ * para pruebas de carga y de regresión.
+ *
+ * Cada caso se genera sobre una grilla de c calles y a avenidas. Para poder
+ * controlar si los casos tienen solución, primero se escoge al azar una
+ * orientación oculta de cada calle y avenida:
+ *
+ *  - en un caso "satisfacible" todos los viajes se pueden hacer con esa
+ *    orientación, así que el caso tiene solución;
+ *  - en un caso "no satisfacible" se agregan además, en posiciones al azar,
+ *    3 o 4 viajes de dos caminos (ver CONTRADICCIONES) que ninguna
+ *    orientación satisface a la vez. Como ninguno recorre una sola calle o
+ *    avenida, no producen literales solos; los demás viajes del caso también
+ *    son de dos caminos, pues los literales solos se propagarían hasta la
+ *    contradicción antes de construir el grafo. Así la contradicción sólo
+ *    aparece en el grafo de implicaciones, como un literal y su complemento
+ *    en la misma componente fuertemente conexa, y el caso pasa por todas las
+ *    etapas de la resolución. Los viajes se ubican en calles y avenidas escogidas al
+ *    azar, respetando su orden o invirtiéndolo. Se necesita una grilla de al
+ *    menos 2 x 3 o 3 x 2; en una más pequeña, o con menos viajes que los de
+ *    la contradicción, el caso queda satisfacible.
+ *
+ * Con la opción -opuestos, la contradicción son en cambio dos viajes opuestos
+ * por una misma calle (o avenida): sirve en grillas más pequeñas, pero se
+ * detecta como un choque de literales solos al construir las cláusulas, sin
+ * llegar al grafo de implicaciones.
+ *
+ * Así la respuesta de cada caso se conoce por construcción, sin resolverlo,
+ * y las respuestas de -respuestas sirven para detectar errores del
+ * solucionador.
+ *
+ * El archivo se escribe a medida que se genera, con un buffer de bytes y sin
+ * crear Strings, así que puede producir archivos de varios GB con memoria
+ * constante.
+ *
+ * USO:
+ *
+ *     java GeneradorDeCasos [opciones] archivo_salida.input
+ *
+ * donde las opciones son:
+ *
+ *   -casos=N         número de casos (1 por defecto)
+ *   -calles=C        número de calles de cada caso (10 por defecto)
+ *   -avenidas=A      número de avenidas de cada caso (10 por defecto)
+ *   -viajes=P        número de viajes de cada caso (100 por defecto)
+ *   -semilla=S       semilla del generador aleatorio (0 por defecto)
+ *   -sesgo=F         fracción de casos satisfacibles, entre 0 y 1 (0.5 por
+ *                    defecto)
+ *   -respuestas=ARCH escribe en ARCH las respuestas correctas, conocidas por
+ *                    construcción, en el formato de salida de Main
+ *   -opuestos        hace insatisfacibles los casos con dos viajes opuestos
+ *                    por una misma calle o avenida
+ */
+public class GeneradorDeCasos {
+
+    /**
+     * Conjuntos de viajes de dos caminos (ca1, av1, ca2, av2) que ninguna
+     * orientación satisface, para grillas de 3 x 3, 2 x 3 y 3 x 2. El primero
+     * son tres viajes desde tres esquinas hacia el centro; siguen siendo
+     * insatisfacibles al invertir el orden de las calles o de las avenidas.
+     */
+    private static final int[][] CONTRADICCIONES = {
+        { 1, 1, 2, 2,   1, 3, 2, 2,   3, 1, 2, 2 },
+        { 1, 1, 2, 2,   1, 2, 2, 3,   2, 1, 1, 2,   2, 3, 1, 2 },
+        { 1, 1, 2, 2,   2, 1, 3, 2,   1, 2, 2, 1,   3, 2, 2, 1 }
+    };
+
+    // Modelo de representación:
+
+    private int                     nCasos;
+    private int                     c;
+    private int                     a;
+    private int                     p;
+    private double                  sesgo;
+    private Random                  azar;
+
+    // Archivo de entrada que se genera, y su buffer de escritura
+    private FileChannel             canal;
+    private ByteBuffer              buffer;
+
+    // Escritor de las respuestas; null si no se piden
+    private EscritorDeRespuestas    respuestas;
+
+    // Orientación oculta de cada calle (true: W-E) y avenida (true: N-S)
+    private boolean[]               calle;
+    private boolean[]               avenida;
+
+    // Si la contradicción son dos viajes opuestos por una misma calle
+    private boolean                 opuestos;
+
+    // Viajes (ca1, av1, ca2, av2) de la contradicción del caso en curso, su
+    // número y sus posiciones entre los viajes del caso
+    private int[]                   contradiccion;
+    private int                     nContradiccion;
+    private int[]                   posiciones;
+
+    // Calles y avenidas de la grilla donde se ubica la contradicción
+    private int[]                   calles;
+    private int[]                   avenidas;
+
+    // CONSTRUCTOR:
+
+    /**
+     * Crea un generador con los parámetros dados.
+     * pre: 0 &lt;= nCasos; 0 &lt; c; 0 &lt; a; 0 &lt;= p; 0 &lt;= sesgo &lt;= 1
+     * post: el generador está listo para escribir los casos.
+     * @param nCasos número de casos
+     * @param c número de calles de cada caso
+     * @param a número de avenidas de cada caso
+     * @param p número de viajes de cada caso
+     * @param semilla semilla del generador aleatorio
+     * @param sesgo fracción de casos satisfacibles
+     */
+    public GeneradorDeCasos(int nCasos, int c, int a, int p, long semilla,
+                            double sesgo)
+    {
+        this.nCasos = nCasos;
+        this.c = c;
+        this.a = a;
+        this.p = p;
+        this.sesgo = sesgo;
+        this.azar = new Random(semilla);
+        this.calle = new boolean[c + 1];
+        this.avenida = new boolean[a + 1];
+        this.opuestos = false;
+        this.contradiccion = new int[16];
+        this.posiciones = new int[4];
+        this.calles = new int[3];
+        this.avenidas = new int[3];
+        this.buffer = ByteBuffer.allocate(EscritorConBuffer.TAM_BUFFER);
+    }
+
+    // MÉTODOS:
+
+    /**
+     * Establece si los casos no satisfacibles se construyen con dos viajes
+     * opuestos por una misma calle o avenida, en lugar de viajes de dos
+     * caminos.
+     * pre: true
+     * post: this.opuestos == opuestos
+     * @param opuestos true para usar viajes opuestos
+     */
+    public void setViajesOpuestos(boolean opuestos) {
+        this.opuestos = opuestos;
+    }
+
+    /**
+     * Genera todos los casos en el archivo {@code archivoEntrada}, y sus
+     * respuestas en {@code archivoRespuestas} si no es null.
+     * pre: archivoEntrada != null
+     * post: los archivos quedan escritos y cerrados.
+     * @param archivoEntrada nombre del archivo .input a generar
+     * @param archivoRespuestas nombre del archivo .output a generar, o null
+     * @throws IOException si ocurre un error al escribir
+     */
+    public void generar(String archivoEntrada, String archivoRespuestas)
+                                                        throws IOException
+    {
+        this.canal = new FileOutputStream(archivoEntrada).getChannel();
+        if (archivoRespuestas != null) {
+            this.respuestas = new EscritorDeRespuestas(
+                    new FileOutputStream(archivoRespuestas).getChannel());
+        }
+
+        try {
+            this.escribirEntero(this.nCasos);
+            this.escribirByte('\n');
+            for (int k = 0; k < this.nCasos; k++) {
+                this.generarCaso();
+            }
+            this.vaciar();
+        } finally {
+            this.canal.close();
+            if (this.respuestas != null) {
+                this.respuestas.close();
+            }
+        }
+    }
+
+    /**
+     * Genera y escribe un caso, con su respuesta si se piden.
+     * @throws IOException si ocurre un error al escribir
+     */
+    private void generarCaso() throws IOException {
+        for (int i = 1; i <= this.c; i++) {
+            this.calle[i] = this.azar.nextBoolean();
+        }
+        for (int j = 1; j <= this.a; j++) {
+            this.avenida[j] = this.azar.nextBoolean();
+        }
+
+        boolean satisfacible = (this.azar.nextDouble() < this.sesgo);
+        this.nContradiccion = 0;
+        if (!satisfacible) {
+            if (this.opuestos) {
+                this.escogerOpuestos();
+            } else {
+                this.escogerContradiccion();
+            }
+            satisfacible = (this.nContradiccion == 0);
+        }
+
+        this.escribirEntero(this.c);
+        this.escribirByte(' ');
+        this.escribirEntero(this.a);
+        this.escribirByte(' ');
+        this.escribirEntero(this.p);
+        this.escribirByte('\n');
+
+        // Posiciones al azar, distintas, de los viajes de la contradicción
+        for (int k = 0; k < this.nContradiccion; k++) {
+            boolean repetida;
+            do {
+                this.posiciones[k] = this.azar.nextInt(this.p);
+                repetida = false;
+                for (int j = 0; j < k; j++) {
+                    repetida |= (this.posiciones[j] == this.posiciones[k]);
+                }
+            } while (repetida);
+        }
+
+        for (int i = 0; i < this.p; i++) {
+            int k = 0;
+            while (k < this.nContradiccion && this.posiciones[k] != i) {
+                k++;
+            }
+            if (k < this.nContradiccion) {
+                this.escribirViaje(this.contradiccion[4 * k],
+                                   this.contradiccion[4 * k + 1],
+                                   this.contradiccion[4 * k + 2],
+                                   this.contradiccion[4 * k + 3]);
+            } else {
+                this.generarViaje(!satisfacible && !this.opuestos);
+            }
+        }
+
+        if (this.respuestas != null) {
+            this.respuestas.escribir(satisfacible);
+        }
+    }
+
+    /**
+     * Escoge uno de los conjuntos de CONTRADICCIONES que quepa en la grilla y
+     * lo ubica en calles y avenidas al azar, guardando sus viajes en
+     * this.contradiccion.
+     * post: this.nContradiccion es el número de viajes escogidos, o 0 si la
+     * grilla es menor que 2 x 3 y 3 x 2, o si no hay suficientes viajes.
+     */
+    private void escogerContradiccion() {
+        int[] viajes;
+        int nCalles;
+        int nAvenidas;
+        if (3 <= this.c && 3 <= this.a) {
+            viajes = CONTRADICCIONES[0];
+            nCalles = 3;
+            nAvenidas = 3;
+        } else if (2 <= this.c && 3 <= this.a) {
+            viajes = CONTRADICCIONES[1];
+            nCalles = 2;
+            nAvenidas = 3;
+        } else if (3 <= this.c && 2 <= this.a) {
+            viajes = CONTRADICCIONES[2];
+            nCalles = 3;
+            nAvenidas = 2;
+        } else {
+            return;
+        }
+        if (this.p < viajes.length / 4) {
+            return;
+        }
+
+        this.escogerLineas(this.calles, nCalles, this.c);
+        this.escogerLineas(this.avenidas, nAvenidas, this.a);
+        for (int k = 0; k < viajes.length; k += 2) {
+            this.contradiccion[k] = this.calles[viajes[k] - 1];
+            this.contradiccion[k + 1] = this.avenidas[viajes[k + 1] - 1];
+        }
+        this.nContradiccion = viajes.length / 4;
+    }
+
+    /**
+     * Escoge n líneas distintas entre 1 y total y las guarda en lineas[0 ..
+     * n - 1], en orden creciente o, al azar, decreciente.
+     * pre: 0 &lt; n &lt;= total; n &lt;= lineas.length
+     * @param lineas donde se guardan las líneas
+     * @param n número de líneas a escoger
+     * @param total número de calles o de avenidas de la grilla
+     */
+    private void escogerLineas(int[] lineas, int n, int total) {
+        for (int k = 0; k < n; k++) {
+            boolean repetida;
+            do {
+                lineas[k] = 1 + this.azar.nextInt(total);
+                repetida = false;
+                for (int j = 0; j < k; j++) {
+                    repetida |= (lineas[j] == lineas[k]);
+                }
+            } while (repetida);
+        }
+        Arrays.sort(lineas, 0, n);
+        if (this.azar.nextBoolean()) {
+            for (int i = 0, j = n - 1; i < j; i++, j--) {
+                int t = lineas[i];
+                lineas[i] = lineas[j];
+                lineas[j] = t;
+            }
+        }
+    }
+
+    /**
+     * Escoge dos viajes opuestos por una misma calle, o por una misma avenida
+     * si hay una sola avenida, y los guarda en this.contradiccion. Juntos
+     * hacen que el caso no tenga solución.
+     * post: this.nContradiccion es 2, o 0 si la grilla es de 1 x 1 o hay
+     * menos de dos viajes.
+     */
+    private void escogerOpuestos() {
+        if (this.p < 2 || (this.c < 2 && this.a < 2)) {
+            return;
+        }
+        int ca1, av1, ca2, av2;
+        if (2 <= this.a) {
+            ca1 = ca2 = 1 + this.azar.nextInt(this.c);
+            av1 = 1 + this.azar.nextInt(this.a);
+            do {
+                av2 = 1 + this.azar.nextInt(this.a);
+            } while (av2 == av1);
+        } else {
+            av1 = av2 = 1 + this.azar.nextInt(this.a);
+            ca1 = 1 + this.azar.nextInt(this.c);
+            do {
+                ca2 = 1 + this.azar.nextInt(this.c);
+            } while (ca2 == ca1);
+        }
+        int[] viajes = { ca1, av1, ca2, av2,   ca2, av2, ca1, av1 };
+        System.arraycopy(viajes, 0, this.contradiccion, 0, 8);
+        this.nContradiccion = 2;
+    }
+
+    /**
+     * Genera y escribe un viaje del caso en curso que respeta la orientación
+     * oculta por alguno de sus dos caminos.
+     * pre: si dosCaminos, 2 &lt;= this.c y 2 &lt;= this.a
+     * @param dosCaminos si el viaje debe cambiar de calle y de avenida
+     * @throws IOException si ocurre un error al escribir
+     */
+    private void generarViaje(boolean dosCaminos) throws IOException {
+        int ca1, av1, ca2, av2;
+        do {
+            ca1 = 1 + this.azar.nextInt(this.c);
+            av1 = 1 + this.azar.nextInt(this.a);
+            ca2 = 1 + this.azar.nextInt(this.c);
+            av2 = 1 + this.azar.nextInt(this.a);
+        } while (!this.posible(ca1, av1, ca2, av2)
+                    || (dosCaminos && (ca1 == ca2 || av1 == av2)));
+        this.escribirViaje(ca1, av1, ca2, av2);
+    }
+
+    /**
+     * Escribe el viaje de (ca1, av1) a (ca2, av2) en una línea.
+     * @throws IOException si ocurre un error al escribir
+     */
+    private void escribirViaje(int ca1, int av1, int ca2, int av2)
+                                                        throws IOException
+    {
+        this.escribirEntero(ca1);
+        this.escribirByte(' ');
+        this.escribirEntero(av1);
+        this.escribirByte(' ');
+        this.escribirEntero(ca2);
+        this.escribirByte(' ');
+        this.escribirEntero(av2);
+        this.escribirByte('\n');
+    }
+
+    /**
+     * Determina si el viaje de (ca1, av1) a (ca2, av2) se puede hacer con la
+     * orientación oculta, por alguno de sus dos caminos con un solo cruce.
+     * @return true si alguno de los dos caminos respeta la orientación
+     */
+    private boolean posible(int ca1, int av1, int ca2, int av2) {
+        // Por la calle ca1 hasta la avenida av2, y luego por ésta
+        boolean primero = GeneradorDeCasos.sentido(this.calle[ca1], av1, av2)
+                && GeneradorDeCasos.sentido(this.avenida[av2], ca1, ca2);
+        // Por la avenida av1 hasta la calle ca2, y luego por ésta
+        boolean segundo = GeneradorDeCasos.sentido(this.avenida[av1], ca1, ca2)
+                && GeneradorDeCasos.sentido(this.calle[ca2], av1, av2);
+        return primero || segundo;
+    }
+
+    /**
+     * Determina si se puede ir de desde a hasta por una vía con la
+     * orientación dada (true: en el sentido en que crecen los índices).
+     */
+    private static boolean sentido(boolean creciente, int desde, int hasta) {
+        return (desde == hasta) || ((desde < hasta) == creciente);
+    }
+
+    /**
+     * Escribe un entero no negativo en decimal, sin crear un String.
+     * @param n el entero
+     * @throws IOException si ocurre un error al escribir
+     */
+    private void escribirEntero(int n) throws IOException {
+        if (this.buffer.remaining() < 11) {
+            this.vaciar();
+        }
+        int inicio = this.buffer.position();
+        do {
+            this.buffer.put((byte) ('0' + n % 10));
+            n /= 10;
+        } while (n != 0);
+
+        // Los dígitos quedaron al revés
+        byte[] bytes = this.buffer.array();
+        for (int i = inicio, j = this.buffer.position() - 1; i < j; i++, j--) {
+            byte b = bytes[i];
+            bytes[i] = bytes[j];
+            bytes[j] = b;
+        }
+    }
+
+    /**
+     * Escribe un byte.
+     * @param b el byte
+     * @throws IOException si ocurre un error al escribir
+     */
+    private void escribirByte(char b) throws IOException {
+        if (!this.buffer.hasRemaining()) {
+            this.vaciar();
+        }
+        this.buffer.put((byte) b);
+    }
+
+    /**
+     * Escribe en el archivo el contenido del buffer.
+     * @throws IOException si ocurre un error al escribir
+     */
+    private void vaciar() throws IOException {
+        this.buffer.flip();
+        while (this.buffer.hasRemaining()) {
+            this.canal.write(this.buffer);
+        }
+        this.buffer.clear();
+    }
+
+    /**
+     * Programa principal del generador. Ver la documentación de la clase.
+     * @param args las opciones y el nombre del archivo a generar
+     * @throws IOException si ocurre un error al escribir, o un error en los
+     * argumentos
+     */
+    public static void main(String[] args) throws IOException {
+        int nCasos = 1;
+        int c = 10;
+        int a = 10;
+        int p = 100;
+        long semilla = 0;
+        double sesgo = 0.5;
+        String archivoRespuestas = null;
+        boolean opuestos = false;
+        boolean error = (args.length < 1);
+
+        try {
+            for (int i = 0; i < args.length - 1 && !error; i++) {
+                String arg = args[i];
+                String valor = arg.substring(arg.indexOf('=') + 1);
+                if (arg.startsWith("-casos=")) {
+                    nCasos = Integer.parseInt(valor);
+                } else if (arg.startsWith("-calles=")) {
+                    c = Integer.parseInt(valor);
+                } else if (arg.startsWith("-avenidas=")) {
+                    a = Integer.parseInt(valor);
+                } else if (arg.startsWith("-viajes=")) {
+                    p = Integer.parseInt(valor);
+                } else if (arg.startsWith("-semilla=")) {
+                    semilla = Long.parseLong(valor);
+                } else if (arg.startsWith("-sesgo=")) {
+                    sesgo = Double.parseDouble(valor);
+                } else if (arg.startsWith("-respuestas=")) {
+                    archivoRespuestas = valor;
+                } else if (arg.equals("-opuestos")) {
+                    opuestos = true;
+                } else {
+                    error = true;
+                }
+            }
+        } catch (NumberFormatException nfe) {
+            error = true;
+        }
+        error = error || nCasos < 0 || c < 1 || a < 1 || p < 0 ||
+                sesgo < 0 || 1 < sesgo;
+
+        if (error) {
+            throw new ExcepcionFormatoIncorrecto("Error de sintaxis en la " +
+                    "llamada del programa.\n\nUSO:\n\n\tjava GeneradorDeCasos " +
+                    "[-casos=N] [-calles=C] [-avenidas=A] [-viajes=P] " +
+                    "[-semilla=S] [-sesgo=F] [-respuestas=ARCH] [-opuestos] " +
+                    "archivo_salida.input\n\n");
+        }
+
+        GeneradorDeCasos generador =
+                new GeneradorDeCasos(nCasos, c, a, p, semilla, sesgo);
+        generador.setViajesOpuestos(opuestos);
+        generador.generar(args[args.length - 1], archivoRespuestas);
+    }
+}
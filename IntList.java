@@ -0,0 +1,187 @@
+import java.util.Arrays;
+
+/**
+ * Lista de enteros primitivos guardados en un arreglo que crece al doble
+ * cuando se llena. Cumple el papel de una List(Integer) en los recorridos de
+ * grafos, pero sin crear un objeto Integer por cada nodo.
+ *
+ * @version 1.0
+ * @since 1.6
+ */
+public class IntList {
+
+    // Modelo de representación:
+    protected int[] elems;
+    protected int   tam;
+
+    // Constructores:
+
+    /**
+     * Construye una lista vacia.
+     * pre: {@code true;}
+     * post: {@code this.isEmpty();}
+     */
+    public IntList() {
+        this(8);
+    }
+
+    /**
+     * Construye una lista vacia con espacio para {@code capacidad} elementos
+     * sin necesidad de crecer.
+     * pre: {@code 0 <= capacidad;}
+     * post: {@code this.isEmpty();}
+     * @param capacidad número de elementos que se espera almacenar
+     */
+    public IntList(int capacidad) {
+        this.elems = new int[Math.max(capacidad, 1)];
+        this.tam = 0;
+    }
+
+    // MÉTODOS:
+
+    /**
+     * Agrega <i>element</i> al final de la lista.
+     * pre: {@code true;}
+     * post: {@code this.get(this.size()-1) == element;}
+     * @param element el entero a agregar
+     */
+    public void add(int element) {
+        if (this.tam == this.elems.length) {
+            this.elems = Arrays.copyOf(this.elems, 2 * this.tam);
+        }
+        this.elems[this.tam++] = element;
+    }
+
+    /**
+     * Vacia la lista, conservando el espacio reservado.
+     * pre: {@code true;}
+     * post: {@code this.isEmpty();}
+     */
+    public void clear() {
+        this.tam = 0;
+    }
+
+    /**
+     * Permite saber si la lista contiene el entero {@code x}.
+     * pre: {@code true;}
+     * post: el resultado es true si {@code x} esta en esta lista, false en caso
+     * contrario.
+     * @param x entero a consultar
+     * @return true si {@code x} esta en esta lista, false en caso contrario.
+     */
+    public boolean contains(int x) {
+        return (0 <= this.indexOf(x));
+    }
+
+    /**
+     * Devuelve el entero en la posicion {@code index} de la lista.
+     * pre: {@code 0 <= index < this.size();}
+     * post: el resultado es el entero en la posicion {@code index}
+     * @param index posicion del entero a devolver.
+     * @return el entero en la posicion {@code index}
+     * @throws IndexOutOfBoundsException si {@code index} esta fuera de la lista
+     */
+    public int get(int index) {
+        if (index < 0 || this.tam <= index) {
+            throw new IndexOutOfBoundsException("Posicion " + index +
+                    " fuera de la lista de tamaño " + this.tam);
+        }
+        return this.elems[index];
+    }
+
+    /**
+     * Elimina el entero en la posicion {@code index} de la lista, desplazando
+     * los siguientes una posicion hacia el principio.
+     * pre: {@code 0 <= index < this.size();}
+     * post: la lista tiene un elemento menos, y conserva el orden de los demas
+     * @param index posicion del entero a eliminar
+     * @return el entero eliminado
+     * @throws IndexOutOfBoundsException si {@code index} esta fuera de la lista
+     */
+    public int remove(int index) {
+        int x = this.get(index);
+        System.arraycopy(this.elems, index + 1, this.elems, index,
+                         this.tam - index - 1);
+        this.tam--;
+        return x;
+    }
+
+    /**
+     * Reemplaza el entero en la posicion {@code index} de la lista.
+     * pre: {@code 0 <= index < this.size();}
+     * post: {@code this.get(index) == element;}
+     * @param index posicion a reemplazar
+     * @param element el nuevo entero
+     * @throws IndexOutOfBoundsException si {@code index} esta fuera de la lista
+     */
+    public void set(int index, int element) {
+        if (index < 0 || this.tam <= index) {
+            throw new IndexOutOfBoundsException("Posicion " + index +
+                    " fuera de la lista de tamaño " + this.tam);
+        }
+        this.elems[index] = element;
+    }
+
+    /**
+     * Determina la posicion del entero <i>x</i> en la lista
+     * pre: {@code true;}
+     * post: si el entero esta en la lista retorna su primera posicion, en
+     * caso contario retorna -1
+     * @param x el entero
+     * @return la primera posicion de x, o -1 si no esta
+     */
+    public int indexOf(int x) {
+        for (int k = 0; k < this.tam; k++) {
+            if (this.elems[k] == x) {
+                return k;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Determina si la lista no tiene elementos.
+     * pre: {@code true;}
+     * post: el resultado es true si size() &eq; 0. falso en caso contrario
+     * @return true si size() &eq; 0. falso en caso contrario
+     */
+    public boolean isEmpty() {
+        return (this.tam == 0);
+    }
+
+    /**
+     * Retorna el numero de elementos en la lista.
+     * pre: {@code true;}
+     * post: el resultado es el numero de elementos en la lista
+     * @return el numero de elementos en la lista
+     */
+    public int size() {
+        return this.tam;
+    }
+
+    /**
+     * Retorna un nuevo arreglo con los enteros de la lista, en orden.
+     * pre: {@code true;}
+     * post: el resultado tiene {@code this.size()} posiciones.
+     * @return un arreglo con los enteros contenidos en la lista
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(this.elems, this.tam);
+    }
+
+    /**
+     * Retorna la representacion en String de esta lista: cada entero seguido
+     * de un salto de linea, como en Lista.
+     * pre: {@code true;}
+     * post: true
+     * @return la representacion en String de esta lista
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int k = 0; k < this.tam; k++) {
+            sb.append(this.elems[k]).append('\n');
+        }
+        return sb.toString();
+    }
+}
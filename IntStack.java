@@ -0,0 +1,81 @@
+import java.util.EmptyStackException;
+
+/**
+ * Pila de enteros primitivos. Extiende IntList como Stack extiende Lista: el
+ * tope de la pila es el último elemento de la lista.
+ *
+ * @see IntList, Stack
+ */
+public class IntStack extends IntList {
+
+    // CONSTRUCTORES:
+
+    /**
+     * Construye una pila vacia.
+     * pre: true
+     * post: {@code this.empty();}
+     */
+    public IntStack() {
+        super();
+    }
+
+    /**
+     * Construye una pila vacia con espacio para {@code capacidad} elementos.
+     * pre: {@code 0 <= capacidad;}
+     * post: {@code this.empty();}
+     * @param capacidad número de elementos que se espera empilar
+     */
+    public IntStack(int capacidad) {
+        super(capacidad);
+    }
+
+    // MÉTODOS:
+
+    /**
+     * Se comporta exactamente igual que isEmpty()
+     * @return true si y solo si esta pila está vacía, false en caso contrario
+     */
+    public boolean empty() {
+        return (this.tam == 0);
+    }
+
+    /**
+     * Muestra el entero en el tope de la pila, sin removerlo de ésta.
+     * <b>Pre</b>: {@code !this.empty()}
+     * <b>Post</b>: se devuelve el entero en el tope, sin alterar la pila.
+     * @return el entero en el tope de la pila
+     * @throws EmptyStackException si la pila está vacía
+     */
+    public int peek() {
+        if (this.tam == 0) {
+            throw new EmptyStackException();
+        }
+        return this.elems[this.tam - 1];
+    }
+
+    /**
+     * Remueve el entero en el tope de esta pila, y lo devuelve.
+     * <b>Pre</b>: {@code !this.empty()}
+     * <b>Post</b>: se elimina el entero en el tope y se devuelve.
+     * @return el entero que estaba en el tope de la pila
+     * @throws EmptyStackException si la pila está vacía
+     */
+    public int pop() {
+        if (this.tam == 0) {
+            throw new EmptyStackException();
+        }
+        return this.elems[--this.tam];
+    }
+
+    /**
+     * Empila el entero {@code item}.
+     * <b>Pre</b>: true
+     * <b>Post</b>: {@code this.peek() == item}
+     * @param item El entero a empilar.
+     * @return El entero empilado {@code item}
+     */
+    public int push(int item) {
+        this.add(item);
+        return item;
+    }
+}
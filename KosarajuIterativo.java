@@ -0,0 +1,162 @@
+/**
+ * Versión iterativa del algoritmo de Kosaraju para hallar las componentes
+ * fuertemente conexas de un digrafo, sobre los arreglos de un DiGraphCSR.
+ *
+ * Se hacen dos búsquedas en profundidad. La primera recorre el grafo
+ * transpuesto (el índice inverso del DiGraphCSR) y anota los nodos en el
+ * orden en que terminan. La segunda recorre el grafo original, tomando como
+ * raíces los nodos en el orden inverso al de terminación: cada raíz aún sin
+ * componente alcanza exactamente los nodos de su componente. Como la primera
+ * búsqueda es sobre el transpuesto, la primera raíz está en una componente
+ * sumidero del grafo original, y las componentes quedan numeradas en orden
+ * topológico inverso, como en TarjanIterativo.
+ *
+ * Hace el doble de recorridos que Tarjan, y necesita el índice inverso, pero
+ * cada uno es más simple: la segunda búsqueda no necesita pila de llamadas
+ * ni lowLink.
+ */
+public class KosarajuIterativo implements AlgoritmoDeComponentes {
+
+    // Adyacencias del grafo y de su transpuesto en forma CSR
+    private int[]   inicio;
+    private int[]   destinos;
+    private int[]   inicioInverso;
+    private int[]   fuentes;
+    private int     nNodos;
+
+    /**
+     * Nodos en el orden en que terminan en la búsqueda sobre el transpuesto
+     */
+    private int[]   orden;
+
+    /**
+     * Pila de llamadas simulada de la primera búsqueda: nodo en cada nivel,
+     * y la posición en this.fuentes del próximo predecesor por revisar. La
+     * segunda búsqueda usa pilaLlamadas como pila de nodos por visitar.
+     */
+    private int[]   pilaLlamadas;
+    private int[]   proximoArco;
+
+    /**
+     * Marca de la primera búsqueda
+     */
+    private boolean[] visitado;
+
+    /**
+     * Componente de cada nodo, -1 si aún no se le ha asignado
+     */
+    private int[]   comp;
+
+    /**
+     * Numero de componentes halladas
+     */
+    private int     nComponentes;
+
+    // CONSTRUCTOR:
+
+    /**
+     * Crea una nueva instancia de KosarajuIterativo sobre el digrafo dado. Si
+     * el digrafo no es un DiGraphCSR, se copia una vez a esa representación.
+     * pre: digrafo != null
+     * post: se reserva toda la memoria necesaria para la ejecución.
+     * @param digrafo el grafo a descomponer
+     */
+    public KosarajuIterativo(DiGraph digrafo) {
+        DiGraphCSR csr = (digrafo instanceof DiGraphCSR ?
+                                    (DiGraphCSR) digrafo :
+                                    new DiGraphCSR(digrafo));
+        this.inicio = csr.getOutStart();
+        this.destinos = csr.getOutTargets();
+        this.inicioInverso = csr.getInStart();
+        this.fuentes = csr.getInSources();
+        this.nNodos = csr.getNumberOfNodes();
+
+        this.orden = new int[this.nNodos];
+        this.pilaLlamadas = new int[this.nNodos];
+        this.proximoArco = new int[this.nNodos];
+        this.visitado = new boolean[this.nNodos];
+        this.comp = new int[this.nNodos];
+    }
+
+    // MÉTODOS:
+
+    /**
+     * Calcula las componentes fuertemente conexas del digrafo.
+     * pre: true
+     * post: se devuelve el arreglo de componentes, y
+     * this.getNumeroDeComponentes() indica cuántas hay.
+     * @return arreglo comp, donde comp[v] es la componente del nodo v
+     */
+    public int[] ejecutar() {
+        for (int v = 0; v < this.nNodos; v++) {
+            this.visitado[v] = false;
+            this.comp[v] = -1;
+        }
+        this.nComponentes = 0;
+
+        // Primera búsqueda, sobre el transpuesto
+        int terminados = 0;
+        for (int raiz = 0; raiz < this.nNodos; raiz++) {
+            if (this.visitado[raiz]) {
+                continue;
+            }
+            int nivel = 0;
+            this.pilaLlamadas[0] = raiz;
+            this.proximoArco[0] = this.inicioInverso[raiz];
+            this.visitado[raiz] = true;
+
+            while (0 <= nivel) {
+                int v = this.pilaLlamadas[nivel];
+                int k = this.proximoArco[nivel];
+
+                if (k < this.inicioInverso[v + 1]) {
+                    int w = this.fuentes[k];
+                    this.proximoArco[nivel] = k + 1;
+                    if (!this.visitado[w]) {
+                        nivel++;
+                        this.pilaLlamadas[nivel] = w;
+                        this.proximoArco[nivel] = this.inicioInverso[w];
+                        this.visitado[w] = true;
+                    }
+                } else {
+                    this.orden[terminados++] = v;
+                    nivel--;
+                }
+            }
+        }
+
+        // Segunda búsqueda, sobre el original, en orden inverso de término
+        for (int i = this.nNodos - 1; 0 <= i; i--) {
+            int raiz = this.orden[i];
+            if (this.comp[raiz] != -1) {
+                continue;
+            }
+            int tope = 0;
+            this.pilaLlamadas[tope++] = raiz;
+            this.comp[raiz] = this.nComponentes;
+
+            while (0 < tope) {
+                int v = this.pilaLlamadas[--tope];
+                for (int k = this.inicio[v]; k < this.inicio[v + 1]; k++) {
+                    int w = this.destinos[k];
+                    if (this.comp[w] == -1) {
+                        this.comp[w] = this.nComponentes;
+                        this.pilaLlamadas[tope++] = w;
+                    }
+                }
+            }
+            this.nComponentes++;
+        }
+        return this.comp;
+    }
+
+    /**
+     * Retorna el número de componentes halladas por la última ejecución.
+     * pre: se debe haber llamado a this.ejecutar()
+     * post: se devuelve el número de componentes fuertemente conexas.
+     * @return el número de componentes fuertemente conexas
+     */
+    public int getNumeroDeComponentes() {
+        return this.nComponentes;
+    }
+}
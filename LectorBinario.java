@@ -0,0 +1,238 @@
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Lector de archivos de entrada en formato binario compacto, generados por
+ * ConvertidorBinario. Como no hay texto que convertir dígito a dígito, leer
+ * un archivo binario es mucho más rápido que leer el archivo de texto
+ * equivalente, y el archivo ocupa menos de la mitad.
+ *
+ * FORMATO:
+ *
+ * El archivo comienza con los 4 bytes de LectorBinario.MAGIA, seguidos del
+ * número de casos. Cada caso se escribe como c, a y p, seguidos de los 4
+ * enteros de cada uno de sus p viajes, en el mismo orden que en el archivo
+ * de texto. Cada entero se codifica como un varint: se pasa primero a
+ * zigzag (0, -1, 1, -2, ... se vuelven 0, 1, 2, 3, ...) y luego se escribe en
+ * grupos de 7 bits, del menos significativo al más significativo, con el bit
+ * alto de cada byte en 1 si siguen más grupos. Así, las coordenadas de hasta
+ * 63 ocupan un byte, y las de hasta 8191, dos.
+ *
+ * Para que Main pueda usarlo en lugar de un LectorDeEnteros, el lector
+ * devuelve los enteros agrupados en las mismas "líneas" que tendría el
+ * archivo de texto: primero la del número de casos, luego la de c, a y p de
+ * cada caso, seguida de una por viaje.
+ */
+public class LectorBinario extends LectorDeEnteros {
+
+    /**
+     * Bytes con los que comienza todo archivo binario de casos ("VIA" y la
+     * versión del formato).
+     */
+    public static final byte[] MAGIA = {'V', 'I', 'A', 1};
+
+    // Modelo de representación:
+
+    // Número de viajes del caso en curso que faltan por leer; -1 si no se ha
+    // leído la cabecera del archivo
+    private long                    viajesPendientes;
+
+    // Número de la última línea leída, comenzando en 1
+    private int                     numeroDeLinea;
+
+    // Enteros de la última línea leída, para los mensajes de error
+    private int[]                   ultimaLinea;
+    private int                     largoLinea;
+
+    // CONSTRUCTOR:
+
+    /**
+     * Crea un lector sobre el canal {@code canal}, con un buffer de
+     * {@code tamBuffer} bytes.
+     * pre: canal != null && 0 &lt; tamBuffer
+     * post: el lector está posicionado al principio del canal.
+     * @param canal el canal a leer
+     * @param tamBuffer tamaño del buffer de lectura
+     */
+    public LectorBinario(ReadableByteChannel canal, int tamBuffer) {
+        super(canal, tamBuffer);
+        this.viajesPendientes = -1;
+        this.numeroDeLinea = 0;
+        this.ultimaLinea = new int[4];
+        this.largoLinea = 0;
+    }
+
+    // MÉTODOS:
+
+    /**
+     * Lee la siguiente "línea" del archivo binario: el número de casos, la
+     * cabecera c a p de un caso, o un viaje, según lo que corresponda.
+     * pre: destino != null
+     * post: las primeras min(resultado, destino.length) posiciones de destino
+     * contienen los enteros de la línea.
+     * @param destino arreglo donde se guardan los enteros de la línea
+     * @return el número de enteros de la línea, o -1 si ya no quedan líneas
+     * @throws IOException si ocurre un error de lectura, si el archivo no
+     * comienza con LectorBinario.MAGIA o si termina a mitad de una línea
+     */
+    public int leerLinea(int[] destino) throws IOException {
+        int nElementos;
+        if (this.viajesPendientes < 0) {
+            this.leerMagia();
+            nElementos = 1;
+            this.viajesPendientes = 0;
+        } else if (0 < this.viajesPendientes) {
+            nElementos = 4;
+            this.viajesPendientes--;
+        } else {
+            nElementos = 3;
+        }
+
+        if (!this.buffer.hasRemaining() && !this.recargar()) {
+            return -1;
+        }
+        this.numeroDeLinea++;
+        for (int i = 0; i < nElementos; i++) {
+            int valor = this.leerVarint();
+            this.ultimaLinea[i] = valor;
+            if (i < destino.length) {
+                destino[i] = valor;
+            }
+        }
+        this.largoLinea = nElementos;
+
+        if (nElementos == 3) {
+            this.viajesPendientes = Math.max(this.ultimaLinea[2], 0);
+        }
+        return nElementos;
+    }
+
+    /**
+     * Lee de una vez las {@code p} líneas de viajes del caso en curso, sin
+     * pasar por leerLinea, y guarda sus enteros en {@code viajes}, 4 por
+     * viaje. Redefine la lectura línea por línea de LectorDeEnteros: en el
+     * formato binario no hay líneas que validar, y los varints se decodifican
+     * directamente del arreglo del buffer.
+     * pre: la última línea leída fue la cabecera c a p de un caso, y
+     * viajes.length &gt;= 4 * p
+     * post: viajes[0 .. 4p - 1] contiene los viajes del caso.
+     * @param viajes arreglo donde se guardan los viajes
+     * @param p número de viajes del caso
+     * @param caso número del caso, para los mensajes de error
+     * @throws IOException si ocurre un error de lectura, o si el archivo
+     * termina antes del último viaje
+     */
+    public void leerViajes(int[] viajes, int p, int caso) throws IOException {
+        int fin = 4 * p;
+        int primera = this.numeroDeLinea + 1;
+        int i = 0;
+        while (i < fin) {
+            /* Mientras queden en el buffer al menos 5 bytes por entero, ningún
+             * varint puede quedar cortado y se decodifica sin verificar el
+             * límite; el resto se lee con leerVarint.
+             */
+            byte[] bytes = this.buffer.array();
+            int pos = this.buffer.arrayOffset() + this.buffer.position();
+            int seguros = Math.min(fin - i, this.buffer.remaining() / 5);
+            for (int k = 0; k < seguros; k++) {
+                int zigzag = 0;
+                int desplazamiento = 0;
+                byte b;
+                do {
+                    b = bytes[pos++];
+                    zigzag |= (b & 0x7F) << desplazamiento;
+                    desplazamiento += 7;
+                } while (b < 0 && desplazamiento < 35);
+                if (b < 0) {
+                    throw new ExcepcionFormatoIncorrecto("\nProblema " +
+                            "leyendo la linea " + (i / 4 + 2) + " del caso " +
+                            caso + ": Entero mal codificado en el archivo " +
+                            "binario");
+                }
+                viajes[i++] = (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+            this.buffer.position(pos - this.buffer.arrayOffset());
+            if (i < fin) {
+                this.numeroDeLinea = primera + i / 4;
+                viajes[i++] = this.leerVarint();
+            }
+        }
+
+        this.numeroDeLinea = primera + p - 1;
+        this.viajesPendientes = 0;
+        if (0 < p) {
+            System.arraycopy(viajes, fin - 4, this.ultimaLinea, 0, 4);
+            this.largoLinea = 4;
+        }
+    }
+
+    /**
+     * Retorna el número de la última línea leída, comenzando en 1, contando
+     * las líneas como en el archivo de texto equivalente.
+     * pre: true
+     * post: true
+     * @return el número de la última línea leída
+     */
+    public int getNumeroDeLinea() {
+        return this.numeroDeLinea;
+    }
+
+    /**
+     * Retorna los enteros de la última línea leída, separados por espacios,
+     * para los mensajes de error.
+     * pre: true
+     * post: true
+     * @return el texto de la última línea leída
+     */
+    public String getTextoLinea() {
+        StringBuilder texto = new StringBuilder();
+        for (int i = 0; i < this.largoLinea; i++) {
+            if (0 < i) {
+                texto.append(' ');
+            }
+            texto.append(this.ultimaLinea[i]);
+        }
+        return texto.toString();
+    }
+
+    // MÉTODOS PRIVADOS AUXILIARES:
+
+    /**
+     * Verifica que el archivo comience con LectorBinario.MAGIA.
+     * @throws IOException si ocurre un error de lectura o el archivo no es un
+     * archivo binario de casos
+     */
+    private void leerMagia() throws IOException {
+        for (int i = 0; i < MAGIA.length; i++) {
+            if ((!this.buffer.hasRemaining() && !this.recargar())
+                    || this.buffer.get() != MAGIA[i]) {
+                throw new ExcepcionFormatoIncorrecto("\nEl archivo de " +
+                        "entrada no es un archivo binario de casos (ver " +
+                        "ConvertidorBinario)");
+            }
+        }
+    }
+
+    /**
+     * Lee un entero codificado como varint en zigzag.
+     * @return el entero leído
+     * @throws IOException si ocurre un error de lectura, o si el archivo
+     * termina o el varint es demasiado largo para un int
+     */
+    private int leerVarint() throws IOException {
+        int zigzag = 0;
+        for (int desplazamiento = 0; desplazamiento < 35; desplazamiento += 7) {
+            if (!this.buffer.hasRemaining() && !this.recargar()) {
+                throw new ExcepcionFormatoIncorrecto("\nEl archivo binario " +
+                        "termina a mitad de la línea " + this.numeroDeLinea);
+            }
+            byte b = this.buffer.get();
+            zigzag |= (b & 0x7F) << desplazamiento;
+            if (0 <= b) {
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+        }
+        throw new ExcepcionFormatoIncorrecto("\nEntero mal codificado en la " +
+                "línea " + this.numeroDeLinea + " del archivo binario");
+    }
+}
@@ -0,0 +1,317 @@
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Lector de archivos de texto formados por líneas de enteros separados por
+ * espacios, como los archivos de entrada de Main. Lee los bytes del archivo
+ * en un buffer grande que se reutiliza y convierte los dígitos a enteros
+ * directamente, sin crear un String por línea ni un String[] por cada
+ * llamada a split, que era lo que dominaba la lectura de archivos con
+ * millones de viajes.
+ *
+ * Acepta exactamente el formato que aceptaban readLine, split(" ") e
+ * Integer.parseInt: las líneas terminan en '\n', '\r' o "\r\n"; cada
+ * espacio separa dos elementos, así que dos espacios seguidos o un espacio
+ * al comienzo producen un elemento vacío, y los elementos vacíos al final de
+ * la línea no se cuentan; un entero es un '-' opcional seguido de dígitos.
+ * Cualquier otro carácter (un tabulador, un '+') hace que la línea no sea
+ * numérica.
+ *
+ * Para poder reportar errores de formato con el texto de la línea, el lector
+ * guarda una copia acotada de los bytes de la línea en curso en un arreglo
+ * reutilizable; el String sólo se construye si se pide.
+ */
+public class LectorDeEnteros {
+
+    // Tamaño por defecto del buffer de lectura
+    public static final int TAM_BUFFER = 1 << 20;
+
+    // Máximo número de bytes de la línea en curso que se guardan para los
+    // mensajes de error
+    private static final int MAX_TEXTO = 256;
+
+    // Modelo de representación:
+
+    /**
+     * Bytes leídos del archivo que aún no se han procesado, entre
+     * position() y limit().
+     */
+    protected ByteBuffer            buffer;
+
+    // Canal del que se leen los bytes; null si la subclase provee los bytes
+    private ReadableByteChannel     canal;
+
+    // Número de la última línea leída, comenzando en 1
+    private int                     numeroDeLinea;
+
+    // Copia de los primeros bytes de la última línea leída
+    private byte[]                  textoLinea;
+    private int                     largoLinea;
+
+    // Indica si todos los elementos de la última línea eran enteros válidos
+    private boolean                 lineaNumerica;
+
+    // CONSTRUCTORES:
+
+    /**
+     * Crea un lector sobre el canal {@code canal}, con un buffer de
+     * {@code tamBuffer} bytes.
+     * pre: canal != null && 0 &lt; tamBuffer
+     * post: el lector está posicionado al principio del canal.
+     * @param canal el canal a leer
+     * @param tamBuffer tamaño del buffer de lectura
+     */
+    public LectorDeEnteros(ReadableByteChannel canal, int tamBuffer) {
+        this(ByteBuffer.allocate(tamBuffer));
+        this.canal = canal;
+        this.buffer.limit(0);
+    }
+
+    /**
+     * Crea un lector sobre los bytes de {@code buffer}, para las subclases que
+     * proveen los bytes por su cuenta (redefiniendo {@code recargar()}).
+     * pre: buffer != null
+     * post: el lector comienza a leer en buffer.position().
+     * @param buffer los primeros bytes a leer
+     */
+    protected LectorDeEnteros(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.canal = null;
+        this.numeroDeLinea = 0;
+        this.textoLinea = new byte[MAX_TEXTO];
+        this.largoLinea = 0;
+        this.lineaNumerica = true;
+    }
+
+    // MÉTODOS:
+
+    /**
+     * Lee la siguiente línea, guardando sus enteros en {@code destino}. Los
+     * elementos de la línea se separan con un espacio cada uno, como con
+     * split(" "), y la línea termina en '\n', '\r', "\r\n" o en el fin del
+     * archivo.
+     * pre: destino != null
+     * post: las primeras min(resultado, destino.length) posiciones de destino
+     * contienen los enteros de la línea; this.esLineaNumerica() indica si
+     * todos sus elementos eran enteros válidos.
+     * @param destino arreglo donde se guardan los enteros de la línea
+     * @return el número de elementos de la línea, como el largo del arreglo
+     * de split(" ") (aunque no quepan en destino o no sean enteros), o -1 si
+     * ya no quedan líneas
+     * @throws IOException si ocurre un error de lectura
+     */
+    public int leerLinea(int[] destino) throws IOException {
+        if (!this.buffer.hasRemaining() && !this.recargar()) {
+            return -1;
+        }
+
+        this.numeroDeLinea++;
+        this.largoLinea = 0;
+        this.lineaNumerica = true;
+
+        // Elementos vistos, incluidos los vacíos, y hasta el último no vacío
+        int nElementos = 0;
+        int nNoVacios = 0;
+        boolean hayCaracteres = false;
+        boolean negativo = false;
+        boolean valido = true;
+        boolean hayDigitos = false;
+        boolean enElemento = false;
+        long valor = 0;
+
+        while (true) {
+            if (!this.buffer.hasRemaining() && !this.recargar()) {
+                break;
+            }
+            byte b = this.buffer.get();
+            if (b == '\n') {
+                break;
+            }
+            if (b == '\r') {
+                // Como en readLine, "\r\n" es un solo fin de línea
+                if ((this.buffer.hasRemaining() || this.recargar())
+                        && this.buffer.get(this.buffer.position()) == '\n') {
+                    this.buffer.get();
+                }
+                break;
+            }
+            hayCaracteres = true;
+            if (this.largoLinea < MAX_TEXTO) {
+                this.textoLinea[this.largoLinea++] = b;
+            }
+
+            if (b == ' ') {
+                if (enElemento) {
+                    this.cerrarElemento(destino, nElementos, valor, negativo,
+                                        valido && hayDigitos);
+                    nNoVacios = nElementos + 1;
+                }
+                nElementos++;
+                enElemento = false;
+            } else {
+                if (!enElemento) {
+                    // Un elemento vacío antes de éste no es un entero
+                    if (nNoVacios < nElementos) {
+                        this.lineaNumerica = false;
+                    }
+                    enElemento = true;
+                    negativo = false;
+                    valido = true;
+                    hayDigitos = false;
+                    valor = 0;
+                    if (b == '-') {
+                        negativo = true;
+                        continue;
+                    }
+                }
+                if ('0' <= b && b <= '9' && valido) {
+                    valor = 10 * valor + (b - '0');
+                    hayDigitos = true;
+                    if (valor > (long) Integer.MAX_VALUE + 1) {
+                        valido = false;
+                    }
+                } else {
+                    valido = false;
+                }
+            }
+        }
+        if (enElemento) {
+            this.cerrarElemento(destino, nElementos, valor, negativo,
+                                valido && hayDigitos);
+            nNoVacios = nElementos + 1;
+        }
+
+        // Una línea vacía es un solo elemento vacío, que no es un entero
+        if (!hayCaracteres) {
+            this.lineaNumerica = false;
+            return 1;
+        }
+        return nNoVacios;
+    }
+
+    /**
+     * Lee las {@code p} líneas de viajes de un caso y guarda sus enteros en
+     * {@code viajes}, 4 por viaje. Cada línea debe tener exactamente 4
+     * enteros. Las subclases pueden redefinirlo para leer todos los viajes
+     * de una vez.
+     * pre: el lector está posicionado en la primera línea de viajes del caso
+     * y viajes.length &gt;= 4 * p
+     * post: viajes[0 .. 4p - 1] contiene los viajes del caso.
+     * @param viajes arreglo donde se guardan los viajes
+     * @param p número de viajes del caso
+     * @param caso número del caso, para los mensajes de error
+     * @throws IOException si ocurre un error de lectura, o
+     * ExcepcionFormatoIncorrecto si una línea no tiene 4 enteros o el archivo
+     * termina antes del último viaje
+     */
+    public void leerViajes(int[] viajes, int p, int caso) throws IOException {
+        int[] linea = new int[4];
+        for (int i = 0; i < p; i++) {
+            int nTokens = this.leerLinea(linea);
+            if (nTokens != 4) {
+                throw new ExcepcionFormatoIncorrecto("\nProblema leyendo " +
+                        "la linea " + (i+2) + " del caso " + caso
+                        + ":\nSe esperaban 4 enteros y se encontró:\n\n\t\t" +
+                        (nTokens < 0 ? "el fin del archivo" :
+                                       this.getTextoLinea()));
+            } else if (!this.lineaNumerica) {
+                throw new ExcepcionFormatoIncorrecto("\nProblema " +
+                        "leyendo la linea " + (i+2) + " del caso " +
+                        caso + ": Se esperaban enteros " +
+                        "y se encontró:\n\n\t\t" + this.getTextoLinea());
+            }
+            System.arraycopy(linea, 0, viajes, 4 * i, 4);
+        }
+    }
+
+    /**
+     * Indica si todos los elementos de la última línea leída eran enteros
+     * válidos.
+     * pre: true
+     * post: true
+     * @return true si la última línea sólo contenía enteros
+     */
+    public boolean esLineaNumerica() {
+        return this.lineaNumerica;
+    }
+
+    /**
+     * Retorna el número de la última línea leída, comenzando en 1.
+     * pre: true
+     * post: true
+     * @return el número de la última línea leída
+     */
+    public int getNumeroDeLinea() {
+        return this.numeroDeLinea;
+    }
+
+    /**
+     * Retorna el texto de la última línea leída (a lo sumo sus primeros 256
+     * bytes), para los mensajes de error.
+     * pre: true
+     * post: true
+     * @return el texto de la última línea leída
+     */
+    public String getTextoLinea() {
+        int largo = this.largoLinea;
+        while (0 < largo && this.textoLinea[largo - 1] == '\r') {
+            largo--;
+        }
+        try {
+            return new String(this.textoLinea, 0, largo, "UTF-8");
+        } catch (UnsupportedEncodingException uee) {
+            return new String(this.textoLinea, 0, largo);
+        }
+    }
+
+    /**
+     * Cierra el canal de lectura.
+     * pre: true
+     * post: el canal queda cerrado.
+     * @throws IOException si ocurre un error al cerrar el canal
+     */
+    public void close() throws IOException {
+        if (this.canal != null) {
+            this.canal.close();
+        }
+    }
+
+    /**
+     * Rellena el buffer con los siguientes bytes del archivo.
+     * pre: !this.buffer.hasRemaining()
+     * post: si el resultado es true, this.buffer tiene bytes por leer.
+     * @return false si se llegó al fin del archivo, true si no
+     * @throws IOException si ocurre un error de lectura
+     */
+    protected boolean recargar() throws IOException {
+        this.buffer.clear();
+        int leidos = 0;
+        while (leidos == 0) {
+            leidos = this.canal.read(this.buffer);
+        }
+        this.buffer.flip();
+        return (0 < leidos);
+    }
+
+    // MÉTODOS PRIVADOS AUXILIARES:
+
+    /**
+     * Guarda en destino el elemento recién terminado de la línea.
+     * @param destino arreglo de enteros de la línea
+     * @param pos posición del elemento en la línea
+     * @param valor valor absoluto del elemento
+     * @param negativo si el elemento tenía signo '-'
+     * @param valido si el elemento era un entero válido
+     */
+    private void cerrarElemento(int[] destino, int pos, long valor,
+                                boolean negativo, boolean valido) {
+        long v = (negativo ? -valor : valor);
+        if (!valido || v < Integer.MIN_VALUE || Integer.MAX_VALUE < v) {
+            this.lineaNumerica = false;
+        } else if (pos < destino.length) {
+            destino[pos] = (int) v;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * LectorDeEnteros que lee el archivo de entrada mapeándolo en memoria con
+ * {@code FileChannel.map}, en lugar de copiarlo a un buffer propio. Los bytes
+ * se leen directamente de las páginas del archivo, sin copias al heap.
+ *
+ * Como un MappedByteBuffer no puede pasar de 2 GB, el archivo se mapea por
+ * regiones consecutivas de a lo sumo {@code tamRegion} bytes; al agotarse una
+ * región se mapea la siguiente. LectorDeEnteros conserva el estado de la línea
+ * en curso entre recargas, así que una línea puede quedar partida entre dos
+ * regiones.
+ */
+public class LectorMapeado extends LectorDeEnteros {
+
+    // Tamaño por defecto de cada región mapeada
+    public static final long TAM_REGION = 1L << 30;
+
+    // Modelo de representación:
+
+    // Canal del archivo mapeado
+    private FileChannel canal;
+
+    // Tamaño total del archivo, y posición donde comienza la próxima región
+    private long        tamArchivo;
+    private long        proximaRegion;
+
+    // Tamaño máximo de cada región
+    private long        tamRegion;
+
+    // CONSTRUCTORES:
+
+    /**
+     * Crea un lector que mapea el archivo de {@code canal} por regiones de
+     * {@code TAM_REGION} bytes.
+     * pre: canal != null y está abierto para lectura
+     * post: el lector está posicionado al principio del archivo.
+     * @param canal el canal del archivo a leer
+     * @throws IOException si ocurre un error al mapear el archivo
+     */
+    public LectorMapeado(FileChannel canal) throws IOException {
+        this(canal, TAM_REGION);
+    }
+
+    /**
+     * Crea un lector que mapea el archivo de {@code canal} por regiones de
+     * {@code tamRegion} bytes.
+     * pre: canal != null y está abierto para lectura;
+     * 0 &lt; tamRegion &lt;= Integer.MAX_VALUE
+     * post: el lector está posicionado al principio del archivo.
+     * @param canal el canal del archivo a leer
+     * @param tamRegion tamaño máximo de cada región mapeada
+     * @throws IOException si ocurre un error al mapear el archivo
+     */
+    public LectorMapeado(FileChannel canal, long tamRegion)
+                                                        throws IOException
+    {
+        super(ByteBuffer.allocate(0));
+        this.canal = canal;
+        this.tamArchivo = canal.size();
+        this.proximaRegion = 0;
+        this.tamRegion = tamRegion;
+    }
+
+    // MÉTODOS:
+
+    /**
+     * Cierra el canal del archivo mapeado. Las regiones ya mapeadas se liberan
+     * cuando el recolector de basura descarta sus buffers.
+     * pre: true
+     * post: el canal queda cerrado.
+     * @throws IOException si ocurre un error al cerrar el canal
+     */
+    @Override
+    public void close() throws IOException {
+        this.canal.close();
+    }
+
+    /**
+     * Mapea la siguiente región del archivo.
+     * pre: !this.buffer.hasRemaining()
+     * post: si el resultado es true, this.buffer es la región siguiente.
+     * @return false si ya se mapeó todo el archivo, true si no
+     * @throws IOException si ocurre un error al mapear el archivo
+     */
+    @Override
+    protected boolean recargar() throws IOException {
+        if (this.tamArchivo <= this.proximaRegion) {
+            return false;
+        }
+        long tam = Math.min(this.tamRegion,
+                            this.tamArchivo - this.proximaRegion);
+        this.buffer = this.canal.map(FileChannel.MapMode.READ_ONLY,
+                                     this.proximaRegion, tam);
+        this.proximaRegion += tam;
+        return true;
+    }
+}
@@ -1,10 +1,14 @@
-import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.FileReader;
+import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.PrintStream;
-import java.util.Iterator;
+import java.io.InterruptedIOException;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 /**
  * Clase Principal encargada de resolver el problema de vialidad eficiente
@@ -13,19 +17,20 @@ import java.util.Iterator;
  *
  * MODELO DE REPRESENTACIÓN:
  *
- * Representamos con la siguiente estructura de datos tanto la instancia
- * del caso de prueba en evaluación, como los datos que utilizamos para la reso-
- * lución del problema para esa instancia. Dado que el archivo de entrada puede
- * contener muchas instancias del problema, decidimos almacenar sólo una instan-
- * cia a la vez, para evitar sobrecargas de memoria. En cuanto al problema, lo
- * resolvemos de la manera sugerida por la cátedra: Construyendo cláusulas que
- * representen las condiciones necesarias para que el problema se solucione,
- * luego transformamos esas cláusulas en fórmulas lógicas en la forma 2CNF, en
- * base a éstas construimos un grafo de implicaciones y hallamos las componentes
- * fuertemente conexas de dicho grafo. El problema tiene solución en caso de que
- * no exista ningun "literal" de las fórmulas junto con su complemento (negado)
- * en una misma componente fuertemente conexa. De lo contrario, el problema no
- * tendrá solución.
+ * Representamos con la clase CasoDePrueba tanto la instancia del caso de
+ * prueba en evaluación, como los datos que utilizamos para la resolución del
+ * problema para esa instancia; Main se encarga de leer los casos y escribir
+ * las respuestas. Dado que el archivo de entrada puede contener muchas instan-
+ * cias del problema, decidimos almacenar sólo una instancia a la vez (o unas
+ * pocas por hilo, en el modo paralelo), para evitar sobrecargas de memoria.
+ * En cuanto al problema, lo resolvemos de la manera sugerida por la cátedra:
+ * Construyendo cláusulas que representen las condiciones necesarias para que
+ * el problema se solucione, luego transformamos esas cláusulas en fórmulas
+ * lógicas en la forma 2CNF, en base a éstas construimos un grafo de implica-
+ * ciones y hallamos las componentes fuertemente conexas de dicho grafo. El
+ * problema tiene solución en caso de que no exista ningun "literal" de las
+ * fórmulas junto con su complemento (negado) en una misma componente fuerte-
+ * mente conexa. De lo contrario, el problema no tendrá solución.
  *
  * Para representar los literales hemos usado el conjunto de los números natura-
  * les; usando los números pares para representar los literales sin negación, y
@@ -121,14 +126,19 @@ public class Main {
     private String              outputFile;
 
     /**
-     * Buffer de entrada (Lectura).
+     * Lector de los enteros del archivo de entrada.
      */
-    private BufferedReader      in;
+    private LectorDeEnteros     in;
 
     /**
-     * Flujo de salida (Escritura).
+     * Arreglo reutilizable donde el lector deja los enteros de cada línea.
      */
-    private PrintStream         out;
+    private int[]               tokens;
+
+    /**
+     * Escritor de las respuestas en el archivo de salida.
+     */
+    private EscritorDeRespuestas out;
 
     /**
      * Numero de instancias del problema a resolver.
@@ -141,69 +151,147 @@ public class Main {
     private int                 nCasosProbados;
 
     /**
-     * Numero de calles del caso en uso.
+     * Implementación de DiGraph que se usa para el grafo de implicaciones. Debe
+     * ser una de las constantes GRAFO_*.
      */
-    private int                 c;
+    private int                 implementacionGrafo;
 
     /**
-     * Numero de avenidas del caso en uso.
+     * Algoritmo de componentes fuertemente conexas que se usa en los casos.
+     * Debe ser una de las constantes COMPONENTES_*.
      */
-    private int                 a;
+    private int                 algoritmoComponentes;
 
     /**
-     * Numero de pares de lugares del caso en uso.
+     * Tamaños del grafo de implicaciones a partir de los cuales las
+     * componentes se calculan en paralelo (ver
+     * CasoDePrueba.setUmbralesParalelos).
      */
-    private int                 p;
+    private int                 umbralNodosParalelo;
+    private int                 umbralArcosParalelo;
 
     /**
-     * Número en el que termina la representación de las calles y comienza la de
-     * las avenidas
+     * Pool compartido por todos los casos para calcular las componentes en
+     * paralelo y, con resolverEnParalelo, para resolver los casos mismos, de
+     * modo que nunca haya más hilos de trabajo que los del pool. Se crea al
+     * leer el primer caso.
      */
-    private int                 offset;
+    private ForkJoinPool        pool;
 
     /**
-     * Lista de pares de puntos entre los cuales se debe verificar si se puede
-     * viajar de manera eficiente.
+     * Caso de prueba en uso: el último leído por sigCasoDePrueba, que las
+     * fases de la resolución procesan.
      */
-    private List<int[]>         viajes;
+    private CasoDePrueba        caso;
 
     /**
-     * Cláusulas iniciales que modelan el problema.
+     * Acumulador de las estadísticas de los casos; null si no se piden.
      */
-    private List<int[]>         clausulas;
+    private Estadisticas        estadisticas;
 
     /**
-     * Lista que almacena los literales "solitarios" o cláusulas unitarias que
-     * representan los casos en los que se viaja en la misma calle o avenida.
+     * Escritor de las orientaciones que satisfacen cada caso; null si no se
+     * piden.
      */
-    private Stack<Integer>      literalesSolos;
+    private EscritorDeOrientaciones orientaciones;
+
+    // CONSTANTES:
 
     /**
-     * Cláusulas que modelan el problema en la forma 2CNF.
+     * Grafo de implicaciones representado con un DiGraphCSR, construido en dos
+     * pasadas sobre las disjunciones. Es la implementación por defecto.
      */
-    private List<int[]>         dosCNF;
+    public static final int     GRAFO_CSR = 0;
 
     /**
-     * Grafo de implicaciones que resolverá esta instancia del problema
+     * Grafo de implicaciones representado con un DiGraphList, agregando los
+     * arcos uno a uno. Se conserva para comparar.
      */
-    private DiGraph             digrafo;
+    public static final int     GRAFO_LISTA = 1;
 
     /**
-     * Número de nodos que tendrá el grafo de implicaciones
+     * Grafo de implicaciones representado con un DiGraphMatrix, agregando los
+     * arcos uno a uno. Se conserva para comparar.
      */
-    private int                 nNodos;
+    public static final int     GRAFO_MATRIZ = 2;
 
     /**
-     * Guarda la lista de las componentes fuertemente conexas halladas
+     * Grafo de implicaciones representado con un DiGraphBitMatrix, agregando
+     * los arcos uno a uno. Ocupa un bit por celda; útil cuando además se
+     * quiere la clausura transitiva del grafo.
      */
-    private List<List<Integer>> compsFuertConexas;
+    public static final int     GRAFO_BITS = 3;
 
     /**
-     * Dice si el caso de prueba tratado tiene solucion o no. La primera posi-
-     * cion indica si se ha confirmado una desicion sobre el resultado del pro-
-     * blema o no, y la segunda posicion indica la desicion propiamente dicha.
+     * Grafo de implicaciones representado con un DiGraphCSR compilado
+     * directamente desde los viajes, sin cláusulas, fórmula 2CNF ni
+     * propagación de literales solos intermedias (ver CasoDePrueba).
      */
-    private boolean[]           tieneSolucion;
+    public static final int     GRAFO_DIRECTO = 4;
+
+    /**
+     * Grafo de implicaciones representado con un DiGraphIntList, agregando
+     * los arcos uno a uno, pero sin un objeto Arc por arco.
+     */
+    public static final int     GRAFO_ENTEROS = 5;
+
+    /**
+     * Archivo de entrada de texto, leído con un buffer (ver LectorDeEnteros).
+     * Es el formato por defecto.
+     */
+    public static final int     ENTRADA_TEXTO = 0;
+
+    /**
+     * Archivo de entrada de texto, mapeado en memoria (ver LectorMapeado).
+     */
+    public static final int     ENTRADA_MAPEADA = 1;
+
+    /**
+     * Archivo de entrada en el formato binario compacto de LectorBinario,
+     * generado con ConvertidorBinario.
+     */
+    public static final int     ENTRADA_BINARIA = 2;
+
+    /**
+     * Componentes fuertemente conexas con TarjanIterativo. Es el algoritmo por
+     * defecto.
+     */
+    public static final int     COMPONENTES_TARJAN = 0;
+
+    /**
+     * Componentes fuertemente conexas con la clase Tarjan original, recursiva
+     * (ver TarjanRecursivo). Se conserva para comparar.
+     */
+    public static final int     COMPONENTES_RECURSIVO = 1;
+
+    /**
+     * Componentes fuertemente conexas con KosarajuIterativo, que recorre
+     * además el grafo transpuesto.
+     */
+    public static final int     COMPONENTES_KOSARAJU = 2;
+
+    /**
+     * Componentes fuertemente conexas con GabowIterativo, basado en caminos.
+     */
+    public static final int     COMPONENTES_GABOW = 3;
+
+    /**
+     * Componentes fuertemente conexas con ComponentesEnParalelo en todos los
+     * casos, sin importar los umbrales.
+     */
+    public static final int     COMPONENTES_PARALELO = 4;
+
+    /**
+     * Número de nodos del grafo de implicaciones a partir del cual, por
+     * defecto, las componentes se calculan en paralelo.
+     */
+    public static final int     UMBRAL_NODOS_PARALELO = 1 << 17;
+
+    /**
+     * Número de arcos del grafo de implicaciones a partir del cual, por
+     * defecto, las componentes se calculan en paralelo.
+     */
+    public static final int     UMBRAL_ARCOS_PARALELO = 1 << 22;
 
     // CONSTRUCTOR:
 
@@ -219,8 +307,53 @@ public class Main {
      * un error de formato
      */
     public Main (String inFile, String outFile) throws IOException {
+        this(inFile, outFile, false);
+    }
+
+    /**
+     * Constructor de la Clase Main que permite escoger si el archivo de
+     * entrada se lee con un buffer de lectura, o mapeándolo en memoria por
+     * regiones (ver LectorMapeado), lo que evita copiar los bytes al heap en
+     * archivos muy grandes.
+     * pre: true
+     * post: Se genera una instancia de la clase Main preparada para resolver
+     * una nueva instancia del problema.
+     * @param inFile Archivo de entrada
+     * @param outFile Archivo de Salida
+     * @param mapearEntrada true si el archivo de entrada se debe mapear en
+     * memoria
+     * @throws IOException En caso de que ocurra un error al leer o escribir, o
+     * un error de formato
+     */
+    public Main (String inFile, String outFile, boolean mapearEntrada)
+                                                            throws IOException
+    {
+        this(inFile, outFile, (mapearEntrada ? Main.ENTRADA_MAPEADA :
+                                               Main.ENTRADA_TEXTO));
+    }
+
+    /**
+     * Constructor de la Clase Main que permite escoger cómo se lee el archivo
+     * de entrada: como texto con un buffer de lectura, como texto mapeado en
+     * memoria, o en el formato binario de LectorBinario.
+     * pre: formatoEntrada es una de las constantes ENTRADA_*
+     * post: Se genera una instancia de la clase Main preparada para resolver
+     * una nueva instancia del problema.
+     * @param inFile Archivo de entrada
+     * @param outFile Archivo de Salida
+     * @param formatoEntrada cómo se lee el archivo de entrada
+     * @throws IOException En caso de que ocurra un error al leer o escribir, o
+     * un error de formato
+     */
+    public Main (String inFile, String outFile, int formatoEntrada)
+                                                            throws IOException
+    {
         this.inputFile = inFile;
         this.outputFile = outFile;
+        this.implementacionGrafo = Main.GRAFO_CSR;
+        this.algoritmoComponentes = Main.COMPONENTES_TARJAN;
+        this.umbralNodosParalelo = Main.UMBRAL_NODOS_PARALELO;
+        this.umbralArcosParalelo = Main.UMBRAL_ARCOS_PARALELO;
 
         // Se crea un objeto de tipo archivo para hacer el código más legible
         File file =  new File(this.inputFile);
@@ -230,8 +363,18 @@ public class Main {
             
             // Se inicializan la entrada y la salida del programa
             try {
-                this.in = new BufferedReader(new FileReader(this.inputFile));
-                this.out = new PrintStream(this.outputFile);
+                FileChannel canal = new FileInputStream(file).getChannel();
+                if (formatoEntrada == Main.ENTRADA_MAPEADA) {
+                    this.in = new LectorMapeado(canal);
+                } else if (formatoEntrada == Main.ENTRADA_BINARIA) {
+                    this.in = new LectorBinario(canal,
+                                                LectorDeEnteros.TAM_BUFFER);
+                } else {
+                    this.in = new LectorDeEnteros(canal,
+                                                  LectorDeEnteros.TAM_BUFFER);
+                }
+                this.out = new EscritorDeRespuestas(
+                        new FileOutputStream(this.outputFile).getChannel());
             } catch (FileNotFoundException ex) {
                 throw new ExcepcionArchivoNoExiste("Problema al leer el " +
                         "archivo \"" + this.inputFile +"\": EL ARCHIVO NO " +
@@ -241,82 +384,61 @@ public class Main {
             /* Se lee la primera línea para saber cuántas instancias del proble-
              * ma se resolverán
              */
-            String primera = this.in.readLine();
-            try {
-                this.nInstancias = Integer.parseInt(primera);
-            } catch (NumberFormatException nfe) {
+            this.tokens = new int[4];
+            int nTokens = this.in.leerLinea(this.tokens);
+
+            // La línea entera debe ser un entero, sin espacios, como con
+            // Integer.parseInt
+            if (nTokens != 1 || !this.in.esLineaNumerica()
+                    || 0 <= this.in.getTextoLinea().indexOf(' ')) {
                 throw new ExcepcionFormatoIncorrecto("\nProblema leyendo la " +
                         "primera linea:\nSe esperaba un entero y se encontró:"
-                        + "\n\n\t\t" + primera );
+                        + "\n\n\t\t" + this.in.getTextoLinea() );
             }
+            this.nInstancias = this.tokens[0];
             this.nCasosProbados = 0;
         }
     }
 
-    // MÉTODOS ESTÁTICOS:
+
+    // MÉTODOS NO-ESTÁTICOS:
 
     /**
-     * Distribuye las clausulas conseguidas en la primera fase.
-     * pre: clausula.length == 4;
-     * post: Se genera un arreglo de tamaño 8 que representa la clausula
-     * recibida de manera distribuida (4 disjunciones, 8 literales).
-     * @param clausula La cláusula a distribuir
-     * @return Arreglo que representa la distribucion de los literales de la
-     * clausula
+     * Establece la implementación de DiGraph que se usará para los grafos de
+     * implicaciones de los casos siguientes.
+     * pre: implementacion es una de las constantes GRAFO_*
+     * post: this.implementacionGrafo == implementacion
+     * @param implementacion la implementación a usar
      */
-    private static int[][] distributiva(int[] clausula) {
-
-        // Disjunciones a crear:
-
-        int[] d1 = new int[2];
-        int[] d2 = new int[2];
-        int[] d3 = new int[2];
-        int[] d4 = new int[2];
-
-        /* Se efectua la distributividad sobre la representación de la fórmula
-         * lógica.
-         */
-
-        d1[0] = clausula[0];
-        d1[1] = clausula[2];
-        d2[0] = clausula[0];
-        d2[1] = clausula[3];
-        d3[0] = clausula[1];
-        d3[1] = clausula[2];
-        d4[0] = clausula[1];
-        d4[1] = clausula[3];
-
-        // Se almacenan las disjunciones para su entrega:
-
-        int[][] disjunciones = new int[2][4];
-
-        disjunciones[0][0] = d1[0]; disjunciones[1][0] = d1[1];
-        disjunciones[0][1] = d2[0]; disjunciones[1][1] = d2[1];
-        disjunciones[0][2] = d3[0]; disjunciones[1][2] = d3[1];
-        disjunciones[0][3] = d4[0]; disjunciones[1][3] = d4[1];
-
-
-        return disjunciones;
+    public void setImplementacionGrafo(int implementacion) {
+        this.implementacionGrafo = implementacion;
     }
 
     /**
-     * Invierte los contenidos de las cajas de un arreglo de tamaño 2.
-     * pre: disj.length == 2
-     * post: se devuelve un arreglo con las posiciones de disj invertidas.
-     * @param disj arreglo a invertir
-     * @return un arreglo con los contenidos invertidos a los de entrada.
+     * Establece el algoritmo de componentes fuertemente conexas que se usará
+     * en los casos siguientes.
+     * pre: algoritmo es una de las constantes COMPONENTES_*
+     * post: this.algoritmoComponentes == algoritmo
+     * @param algoritmo el algoritmo a usar
      */
-    private static int[] simetrico(int[] disj) {
-        if (disj.length == 2) {
-            int[] aux = new int[2];
-            aux[0] = disj[1];
-            aux[1] = disj[0];
-            return aux;
-        }
-        return null;
+    public void setAlgoritmoDeComponentes(int algoritmo) {
+        this.algoritmoComponentes = algoritmo;
     }
 
-    // MÉTODOS NO-ESTÁTICOS:
+    /**
+     * Establece a partir de qué número de nodos o de arcos del grafo de
+     * implicaciones las componentes de los casos siguientes se calculan en
+     * paralelo.
+     * pre: 0 &lt;= nodos &amp;&amp; 0 &lt;= arcos
+     * post: this.umbralNodosParalelo == nodos &amp;&amp;
+     * this.umbralArcosParalelo == arcos
+     * @param nodos número mínimo de nodos
+     * @param arcos número mínimo de arcos
+     */
+    public void setUmbralesParalelos(int nodos, int arcos) {
+        this.umbralNodosParalelo = nodos;
+        this.umbralArcosParalelo = arcos;
+    }
     
     /**
      * Indica si queda algun caso por probar
@@ -330,705 +452,344 @@ public class Main {
         return (this.nCasosProbados < this.nInstancias);
     }
 
-    /**
-     * Construye la clausula en caso de que el viaje sea hacia la derecha del
-     * mapa
-     * pre: ca1, ca2, av3 y av4 deben ser enteros dentro del rango de calles y
-     * avenidas de esta instancia del problema;
-     * post: Se devuelve la clausula que representa el caso de ir hacia la
-     * derecha en el mapa
-     * @param ca1 calle del punto 1
-     * @param av1 avenida del punto 1
-     * @param ca2 calle del punto 2
-     * @param av2 avenida del punto 2
-     * @return Clausula  en forma de arreglo de enteros generada para este caso
-     */
-    private int[] haciaLaDerecha(int ca1, int av1, int ca2, int av2) {
-
-        int[] clausula = new int[4];
-
-        if (ca1 < ca2) {
-            // Primer posible camino
-            clausula[0]= this.calle(ca1); clausula[1]= this.avenida(av2);
-            // Segundo posible camino
-            clausula[2]= this.calle(ca2); clausula[3]= this.avenida(av1);
-        } else if (ca1 == ca2) {
-            /* Sólo hay un camino posible. Almaceno este literal en la lista de
-             * literales solos.
-             */
-            if (!this.literalesSolos.contains(new Integer(this.calle(-ca1)))) {
-                if (!this.literalesSolos.contains
-                                (new Integer(this.calle(ca1)))) {
-                    this.literalesSolos.push(new Integer(this.calle(ca1)));
-                }
-            } else {
-                this.tieneSolucion[0] = true;
-                this.tieneSolucion[1] = false;
-            }
-            return null;
-        } else {
-            // Primer posible camino
-            clausula[0]= this.calle(ca1); clausula[1]= this.avenida(-av2);
-            // Segundo posible camino
-            clausula[2]= this.calle(ca2); clausula[3]= this.avenida(-av1);
-        }
-
-        return clausula;
-    }
-
-    /**
-     * Construye la clausula en caso de que el viaje sea hacia la izquierda del
-     * mapa.
-     * pre: ca1, ca2, av3 y av4 deben ser enteros dentro del rango de calles y
-     * avenidas de esta instancia del problema;
-     * post: Se devuelve la clausula que representa el caso de ir hacia la
-     * izquierda en el mapa
-     * @param ca1 calle del punto 1
-     * @param av1 avenida del punto 1
-     * @param ca2 calle del punto 2
-     * @param av2 avenida del punto 2
-     * @return Clausula  en forma de arreglo de enteros generada para este caso
-     */
-    private int[] haciaLaIzquierda(int ca1, int av1, int ca2, int av2) {
-
-        int[] clausula = new int[4];
-
-        if (ca1 < ca2) {// hacia abajo
-            // Primer posible camino
-            clausula[0]= this.calle(-ca1); clausula[1]= this.avenida(av2);
-            // Segundo posible camino
-            clausula[2]= this.calle(-ca2); clausula[3]= this.avenida(av1);
-        } else if (ca1 == ca2) {
-            /* Sólo hay un camino posible. Almaceno este literal en la lista de
-             * literales solos.
-             */
-            if (!this.literalesSolos.contains(new Integer(this.calle(ca1)))) {
-                if (!this.literalesSolos.contains
-                                (new Integer(this.calle(-ca1)))) {
-                    this.literalesSolos.push(new Integer(this.calle(-ca1)));
-                }
-            } else {
-                this.tieneSolucion[0] = true;
-                this.tieneSolucion[1] = false;
-            }
-            return null;
-        } else { // hacia arriba
-            // Primer posible camino
-            clausula[0]= this.calle(-ca1); clausula[1]= this.avenida(-av2);
-            // Segundo posible camino
-            clausula[2]= this.calle(-ca2); clausula[3]= this.avenida(-av1);
-        }
-
-        return clausula;
-    }
-
-    /**
-     * Construye la clausula en caso de que el viaje sea en la misma avenida
-     * pre: ca1, ca2, av3 y av4 deben ser enteros dentro del rango de calles y
-     * avenidas de esta instancia del problema;
-     * post: Se devuelve la clausula que representa el caso de viajar en la
-     * misma avenida
-     * @param ca1 calle del punto 1
-     * @param av1 avenida del punto 1
-     * @param ca2 calle del punto 2
-     * @param av2 avenida del punto 2
-     * @return Clausula  en forma de arreglo de enteros generada para este caso
-     */
-    private int[] mismaAvenida(int ca1, int av1, int ca2, int av2) {
-
-        if (ca1 < ca2) { // hacia abajo
-            /* Sólo hay un camino posible. Almaceno este literal en la lista de
-             * literales solos.
-             */
-            if (!this.literalesSolos.contains(new Integer(this.avenida(-av1)))){
-                if (!this.literalesSolos.contains
-                                (new Integer(this.avenida(av1)))) {
-                    this.literalesSolos.push(new Integer(this.avenida(av1)));
-                }
-            } else {
-                this.tieneSolucion[0] = true;
-                this.tieneSolucion[1] = false;
-            }
-        } else if (ca2 < ca1) { // hacia arriba
-            /* Sólo hay un camino posible. Almaceno este literal en la lista de
-             * literales solos.
-             */
-            if (!this.literalesSolos.contains(new Integer(this.avenida(av1)))){
-                if (!this.literalesSolos.contains
-                                (new Integer(this.avenida(-av1)))) {
-                    this.literalesSolos.push(new Integer(this.avenida(-av1)));
-                }
-            } else {
-                this.tieneSolucion[0] = true;
-                this.tieneSolucion[1] = false;
-            }
-        } else {
-            /* No se trata el caso cual las calles son iguales, ya que se
-             * trataría de el mismo punto y no habría nada que hacer. En este
-             * caso, se retorna null.
-             */
-        }
-        return null;
-    }
-
-    /**
-     * Llama a las funciones que consruiran la clausula representada en pair
-     * pre: pair.length == 4
-     * post: Se devuelve un arreglo de enteros que representa la clausula co-
-     * rrespondiente al viaje entre los puntos representados en pair.
-     * @param pair Arreglo que representa el par de puntos entre los que se
-     * viaja.
-     * @return un arreglo que representa la clausula del viaje.
-     */
-    private int[] construirClausula(int[] pair) {
-
-        int[] clausula = null;
-
-        int ca1 = pair[0];
-        int av1 = pair[1];
-        int ca2 = pair[2];
-        int av2 = pair[3];
-
-        /* Esto quiere decir que estamos yendo desde el punto (av1,ca1) hacia
-         * el punto (av2,ca2).
-         */
-
-        if (av1 < av2) {
-            clausula = this.haciaLaDerecha(ca1, av1, ca2, av2);
-        } else if (av1 == av2) {
-            clausula = this.mismaAvenida(ca1, av1, ca2, av2);
-        } else {
-            clausula = this.haciaLaIzquierda(ca1, av1, ca2, av2);
-        }
-
-        return clausula;
-    }
-
-
-    /**
-     * Crea un arco en el grafo de implicaciones correspondiente a una disjun-
-     * cion del tipo (p \/ q)
-     * pre: la disjuncion debe ser del tipo (p \/ q); p y q deben pertenecer a
-     * digrafo
-     * post: Se añade un arco que representa esta disjuncion
-     * @param disj disjuncion  a procesar
-     * @param digrafo digrafo de implicaciones
-     */
-    private void implicacionPoQ(int p, int q, DiGraph digrafo) {
-        int noP = p + 1;
-        int noQ = q + 1;
-        
-        if (!digrafo.isArc(noP, q)) {
-            this.digrafo.addArc(noP, q);
-        }
-        if (!digrafo.isArc(noQ, p)) {
-            this.digrafo.addArc(noQ, p);
-        }
-    }
-
-    /**
-     * Crea un arco en el grafo de implicaciones correspondiente a una disjun-
-     * cion del tipo (!p \/ !q)
-     * pre: la disjuncion debe ser del tipo (!p \/ !q); p y q deben pertenecer a
-     * digrafo
-     * post: Se añade un arco que representa esta disjuncion
-     * @param disj disjuncion  a procesar
-     * @param digrafo digrafo de implicaciones
-     */
-    private void implicacionNoPoNoQ(int noP, int noQ, DiGraph digrafo) {
-        int pe = noP - 1;
-        int q = noQ - 1;
-
-        if (!digrafo.isArc(pe, noQ)) {
-            this.digrafo.addArc(pe, noQ);
-        }
-        if (!digrafo.isArc(q, noP)) {
-            this.digrafo.addArc(q, noP);
-        }
-    }
-
-    /**
-     * Crea un arco en el grafo de implicaciones correspondiente a una disjun-
-     * cion del tipo (p \/ !q)
-     * pre: la disjuncion debe ser del tipo (p \/ !q); p y q deben pertenecer a
-     * digrafo
-     * post: Se añade un arco que representa esta disjuncion
-     * @param disj disjuncion  a procesar
-     * @param digrafo digrafo de implicaciones
-     */
-    private void implicacionPoNoQ(int pe, int noQ, DiGraph digrafo) {
-        int noP = pe + 1;
-        int q = noQ - 1;
-
-        if (!digrafo.isArc(noP, noQ)) {
-            this.digrafo.addArc(noP, noQ);
-        }
-        if (!digrafo.isArc(q, pe)) {
-            this.digrafo.addArc(q, pe);
-        }
-    }
-
-    /**
-     * Crea un arco en el grafo de implicaciones correspondiente a una disjun-
-     * cion del tipo (!p \/ q)
-     * pre: la disjuncion debe ser del tipo (!p \/ q); p y q deben pertenecer a
-     * digrafo
-     * post: Se añade un arco que representa esta disjuncion
-     * @param disj disjuncion  a procesar
-     * @param digrafo digrafo de implicaciones
-     */
-    private void implicacionNoPoQ(int noP, int q, DiGraph digrafo) {
-        int pe = noP - 1;
-        int noQ = q + 1;
-
-        if (!digrafo.isArc(pe, q)) {
-            this.digrafo.addArc(pe, q);
-        }
-        if (!digrafo.isArc(noQ, noP)) {
-            this.digrafo.addArc(noQ, noP);
-        }
-    }
 
     /**
-     * Mapea los numeros de calle a su correspondiente numero en la representa-
-     * cion.
-     * pre: nCalle debe estar dentro del rango de numero de calles de esta
-     * instancia del problema;
-     * post: se retorna la representacion de nCalle
-     * @param nCalle numero de calle a mapear
-     * @return la representacion de nCalle
-     */
-    private int calle(int nCalle) {
-        int absNCalle = (0 <= nCalle ? nCalle - 1 : (nCalle * (-1)) );
-        int calle = ( (absNCalle * 2) - ( nCalle < 0 ? 1 : 0 ) );
-        return calle;
-    }
-
-    /**
-     * Mapea los numeros de avenida a su correspondiente numero en la represen-
-     * tacion.
-     * pre: nAvenida debe estar dentro del rango de numero de avenidas de esta
-     * instancia del problema;
-     * post: se retorna la representacion de nAvenida
-     * @param nAvenida numero de avenida a mapear
-     * @return la representacion de nAvenida
-     */
-    private int avenida(int nAvenida) {
-        int absNAvenida = (0 <= nAvenida ? nAvenida - 1 : (nAvenida * (-1)));
-        int avenida = ((absNAvenida * 2) - ( nAvenida < 0 ? 1 : 0));
-        avenida = avenida + this.offset;
-        return avenida;
-    }
-
-    // REVISAR LA DOCUMENTACION A PARTIR DE AQUI.
-    /**
-     * Se inicializan los campos de esta clase que dan los datos iniciales de
-     * este caso de prueba.
-     * pre: linea contiene la linea recien parseada y token sus elementos
-     * post: se inicializan los campos de la clase con estos valores. Estos son:
-     * this.a, this.c, this.p, this.offset, y this.nNodos
+     * Verifica que la primera linea del caso, ya leída en this.tokens, tenga
+     * sólo números enteros.
+     * pre: this.tokens contiene los 3 elementos de la linea recien leída
+     * post: si la linea no tiene sólo enteros, se lanza una excepción.
      *
-     * @param linea linea parseada
-     * @param tokens arreglo que contiene los elementos de linea
      * @throws IOException en caso de ocurrir un error de formato
      */
-    private void inicializacionesMisc(String linea, String[] tokens)
-                                                            throws IOException
-    {
+    private void inicializacionesMisc() throws IOException {
         // Se verifica que se lean números enteros
-        try {
-            this.c = Integer.parseInt(tokens[0]);
-            this.a = Integer.parseInt(tokens[1]);
-            this.p = Integer.parseInt(tokens[2]);
-        } catch (NumberFormatException nfe) {
+        if (!this.in.esLineaNumerica()) {
             throw new ExcepcionFormatoIncorrecto("\nProblema leyendo la " +
                     "primera linea del caso " + this.nCasosProbados + ":\nSe " +
-                    "esperaban 3 enteros y se encontró:\n\n\t\t" + linea );
+                    "esperaban 3 enteros y se encontró:\n\n\t\t" +
+                    this.in.getTextoLinea() );
         }
-
-        /* Se calcula el desplazamiento: número en el que comienza la repre-
-         * sentación de las avenidas
-         */
-        this.offset = 2 * this.c;
-
-        /* Se inicializa el numero de nodos que tendra el digrafo que usaremos
-         * como grafo de implicaciones para resolver esta instancia del problema
-         */
-        this.nNodos = 2 * (this.a + this.c);
     }
 
     /**
-     * Almacena los pares de puntos entre los que se viajara
-     * pre: linea contiene la linea recien parseada y token sus elementos
-     * post: this.viajes contendrá los valores obtenidos de parsear la parte del
-     * archivo de entrada que corresponde a los pares entre los que se viaja en
-     * esta instancia del problema.
-     * @param linea linea parseada
-     * @param tokens arreglo que contiene los elementos de linea
-     * @throws IOException en caso de ocurrir un error de I/O o de formato
+     * Lee los pares de puntos entre los que se viajara
+     * pre: el lector está posicionado en la primera linea de viajes del caso
+     * post: se devuelven los valores obtenidos de parsear la parte del archivo
+     * de entrada que corresponde a los pares entre los que se viaja en esta
+     * instancia del problema, 4 enteros por viaje. Cada calle está entre 1 y
+     * c, y cada avenida entre 1 y a.
+     * @param c número de calles del caso
+     * @param a número de avenidas del caso
+     * @param p número de viajes del caso
+     * @return los viajes del caso
+     * @throws IOException en caso de ocurrir un error de I/O o de formato, o
+     * si algún viaje se sale de la ciudad
      */
-    private void almacenamientoDeViajes(String linea, String[] tokens)
-                                                            throws IOException
-    {
+    private int[] almacenamientoDeViajes(int c, int a, int p)
+            throws IOException {
+        int[] viajes = new int[4 * Math.max(p, 0)];
+
         // Se almacenan los pares de lugares a visitar
-        for (int i = 0; i < this.p; i++) {
-            linea = this.in.readLine();
-            tokens  = linea.split(" ");
-            if (tokens.length != 4) {
+        this.in.leerViajes(viajes, Math.max(p, 0), this.nCasosProbados);
+
+        /* Se verifica que cada esquina exista en la ciudad, pues las fases
+         * siguientes indexan los literales directamente con estos números.
+         */
+        for (int i = 0; i < p; i++) {
+            int ca1 = viajes[4 * i];
+            int av1 = viajes[4 * i + 1];
+            int ca2 = viajes[4 * i + 2];
+            int av2 = viajes[4 * i + 3];
+            if (ca1 < 1 || c < ca1 || ca2 < 1 || c < ca2
+                    || av1 < 1 || a < av1 || av2 < 1 || a < av2) {
                 throw new ExcepcionFormatoIncorrecto("\nProblema leyendo " +
                         "la linea " + (i+2) + " del caso " + this.nCasosProbados
-                        + ":\nSe esperaban 4 enteros y se encontró:\n\n\t\t" +
-                        linea);
-            } else {
-
-                // Se calcula el i-ésimo par de lugares
-                int[] pares = new int[4];
-                try {
-                    pares[0] = Integer.parseInt(tokens[0]);
-                    pares[1] = Integer.parseInt(tokens[1]);
-                    pares[2] = Integer.parseInt(tokens[2]);
-                    pares[3] = Integer.parseInt(tokens[3]);
-                } catch (NumberFormatException nfe) {
-                    throw new ExcepcionFormatoIncorrecto("\nProblema " +
-                            "leyendo la linea " + (i+2) + " del caso " +
-                            + this.nCasosProbados + ": Se esperaban enteros " +
-                            "y se encontró:\n\n\t\t" + linea);
-                }
-
-                // Se agrega a la lista de pares
-                this.viajes.add(pares);
+                        + ": Se esperaban calles entre 1 y " + c +
+                        " y avenidas entre 1 y " + a +
+                        " y se encontró:\n\n\t\t" +
+                        ca1 + " " + av1 + " " + ca2 + " " + av2);
             }
         }
+        return viajes;
     }
 
     /**
-     * Carga el siguiente caso de prueba a analizar en los campos de esta clase
+     * Carga el siguiente caso de prueba a analizar en this.caso
      * pre: se debe haber creado una nueva instancia de la clase Main;
-     * post: se inicializan todos los campos de la clase que no requieren del
-     * procesamiento de datos.
+     * post: this.caso contiene los datos del siguiente caso, listo para las
+     * fases de la resolución.
      * @throws IOException en caso de que haya un error de lectura o de formato
      * en el archivo de entrada
      */
     public void sigCasoDePrueba() throws IOException {
         this.nCasosProbados++;
-
-        // REINICIALIZAR TODO:
-
-        this.tieneSolucion = new boolean[2];
-        this.tieneSolucion[0] = false;
-        this.tieneSolucion[1] = false;
-
-        this.clausulas = new Lista();
-        this.compsFuertConexas = new Lista();
-        this.dosCNF = new Lista();
-        this.literalesSolos = new Stack();
-        this.nNodos = 0;
-        this.offset = 0;
-        this.viajes = new Lista();
+        this.caso = null;
+        long inicio = (this.estadisticas == null ? 0 : System.nanoTime());
 
         // Se lee la primera linea del caso en uso
-        String linea = this.in.readLine();
-        String[] tokens = linea.split(" ");
+        int nTokens = this.in.leerLinea(this.tokens);
 
         // Se verifica que haya exactamente 3 números
-        if (tokens.length != 3) {
+        if (nTokens != 3) {
             throw new ExcepcionFormatoIncorrecto("\nProblema leyendo la " +
                     "primera linea del caso numero " + this.nCasosProbados +
                     ". Se esperaban" + "3 números y se encontraron " +
-                    tokens.length);
+                    Math.max(nTokens, 0));
         } else {
-            this.inicializacionesMisc(linea, tokens);
+            this.inicializacionesMisc();
+
+            int c = this.tokens[0];
+            int a = this.tokens[1];
+            int p = this.tokens[2];
+            int[] viajes = this.almacenamientoDeViajes(c, a, p);
+
+            this.caso = new CasoDePrueba(this.nCasosProbados, c, a, p, viajes,
+                                         this.implementacionGrafo);
+            this.caso.setAlgoritmoDeComponentes(this.algoritmoComponentes);
+            this.caso.setUmbralesParalelos(this.umbralNodosParalelo,
+                                           this.umbralArcosParalelo);
+            if (this.pool == null) {
+                this.pool = new ForkJoinPool();
+            }
+            this.caso.setPool(this.pool);
 
-            this.almacenamientoDeViajes(linea, tokens);
+            if (this.estadisticas != null) {
+                EstadisticasDeCaso est = new EstadisticasDeCaso();
+                est.nanos[EstadisticasDeCaso.LECTURA] =
+                        System.nanoTime() - inicio;
+                this.caso.setEstadisticas(est);
+            }
         }
     }
 
     /**
      * Construye las clausulas correspondientes al viaje entre cada punto para
-     * esta instancia del problema.
-     * pre: Se deben haber inicalizado todos los campos que no requieren
-     * procesamiento de datos.
-     * post: las clausulas que modelan esta innstancia del problema estan carga-
-     * das en this.clausulas
+     * el caso en uso.
+     * pre: se debe haber cargado el caso con sigCasoDePrueba
+     * post: las clausulas que modelan el caso estan construidas
      */
     public void construirClausulas() {
-        Iterator iterador = this.viajes.iterator();
-        while (iterador.hasNext() && !this.tieneSolucion[0]) {
-            int[] par = (int[]) iterador.next();
-            
-            int[] clausula = this.construirClausula(par);
-
-            if (clausula != null) {
-                this.clausulas.add(clausula);
-            }
-        }
+        this.caso.construirClausulas();
     }
 
     /**
-     * Simplifica el modelo en forma 2CNF para eliminar las clausulas unitarias
-     * pre: Se deben haber construido las clausulas que modelan los viajes
-     * post: this.literalesSolos esta vacia, y las clausulas que dependian de su
-     * anterior contenido se han procesado adecuadamente
+     * Transforma las clausulas del caso en uso a la forma 2CNF
+     * pre: Se debe haber creado las clausulas que modelan los viajes.
+     * post: la fórmula 2CNF del caso está construida y simplificada
      */
-    private void simplificar2CNF() {
-
-        if (!this.tieneSolucion[0]) {
-            while (!this.literalesSolos.empty()) {
-                int lit = ((Integer) this.literalesSolos.pop()).intValue();
-
-                int[][] claus = new int[this.dosCNF.size()][];
-                Iterator auxIter = this.dosCNF.iterator();
-                for (int i = 0; i < claus.length; i++) {
-                    int[] arr = (int[]) auxIter.next();
-                    claus[i] = arr;
-                }
-
-                for (int i = 0; i < claus.length; i++) {
-                    this.procesarLit(i, lit, claus);
-                }
-            }
-            if (this.dosCNF.isEmpty()) {
-                this.tieneSolucion[0] = true;
-                this.tieneSolucion[1] = true;
-            }
-        }
+    public void construir2CNF() {
+        this.caso.construir2CNF();
     }
 
     /**
-     * Procesa el literal pasado. Decide que hacer en funcion de la comparación
-     * del literal con cada parte de la disjuncion pasada.
-     * pre: i debe estar entre 0 y disjs.length y lit debe estar entre 0 y
-     * this.nNodos; se deben haber creado las clausulas de forma 2CNF y disjs
-     * debe contener dichas cláusulas.
-     * post: se analizan todas las disjunciones y, si en alguna de ellas está
-     * lit, ésta se elimina; y si está noLit, se elimina y el literal que lo
-     * acompaña se agrega a la pila de literales solos.
-     *
-     * @param i Numero de disjunción que se está analizando
-     * @param lit Representación del literal a comparar
-     * @param disjs Todas las disjunciones a comparar
+     * Construye el grafo de implicaciones del caso en uso
+     * pre: Debe de haberse construido y simplificado las clausulas de la forma
+     * 2CNF
+     * post: en caso de que no se haya conseguido ya la solucion, se construye
+     * el grafo de implicaciones del caso.
      */
-    private void procesarLit(int i, int lit, int[][] disjs) {
-
-        int noLit = (lit % 2 == 0 ? lit + 1 : lit - 1);
-        int pe = disjs[i][0];
-        int q = disjs[i][1];
-        int noP = (pe % 2 == 0 ? pe + 1 : pe - 1);
-        int noQ = (q % 2 == 0 ? q + 1 : q - 1);
-
-        if (pe == noLit) {
-            this.dosCNF.remove(disjs[i]);
-            if (!this.literalesSolos.contains(new Integer(noQ))) {
-                if (!this.literalesSolos.contains(new Integer(q))) {
-                    this.literalesSolos.push(new Integer(q));
-                }
-            } else {
-                this.tieneSolucion[0] = true;
-                this.tieneSolucion[1] = false;
-            }
-        }
-
-        if (q == noLit) {
-            this.dosCNF.remove(disjs[i]);
-            if (!this.literalesSolos.contains(new Integer(noP))) {
-                if (!this.literalesSolos.contains(new Integer(pe))) {
-                    this.literalesSolos.push(new Integer(pe));
-                }
-            } else {
-                this.tieneSolucion[0] = true;
-                this.tieneSolucion[1] = false;
-            }
-        }
+    public void construirGrafoDeImplicaciones() {
+        this.caso.construirGrafoDeImplicaciones();
     }
 
     /**
-     * Transforma las clausulas calculadas a la forma 2CNF
-     * pre: Se debe haber creado las clausulas que modelan los viajes.
-     * post: se cargan las clausulas en la forma 2CNF en this.dosCNF
+     * Calcula las componentes fuertemente conexas del grafo de implicaciones
+     * del caso en uso
+     * pre: se debe haber construido el grafo de implicaciones
+     * post: se calculan las componentes fuertemente conexas del caso.
      */
-    public void construir2CNF() {
-
-        if (!this.tieneSolucion[0]) {
-            Iterator iterador = this.clausulas.iterator();
-            while (iterador.hasNext()) {
-                int[] clausula = (int[]) iterador.next();
-
-                int[][] disjunciones = Main.distributiva(clausula);
-
-                /* Se agrega la lista de disjunciones para formar la fórmula
-                 * de la forma 2CNF:
-                 */
-
-                int[] disj1 = new int[2];
-                disj1[0] = disjunciones[0][0];
-                disj1[1] = disjunciones[1][0];
+    public void calcularComponentesFuertementeConexas() {
+        this.caso.calcularComponentesFuertementeConexas();
+    }
 
-                int[] disj2 = new int[2];
-                disj2[0] = disjunciones[0][1];
-                disj2[1] = disjunciones[1][1];
+    /**
+     * Escribe el resultado de los calculos en el archivo de salida
+     * pre: true;
+     * post: En caso de que no se haya encontrado antes la solución, se analizan
+     * las componentes fuertemente conexas para determinar la solución, y se
+     * imprime la misma en el archivo de salida.
+     * @throws IOException en caso de que ocurra un error al escribir
+     */
+    public void decision() throws IOException {
+        this.escribirRespuesta(this.caso, this.caso.decision());
+    }
 
-                int[] disj3 = new int[2];
-                disj3[0] = disjunciones[0][2];
-                disj3[1] = disjunciones[1][2];
+    /**
+     * Resuelve todos los casos restantes del archivo de entrada usando
+     * {@code nHilos} hilos de trabajo. El hilo que llama a este método lee los
+     * casos uno a uno y los entrega a los hilos de trabajo, que ejecutan la
+     * resolución completa de cada caso sobre su propio CasoDePrueba. Las
+     * respuestas se escriben en el orden del archivo de entrada: los casos en
+     * curso se guardan en una cola, en orden de lectura, y se escribe la
+     * respuesta del primero de la cola cuando éste termina. La cola tiene a lo
+     * sumo 4 * nHilos casos, para no leer el archivo mucho más rápido de lo que
+     * se resuelve. Los casos se resuelven en el pool compartido, con
+     * {@code nHilos} hilos, el mismo donde se calculan las componentes en
+     * paralelo.
+     * pre: 0 &lt; nHilos, y no se ha leído ningún caso
+     * post: Se imprime en el archivo de salida el resultado de cada uno de los
+     * casos restantes, en orden.
+     * @param nHilos número de hilos de trabajo
+     * @throws IOException En caso de que se produzca un error del tipo I/O, o
+     * de formato en el archivo de entrada.
+     */
+    public void resolverEnParalelo(int nHilos) throws IOException {
+        this.pool = new ForkJoinPool(nHilos);
+        Cola<Future<Boolean>> enCurso = new Cola<Future<Boolean>>();
+        Cola<CasoDePrueba> casosEnCurso = new Cola<CasoDePrueba>();
+        int maxEnCurso = 4 * nHilos;
 
-                int[] disj4 = new int[2];
-                disj4[0] = disjunciones[0][3];
-                disj4[1] = disjunciones[1][3];
+        try {
+            while (this.hasNext()) {
+                this.sigCasoDePrueba();
+                final CasoDePrueba sig = this.caso;
+                this.caso = null;
+
+                enCurso.add(this.pool.submit(new Callable<Boolean>() {
+                    public Boolean call() {
+                        return sig.resolver();
+                    }
+                }));
+                casosEnCurso.add(sig);
 
-                if (!this.dosCNF.contains(disj1) &&
-                    !this.dosCNF.contains(Main.simetrico(disj1))) {
-                    this.dosCNF.add(disj1);
-                }
-                if (!this.dosCNF.contains(disj2) &&
-                    !this.dosCNF.contains(Main.simetrico(disj2))) {
-                    this.dosCNF.add(disj2);
-                }
-                if (!this.dosCNF.contains(disj3) &&
-                    !this.dosCNF.contains(Main.simetrico(disj3))) {
-                    this.dosCNF.add(disj3);
-                }
-                if (!this.dosCNF.contains(disj4) &&
-                    !this.dosCNF.contains(Main.simetrico(disj4))) {
-                    this.dosCNF.add(disj4);
+                if (maxEnCurso <= enCurso.size()) {
+                    boolean respuesta = Main.esperar(enCurso.remove());
+                    this.escribirRespuesta(casosEnCurso.remove(), respuesta);
                 }
             }
-
-            this.simplificar2CNF();
+        } finally {
+            /* Se escriben las respuestas de los casos ya leídos, aunque la
+             * lectura haya terminado con un error de formato.
+             */
+            while (!enCurso.isEmpty()) {
+                boolean respuesta = Main.esperar(enCurso.remove());
+                this.escribirRespuesta(casosEnCurso.remove(), respuesta);
+            }
         }
     }
 
     /**
-     * Construye el grafo de implicaciones que representa ésta instancia del
-     * problema
-     * pre: Debe de haberse construido y simplificado las clausulas de la forma
-     * 2CNF
-     * post: en caso de que no se haya conseguido ya la solucion, se construye
-     * un grafo de implicaciones que modela esta instancia del problema.
+     * Espera a que termine la resolución de un caso y devuelve su respuesta.
+     * pre: resultado != null
+     * post: se devuelve la respuesta del caso; si su resolución lanzó una
+     * excepción, ésta se relanza.
+     * @param resultado la resolución en curso del caso
+     * @return true si el caso tiene solución, false si no
+     * @throws IOException si se interrumpe la espera
      */
-    public void construirGrafoDeImplicaciones() {
-
-        if (!this.tieneSolucion[0]) {
-            /* Por razones de eficiencia, se escogió la implementación
-             * DiGraphList, pero se deja el otro constructor comentado para
-             * facilmente cambiar de implementación.
-             */
-
-            this.digrafo = new DiGraphList(this.nNodos);
-            //this.digrafo = new DiGraphMatrix(this.nNodos + this.nDummies);
-
-            int[][] disj = new int[this.dosCNF.size()][];
-            Iterator iter = this.dosCNF.iterator();
-
-            for (int i = 0; i < disj.length; i++) {
-                int[] arr = (int[]) iter.next();
-                disj[i] = arr;
-            }
-
-            for (int i = 0; i < disj.length; i++) {
-
-                if (disj[i][0] % 2 == 0) {
-                    if (disj[i][1] % 2 == 0) {
-                        this.implicacionPoQ(disj[i][0], disj[i][1], digrafo);
-                    } else {
-                        this.implicacionPoNoQ(disj[i][0], disj[i][1], digrafo);
-                    }
-                } else {
-                    if (disj[i][1] % 2 == 0) {
-                        this.implicacionNoPoQ(disj[i][0], disj[i][1], digrafo);
-                    } else {
-                        this.implicacionNoPoNoQ(disj[i][0], disj[i][1], digrafo);
-                    }
-                }
+    private static boolean esperar(Future<Boolean> resultado)
+                                                        throws IOException
+    {
+        try {
+            return resultado.get().booleanValue();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Se interrumpió la espera de " +
+                    "la resolución de un caso");
+        } catch (ExecutionException ee) {
+            Throwable causa = ee.getCause();
+            if (causa instanceof RuntimeException) {
+                throw (RuntimeException) causa;
+            } else if (causa instanceof Error) {
+                throw (Error) causa;
+            } else {
+                throw new IOException(causa);
             }
         }
     }
 
     /**
-     * calcula las componentes fuertemente conexas usando el algoritmo de Tarjan
-     * pre: this.digrafo != null;
-     * post: Se calculan las componentes fuertemente conexas del digrafo que
-     * modela esta instancia del problema y se cargan en this.compsFuertConexas.
+     * Lee el valor de una opción -umbral-*.
+     * pre: true
+     * post: true
+     * @param valor el texto después del signo =
+     * @return el umbral, o -1 si valor no es un entero no negativo
      */
-    public void calcularComponentesFuertementeConexas() {
-
-        if (!this.tieneSolucion[0]) {
-            Tarjan tarjan = new Tarjan(this.digrafo);
-            this.compsFuertConexas = tarjan.ejecutar();
-
-            if (this.compsFuertConexas.size() == 1) {
-                this.tieneSolucion[0] = true;
-                this.tieneSolucion[1] = false;
-            }
-
-            if (this.compsFuertConexas.size() == this.nNodos) {
-                this.tieneSolucion[0] = true;
-                this.tieneSolucion[1] = true;
-            }
+    private static int leerUmbral(String valor) {
+        try {
+            return Math.max(Integer.parseInt(valor), -1);
+        } catch (NumberFormatException nfe) {
+            return -1;
         }
     }
 
     /**
-     * Analiza una componente para ver si consigue literales que den contradic-
-     * cion.
-     * pre: componente debe contener una componente F.C. del grafo del problema
-     * post: se retorna true si hay contrdiccion en esta componente, false en
-     * caso contrario.
-     * @param componente C.F.C. a analizar
-     * @return true si no hay contradiccion en esta componente, false en caso
-     * contrario.
+     * Escribe la respuesta de un caso en el archivo de salida, y acumula sus
+     * estadísticas si se piden.
+     * pre: caso != null
+     * post: se agrega "Si." o "No." a las respuestas del archivo de salida, y
+     * las orientaciones del caso a su archivo, si se piden.
+     * @param caso el caso resuelto
+     * @param tieneSolucion la respuesta del caso
+     * @throws IOException en caso de que ocurra un error al escribir
      */
-    private boolean analizarComponente(List<Integer> componente) {
-        int[] comp = new int[componente.size()];
-        Iterator iter = componente.iterator();
-        boolean noHayProblema = true;
-        
-        for (int i = 0; i < comp.length; i++) {
-            comp[i] = ((Integer)iter.next()).intValue();
+    private void escribirRespuesta(CasoDePrueba caso, boolean tieneSolucion)
+                                                            throws IOException
+    {
+        this.out.escribir(tieneSolucion);
+        if (this.orientaciones != null) {
+            this.orientaciones.escribir(caso.getNumero(), caso.getCalles(),
+                                        caso.asignacion());
         }
-        
-        for (int i = 0; i < comp.length && noHayProblema; i++) {
-            if (comp[i] < ((2 * this.a ) + (2 * this.c ))) {
-                for (int j = i + 1; j < comp.length && noHayProblema; j++) {
-                    if (comp[j] < ((2 * this.a ) + (2 * this.c ))) {
-                        if ( comp[i] % 2 == 0 ) {
-                            noHayProblema = (comp[j] != comp[i] + 1);
-                        } else {
-                            noHayProblema = (comp[j] != comp[i] - 1);
-                        }
-                    }
-                }
-            }
+        if (this.estadisticas != null) {
+            this.estadisticas.acumular(caso.getEstadisticas());
         }
-        return noHayProblema;
     }
 
     /**
-     * Escribe el resultado de los calculos en el archivo de salida
-     * pre: true;
-     * post: En caso de que no se haya encontrado antes la solución, se analizan
-     * las componentes fuertemente conexas para determinar la solución, y se
-     * imprime la misma en el archivo de salida.
+     * Activa la recolección de estadísticas de los casos siguientes.
+     * pre: true
+     * post: this.estadisticas == estadisticas
+     * @param estadisticas acumulador de las estadísticas, o null para no
+     * recolectarlas
      */
-    public void decision() {
-        String desicion = "";
+    public void setEstadisticas(Estadisticas estadisticas) {
+        this.estadisticas = estadisticas;
+    }
 
-        if (!this.tieneSolucion[0]) {
+    /**
+     * Activa la escritura de las orientaciones de calles y avenidas que
+     * satisfacen cada uno de los casos siguientes (ver
+     * EscritorDeOrientaciones).
+     * pre: archivo != null
+     * post: se crea el archivo, y las orientaciones de cada caso se escriben
+     * en él junto con su respuesta.
+     * @param archivo nombre del archivo de orientaciones
+     * @throws IOException si no se puede crear el archivo
+     */
+    public void setArchivoDeOrientaciones(String archivo) throws IOException {
+        this.orientaciones = new EscritorDeOrientaciones(
+                new FileOutputStream(archivo).getChannel());
+    }
 
-            Iterator iter = this.compsFuertConexas.iterator();
-            boolean existeVialidad = true;
-            
-            while (iter.hasNext() && existeVialidad) {
-                List<Integer> aux = (List<Integer>)iter.next();
-                existeVialidad = analizarComponente(aux);
+    /**
+     * Escribe las respuestas pendientes, cierra los archivos de entrada y de
+     * salida y termina el pool compartido.
+     * pre: true
+     * post: todas las respuestas están en el archivo de salida, las
+     * orientaciones en el suyo, todos los archivos están cerrados y el pool
+     * no acepta más tareas.
+     * @throws IOException en caso de que ocurra un error al escribir o cerrar
+     */
+    public void cerrar() throws IOException {
+        try {
+            if (this.out != null) {
+                this.out.close();
+            }
+        } finally {
+            try {
+                if (this.orientaciones != null) {
+                    this.orientaciones.close();
+                }
+            } finally {
+                if (this.pool != null) {
+                    this.pool.shutdown();
+                }
+                if (this.in != null) {
+                    this.in.close();
+                }
             }
-
-            this.tieneSolucion[0] = true;
-            this.tieneSolucion[1] = existeVialidad;
         }
-
-        desicion = ( this.tieneSolucion[1] ? "Si." : "No.");
-
-        this.out.println(desicion);
     }
 
     /**
@@ -1039,27 +800,158 @@ public class Main {
      * instancias del problema propuestas en el archivo de salida.
      *
      * @param args los argumentos pasados por linea de comandos. la sintaxis del
-     * programa es: java Main archivo_entrada.input archivo_salida.output
+     * programa es: java Main [opciones] archivo_entrada.input
+     * archivo_salida.output, donde las opciones son:
+     *   -grafo=csr|lista|matriz|bits|directo|enteros
+     *                            implementación del grafo de implicaciones
+     *                            (csr por defecto); directo compila los
+     *                            viajes en un grafo CSR sin pasar por las
+     *                            cláusulas ni la fórmula 2CNF; enteros usa
+     *                            listas de enteros sin objetos Arc
+     *   -componentes=tarjan|recursivo|kosaraju|gabow|paralelo
+     *                            algoritmo de componentes fuertemente
+     *                            conexas (tarjan iterativo por defecto);
+     *                            paralelo usa ComponentesEnParalelo en
+     *                            todos los casos
+     *   -umbral-nodos=N          calcula las componentes en paralelo en los
+     *                            grafos de al menos N nodos (131072 por
+     *                            defecto)
+     *   -umbral-arcos=M          calcula las componentes en paralelo en los
+     *                            grafos de al menos M arcos (4194304 por
+     *                            defecto)
+     *   -mmap                    mapea el archivo de entrada en memoria en
+     *                            lugar de leerlo con un buffer
+     *   -binario                 lee el archivo de entrada en el formato
+     *                            binario generado por ConvertidorBinario
+     *   -hilos=N                 resuelve los casos en paralelo con N hilos
+     *   -paralelo                resuelve los casos en paralelo con un hilo
+     *                            por procesador
+     *   --stats[=ARCH.csv]       al terminar, imprime un resumen de tiempos
+     *                            por etapa y tamaños de los casos; con ARCH,
+     *                            escribe además una línea CSV por caso
+     *   -orientaciones=ARCH      escribe en ARCH una orientación de calles y
+     *                            avenidas que satisface cada caso con
+     *                            solución
      * @throws IOException En caso de que se produzca un error del tipo I/O, o
      * de formato en el archivo de entrada.
      */
     public static void main(String[] args) throws IOException{
         Main vialidad = null;
-        if (args.length == 2) {
-            vialidad = new Main(args[0], args[1]);
+        int grafo = Main.GRAFO_CSR;
+        int componentes = Main.COMPONENTES_TARJAN;
+        int umbralNodos = Main.UMBRAL_NODOS_PARALELO;
+        int umbralArcos = Main.UMBRAL_ARCOS_PARALELO;
+        int entrada = Main.ENTRADA_TEXTO;
+        int nHilos = 1;
+        boolean stats = false;
+        String archivoCSV = null;
+        String archivoOrientaciones = null;
+        int nOpciones = args.length - 2;
+
+        for (int i = 0; i < nOpciones; i++) {
+            if (args[i].equals("-grafo=csr")) {
+                grafo = Main.GRAFO_CSR;
+            } else if (args[i].equals("-grafo=lista")) {
+                grafo = Main.GRAFO_LISTA;
+            } else if (args[i].equals("-grafo=matriz")) {
+                grafo = Main.GRAFO_MATRIZ;
+            } else if (args[i].equals("-grafo=bits")) {
+                grafo = Main.GRAFO_BITS;
+            } else if (args[i].equals("-grafo=directo")) {
+                grafo = Main.GRAFO_DIRECTO;
+            } else if (args[i].equals("-grafo=enteros")) {
+                grafo = Main.GRAFO_ENTEROS;
+            } else if (args[i].equals("-componentes=tarjan")) {
+                componentes = Main.COMPONENTES_TARJAN;
+            } else if (args[i].equals("-componentes=recursivo")) {
+                componentes = Main.COMPONENTES_RECURSIVO;
+            } else if (args[i].equals("-componentes=kosaraju")) {
+                componentes = Main.COMPONENTES_KOSARAJU;
+            } else if (args[i].equals("-componentes=gabow")) {
+                componentes = Main.COMPONENTES_GABOW;
+            } else if (args[i].equals("-componentes=paralelo")) {
+                componentes = Main.COMPONENTES_PARALELO;
+            } else if (args[i].startsWith("-umbral-nodos=")) {
+                umbralNodos = Main.leerUmbral(args[i].substring(14));
+                if (umbralNodos < 0) {
+                    nOpciones = -1;
+                }
+            } else if (args[i].startsWith("-umbral-arcos=")) {
+                umbralArcos = Main.leerUmbral(args[i].substring(14));
+                if (umbralArcos < 0) {
+                    nOpciones = -1;
+                }
+            } else if (args[i].equals("-mmap")) {
+                entrada = Main.ENTRADA_MAPEADA;
+            } else if (args[i].equals("-binario")) {
+                entrada = Main.ENTRADA_BINARIA;
+            } else if (args[i].equals("-paralelo")) {
+                nHilos = Runtime.getRuntime().availableProcessors();
+            } else if (args[i].equals("--stats")) {
+                stats = true;
+            } else if (args[i].startsWith("--stats=")) {
+                stats = true;
+                archivoCSV = args[i].substring(8);
+            } else if (args[i].startsWith("-orientaciones=")) {
+                archivoOrientaciones = args[i].substring(15);
+            } else if (args[i].startsWith("-hilos=")) {
+                try {
+                    nHilos = Integer.parseInt(args[i].substring(7));
+                } catch (NumberFormatException nfe) {
+                    nHilos = 0;
+                }
+                if (nHilos < 1) {
+                    nOpciones = -1;
+                }
+            } else {
+                nOpciones = -1;
+            }
+        }
+
+        if (0 <= nOpciones) {
+            vialidad = new Main(args[nOpciones], args[nOpciones + 1],
+                                entrada);
+            vialidad.setImplementacionGrafo(grafo);
+            vialidad.setAlgoritmoDeComponentes(componentes);
+            vialidad.setUmbralesParalelos(umbralNodos, umbralArcos);
+            if (stats) {
+                vialidad.setEstadisticas(new Estadisticas(archivoCSV));
+            }
+            if (archivoOrientaciones != null) {
+                vialidad.setArchivoDeOrientaciones(archivoOrientaciones);
+            }
         } else {
             throw new ExcepcionFormatoIncorrecto("Error de sintaxis en la " +
                     "llamada del programa.\n\nUSO:\n\n\tjava Main " +
-                    "archivo_entrada.input archivo_salida.output\n\n");
+                    "[-grafo=csr|lista|matriz|bits|directo|enteros] " +
+                    "[-componentes=tarjan|recursivo|kosaraju|gabow|" +
+                    "paralelo] [-umbral-nodos=N] [-umbral-arcos=M] " +
+                    "[-mmap | -binario] " +
+                    "[-hilos=N | -paralelo] [--stats[=ARCH.csv]] " +
+                    "[-orientaciones=ARCH] " +
+                    "archivo_entrada.input " +
+                    "archivo_salida.output\n\n");
+        }
+
+        try {
+            if (1 < nHilos) {
+                vialidad.resolverEnParalelo(nHilos);
+            } else {
+                while (vialidad.hasNext()) {
+                    vialidad.sigCasoDePrueba();
+                    vialidad.construirClausulas();
+                    vialidad.construir2CNF();
+                    vialidad.construirGrafoDeImplicaciones();
+                    vialidad.calcularComponentesFuertementeConexas();
+                    vialidad.decision();
+                }
+            }
+        } finally {
+            vialidad.cerrar();
         }
 
-        while (vialidad.hasNext()) {
-            vialidad.sigCasoDePrueba();
-            vialidad.construirClausulas();
-            vialidad.construir2CNF();
-            vialidad.construirGrafoDeImplicaciones();
-            vialidad.calcularComponentesFuertementeConexas();
-            vialidad.decision();
+        if (stats) {
+            vialidad.estadisticas.imprimirResumen(System.out);
         }
 
     }
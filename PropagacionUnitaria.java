@@ -0,0 +1,179 @@
+/**
+ * Motor de propagación unitaria para fórmulas en forma 2CNF. Mantiene el
+ * conjunto de literales que se sabe que deben ser verdaderos (las cláusulas
+ * unitarias y sus consecuencias) y simplifica la fórmula con ellos:
+ *
+ *  - una disjunción que contiene un literal verdadero queda satisfecha y se
+ *    elimina;
+ *  - una disjunción que contiene un literal falso se elimina, y su otro
+ *    literal pasa a ser verdadero.
+ *
+ * Los literales se representan como en Main: el complemento de x es (x ^ 1).
+ * Para cada literal se construyen las listas de ocurrencias (en forma CSR) de
+ * las disjunciones que lo contienen, y los literales pendientes se procesan
+ * con una cola de trabajo. Cada literal entra a la cola a lo sumo una vez y
+ * cada disjunción se revisa una vez por cada uno de sus dos literales, así que
+ * la propagación completa es lineal en el tamaño de la fórmula.
+ */
+public class PropagacionUnitaria {
+
+    // Modelo de representación:
+
+    /**
+     * asignado[x] indica si el literal x se sabe verdadero
+     */
+    private boolean[]   asignado;
+
+    /**
+     * Cola de literales asignados cuyas consecuencias no se han propagado.
+     * Como cada literal se encola a lo sumo una vez, basta un arreglo del
+     * tamaño del número de literales.
+     */
+    private int[]       cola;
+    private int         cabeza;
+    private int         fin;
+
+    /**
+     * Indica si se intentó asignar un literal cuyo complemento ya era
+     * verdadero.
+     */
+    private boolean     conflicto;
+
+    // CONSTRUCTOR:
+
+    /**
+     * Crea un motor de propagación sin literales asignados.
+     * pre: 0 &lt;= nLiterales, y nLiterales es par
+     * post: ningún literal está asignado y no hay conflicto.
+     * @param nLiterales número de literales (el doble del número de variables)
+     */
+    public PropagacionUnitaria(int nLiterales) {
+        this.asignado = new boolean[nLiterales];
+        this.cola = new int[nLiterales];
+        this.cabeza = 0;
+        this.fin = 0;
+        this.conflicto = false;
+    }
+
+    // MÉTODOS:
+
+    /**
+     * Registra que el literal {@code lit} debe ser verdadero.
+     * pre: 0 &lt;= lit &lt; número de literales
+     * post: si el complemento de lit ya era verdadero, se registra el
+     * conflicto; si no, lit queda asignado y pendiente de propagar.
+     * @param lit el literal
+     * @return false si la asignación produce un conflicto, true si no
+     */
+    public boolean asignar(int lit) {
+        if (this.asignado[lit ^ 1]) {
+            this.conflicto = true;
+            return false;
+        }
+        if (!this.asignado[lit]) {
+            this.asignado[lit] = true;
+            this.cola[this.fin++] = lit;
+        }
+        return true;
+    }
+
+    /**
+     * Propaga los literales asignados sobre la fórmula {@code formula},
+     * eliminando de ella las disjunciones satisfechas y las que se reducen a
+     * un literal (el cual se asigna y se propaga a su vez).
+     * pre: todos los literales de formula están en [0, número de literales)
+     * post: si no hay conflicto, ninguna disjunción viva de formula contiene
+     * un literal asignado ni su complemento.
+     * @param formula las disjunciones a simplificar
+     * @return false si se produjo un conflicto, true si no
+     */
+    public boolean propagar(ConjuntoDeDisjunciones formula) {
+        if (this.conflicto) {
+            return false;
+        }
+        if (this.cabeza == this.fin) {
+            return true;
+        }
+
+        // Listas de ocurrencias: las disjunciones que contienen al literal x
+        // son ocurrencias[inicio[x]] .. ocurrencias[inicio[x+1] - 1]
+        int nLiterales = this.asignado.length;
+        int total = formula.getTotal();
+        int[] inicio = new int[nLiterales + 1];
+        for (int i = 0; i < total; i++) {
+            if (formula.estaViva(i)) {
+                inicio[formula.getPrimero(i) + 1]++;
+                inicio[formula.getSegundo(i) + 1]++;
+            }
+        }
+        for (int x = 0; x < nLiterales; x++) {
+            inicio[x + 1] += inicio[x];
+        }
+        int[] ocurrencias = new int[inicio[nLiterales]];
+        int[] proximo = new int[nLiterales];
+        System.arraycopy(inicio, 0, proximo, 0, nLiterales);
+        for (int i = 0; i < total; i++) {
+            if (formula.estaViva(i)) {
+                ocurrencias[proximo[formula.getPrimero(i)]++] = i;
+                ocurrencias[proximo[formula.getSegundo(i)]++] = i;
+            }
+        }
+
+        while (this.cabeza < this.fin) {
+            int lit = this.cola[this.cabeza++];
+            int noLit = lit ^ 1;
+
+            // Disjunciones satisfechas por lit
+            for (int k = inicio[lit]; k < inicio[lit + 1]; k++) {
+                formula.eliminar(ocurrencias[k]);
+            }
+
+            // Disjunciones en las que noLit es falso: queda el otro literal
+            for (int k = inicio[noLit]; k < inicio[noLit + 1]; k++) {
+                int i = ocurrencias[k];
+                if (formula.estaViva(i)) {
+                    formula.eliminar(i);
+                    int otro = (formula.getPrimero(i) == noLit ?
+                                        formula.getSegundo(i) :
+                                        formula.getPrimero(i));
+                    if (!this.asignar(otro)) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Indica si el literal {@code lit} se sabe verdadero.
+     * pre: 0 &lt;= lit &lt; número de literales
+     * post: true
+     * @param lit el literal
+     * @return true si lit está asignado
+     */
+    public boolean estaAsignado(int lit) {
+        return this.asignado[lit];
+    }
+
+    /**
+     * Retorna el número de literales asignados hasta ahora, incluyendo los
+     * que aún no se han propagado.
+     * pre: true
+     * post: true
+     * @return el número de literales que se saben verdaderos
+     */
+    public int getNumeroDeAsignados() {
+        return this.fin;
+    }
+
+    /**
+     * Indica si hubo algún conflicto.
+     * pre: true
+     * post: true
+     * @return true si se intentó asignar un literal y su complemento
+     */
+    public boolean hayConflicto() {
+        return this.conflicto;
+    }
+}
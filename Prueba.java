@@ -28,7 +28,7 @@ public class Prueba {
             dig.addArc(3, 2);
             dig.addArc(1, 2);
         }
-        List<List<Integer>> compsFuertConexas = new Lista();
+        List<IntList> compsFuertConexas = new ArrayLista();
 
         Tarjan tar = new Tarjan(dig);
 
@@ -38,7 +38,7 @@ public class Prueba {
             int[][] claus = new int[compsFuertConexas.size()][];
             Iterator auxIter = compsFuertConexas.iterator();
             for (int i = 0; i < claus.length; i++) {
-                List<Integer> lis = (List<Integer>)auxIter.next();
+                IntList lis = (IntList)auxIter.next();
                 System.out.println("Componente "+i+" :\n" + lis.toString());
             }
     }
@@ -0,0 +1,244 @@
+/**
+ * Solucionador incremental del problema de vialidad eficiente: los viajes se
+ * agregan uno a uno con addTrip, y después de cada uno se puede preguntar si
+ * todavía existe una orientación de calles y avenidas que los satisfaga
+ * todos, sin reconstruir el grafo de implicaciones ni recalcular sus
+ * componentes fuertemente conexas.
+ *
+ * Los literales se representan como en CasoDePrueba (ver Main), y cada viaje
+ * se traduce a disjunciones con CasoDePrueba.disjuncionesDelViaje. Se mantienen
+ * el grafo de implicaciones, que sólo crece, y una asignación que satisface
+ * todas las disjunciones agregadas hasta ahora. Al agregar una disjunción
+ * (p \/ q) que la asignación no satisface, se intenta hacer verdadero p y
+ * propagar sus consecuencias por el grafo; si eso produce una contradicción,
+ * se deshace y se intenta con q. Si ambos fallan, la fórmula dejó de ser
+ * satisfacible, pues F /\ (p \/ q) es satisfacible si y sólo si lo es F /\ p
+ * o F /\ q.
+ *
+ * La propagación sólo atraviesa literales que la asignación actual hace
+ * falsos: las consecuencias de un literal verdadero ya son verdaderas, pues la
+ * asignación satisface todos los arcos. Así, el costo de cada disjunción es
+ * proporcional a la parte de la asignación que cambia, no al tamaño de la
+ * fórmula, y una disjunción ya satisfecha cuesta O(1).
+ */
+public class SolucionadorIncremental {
+
+    // Modelo de representación:
+
+    private int                 calles;
+    private int                 avenidas;
+
+    /**
+     * Número en el que comienza la representación de las avenidas
+     */
+    private int                 offset;
+
+    /**
+     * Grafo de implicaciones: sucesores[x] son los literales implicados por x.
+     */
+    private IntList[]           sucesores;
+
+    /**
+     * Disjunciones ya agregadas, para no repetir sus arcos.
+     */
+    private ConjuntoDeDisjunciones disjunciones;
+
+    /**
+     * Literales de las disjunciones del viaje en curso, de a pares
+     */
+    private int[]               disj;
+
+    /**
+     * Asignación actual: verdadero[x] indica si el literal x es verdadero.
+     * Siempre verdadero[x] != verdadero[x ^ 1].
+     */
+    private boolean[]           verdadero;
+
+    /**
+     * Marcas de la propagación en curso: alcanzado[x] es el número de la
+     * propagación que alcanzó a x (ver this.propagacion), y rastro contiene
+     * los literales falsos que esa propagación haría verdaderos.
+     */
+    private int[]               alcanzado;
+    private int                 propagacion;
+    private IntStack            rastro;
+    private IntStack            pendientes;
+
+    /**
+     * false desde que un viaje hizo imposible la orientación.
+     */
+    private boolean             satisfacible;
+
+    // CONSTRUCTOR:
+
+    /**
+     * Crea un solucionador para una grilla sin viajes.
+     * pre: 0 &lt;= calles &amp;&amp; 0 &lt;= avenidas
+     * post: this.isSatisfiable()
+     * @param calles número de calles de la grilla
+     * @param avenidas número de avenidas de la grilla
+     */
+    public SolucionadorIncremental(int calles, int avenidas) {
+        this.calles = calles;
+        this.avenidas = avenidas;
+        this.offset = 2 * calles;
+
+        int nLiterales = 2 * (calles + avenidas);
+        this.sucesores = new IntList[nLiterales];
+        for (int x = 0; x < nLiterales; x++) {
+            this.sucesores[x] = new IntList(4);
+        }
+        this.disjunciones = new ConjuntoDeDisjunciones();
+        this.disj = new int[8];
+
+        // Sin viajes, cualquier asignación sirve: todos los literales sin negar
+        this.verdadero = new boolean[nLiterales];
+        for (int x = 0; x < nLiterales; x += 2) {
+            this.verdadero[x] = true;
+        }
+
+        this.alcanzado = new int[nLiterales];
+        this.propagacion = 0;
+        this.rastro = new IntStack();
+        this.pendientes = new IntStack();
+        this.satisfacible = true;
+    }
+
+    // MÉTODOS:
+
+    /**
+     * Agrega el viaje desde el punto (ca1, av1) hasta el punto (ca2, av2),
+     * que debe poder hacerse de manera eficiente.
+     * pre: 1 &lt;= ca1, ca2 &lt;= calles &amp;&amp; 1 &lt;= av1, av2 &lt;= avenidas
+     * post: this.isSatisfiable() indica si existe una orientación que
+     * satisface todos los viajes agregados hasta ahora.
+     * @param ca1 calle del punto de partida
+     * @param av1 avenida del punto de partida
+     * @param ca2 calle del punto de llegada
+     * @param av2 avenida del punto de llegada
+     * @return this.isSatisfiable()
+     */
+    public boolean addTrip(int ca1, int av1, int ca2, int av2) {
+        if (!this.satisfacible) {
+            return false;
+        }
+        int n = CasoDePrueba.disjuncionesDelViaje(ca1, av1, ca2, av2,
+                                                  this.offset, this.disj);
+        for (int k = 0; k < 2 * n; k += 2) {
+            this.agregarDisjuncion(this.disj[k], this.disj[k + 1]);
+        }
+        return this.satisfacible;
+    }
+
+    /**
+     * Indica si existe una orientación que satisface todos los viajes
+     * agregados hasta ahora.
+     * pre: true
+     * post: true
+     * @return true si los viajes agregados son satisfacibles
+     */
+    public boolean isSatisfiable() {
+        return this.satisfacible;
+    }
+
+    /**
+     * Retorna una asignación que satisface todos los viajes agregados, con el
+     * formato de CasoDePrueba.asignacion(): la posición k-1 es la calle k
+     * (true para W-E) y la posición calles+k-1 es la avenida k (true para
+     * N-S).
+     * pre: true
+     * post: si los viajes son satisfacibles, el resultado tiene
+     * calles + avenidas posiciones.
+     * @return la asignación, o null si los viajes no son satisfacibles
+     */
+    public boolean[] asignacion() {
+        if (!this.satisfacible) {
+            return null;
+        }
+        boolean[] valor = new boolean[this.calles + this.avenidas];
+        for (int i = 0; i < valor.length; i++) {
+            valor[i] = this.verdadero[2 * i];
+        }
+        return valor;
+    }
+
+    // METODOS PRIVADOS AUXILIARES:
+
+    /**
+     * Agrega la disjunción (p \/ q) y restablece una asignación que la
+     * satisfaga junto con las anteriores, si existe.
+     * pre: this.satisfacible
+     * post: si la fórmula sigue siendo satisfacible, this.verdadero la
+     * satisface; si no, this.satisfacible es false.
+     * @param p primer literal
+     * @param q segundo literal
+     */
+    private void agregarDisjuncion(int p, int q) {
+        if (!this.satisfacible || !this.disjunciones.agregar(p, q)) {
+            return;
+        }
+        this.sucesores[p ^ 1].add(q);
+        if (p != q) {
+            this.sucesores[q ^ 1].add(p);
+        }
+
+        if (this.verdadero[p] || this.verdadero[q]) {
+            return;
+        }
+        if (this.hacerVerdadero(p)) {
+            return;
+        }
+        if (p != q && this.hacerVerdadero(q)) {
+            return;
+        }
+        this.satisfacible = false;
+    }
+
+    /**
+     * Intenta hacer verdadero el literal lit junto con todas sus
+     * consecuencias en el grafo de implicaciones. Sólo se recorren los
+     * literales falsos; los verdaderos alcanzados se marcan, para detectar
+     * si la propagación haría falso a alguno de ellos.
+     * pre: !this.verdadero[lit], y this.verdadero satisface el grafo
+     * post: si no hay contradicción, los literales alcanzados quedan
+     * verdaderos y se devuelve true; si no, la asignación no cambia y se
+     * devuelve false.
+     * @param lit el literal a hacer verdadero
+     * @return true si se pudo hacer verdadero lit
+     */
+    private boolean hacerVerdadero(int lit) {
+        int marca = ++this.propagacion;
+        this.rastro.clear();
+        this.pendientes.clear();
+
+        this.alcanzado[lit] = marca;
+        this.rastro.push(lit);
+        this.pendientes.push(lit);
+
+        while (!this.pendientes.empty()) {
+            int x = this.pendientes.pop();
+            IntList sig = this.sucesores[x];
+            for (int k = 0; k < sig.size(); k++) {
+                int y = sig.get(k);
+                if (this.alcanzado[y] == marca) {
+                    continue;
+                }
+                if (this.alcanzado[y ^ 1] == marca) {
+                    return false;
+                }
+                this.alcanzado[y] = marca;
+                if (!this.verdadero[y]) {
+                    this.rastro.push(y);
+                    this.pendientes.push(y);
+                }
+            }
+        }
+
+        while (!this.rastro.empty()) {
+            int x = this.rastro.pop();
+            this.verdadero[x] = true;
+            this.verdadero[x ^ 1] = false;
+        }
+        return true;
+    }
+}
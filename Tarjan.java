@@ -1,5 +1,4 @@
 
-import java.util.Iterator;
 
 /**
  * Clase encargada de hacer las llamadas recursivas al algoritmo de Tarjan. Es
@@ -21,10 +20,10 @@ public class Tarjan {
      * Indica el lowLink de cada nodo
      */
     public int[]                lowLink;
-    public Stack<Integer>       stack;
-    public List<Integer>        compFuertCon;
+    public IntStack             stack;
+    public IntList              compFuertCon;
     public DiGraph              digrafo;
-    public List<List<Integer>>  compsFuertCon;
+    public List<IntList>        compsFuertCon;
     public int                  index;
 
     /**
@@ -46,7 +45,7 @@ public class Tarjan {
         this.indice = new int[digrafo.numNodes];
         this.lowLink = new int[digrafo.numNodes];
         this.index = 0;
-        this.compsFuertCon = new Lista();
+        this.compsFuertCon = new ArrayLista();
 
         for (int i = 0; i < indice.length; i++) {
             this.indice[i] = -1;
@@ -54,9 +53,9 @@ public class Tarjan {
             this.empilado[i] = false;
         }
 
-        this.stack = new Stack();
+        this.stack = new IntStack();
 
-        this.compFuertCon = new Lista();
+        this.compFuertCon = new IntList();
     }
 
     // MÉTODOS:
@@ -69,7 +68,7 @@ public class Tarjan {
      * lista de las componentes fuertemente conexas de this.digrafo
      * @return una Lista de las componentes fuertemente conexas de this.digrafo
      */
-    public List<List<Integer>> ejecutar() {
+    public List<IntList> ejecutar() {
         for (int v = 0; v < this.digrafo.numNodes; v++) {
             if (this.indice[v] == -1) {
                 this.tarjan(v);
@@ -91,11 +90,10 @@ public class Tarjan {
         this.lowLink[v] = this.index;
         this.index++;
 
-        this.stack.push(new Integer(v));
+        this.stack.push(v);
         this.empilado[v] = true;
 
-        List<Integer> suces = this.digrafo.getSucesors(v);
-        int[] suc = Tarjan.generarArrEnteros(suces);
+        int[] suc = this.digrafo.successorsOf(v);
 
         for (int i = 0; i < suc.length; i++) {
             if (this.indice[suc[i]] == -1) {
@@ -112,35 +110,14 @@ public class Tarjan {
 
 
         if (this.lowLink[v] == this.indice[v]) {
-            Integer w = null;
-            this.compFuertCon = new Lista();
+            int w;
+            this.compFuertCon = new IntList();
             do {
-                w = (Integer)this.stack.pop();
-                this.empilado[w.intValue()] = false;
+                w = this.stack.pop();
+                this.empilado[w] = false;
                 this.compFuertCon.add(w);
-            } while (w.intValue() != v);
+            } while (w != v);
             this.compsFuertCon.add(this.compFuertCon);
         }
     }
-
-    /**
-     * Función auxiliar que genera un arreglo de int a partir de una lista de
-     * Integer.
-     * pre: true
-     * post: Se devuelve un arreglo de int, con los valores enteros contenidos
-     * en la lista {@code lista}
-     * @param lista Lista de Integer a transformar
-     * @return arreglo de int con los mismos elementos de lista.
-     */
-    public static int[] generarArrEnteros(List<Integer> lista) {
-        int[] arr = new int[lista.size()];
-        Iterator iter = lista.iterator();
-
-        for (int i = 0; i < arr.length; i++) {
-            int x = ((Integer)iter.next()).intValue();
-            arr[i] = x;
-        }
-
-        return arr;
-    }
 }
\ No newline at end of file
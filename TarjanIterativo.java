@@ -0,0 +1,169 @@
+/**
+ * Versión iterativa del algoritmo de Tarjan para hallar las componentes
+ * fuertemente conexas de un digrafo. A diferencia de la clase Tarjan, no hace
+ * una llamada recursiva por nodo (por lo que no desborda la pila del hilo en
+ * grafos grandes) y lee los sucesores directamente de los arreglos de un
+ * DiGraphCSR, sin copiarlos por nodo. Toda la memoria
+ * que usa se reserva una sola vez, en el constructor.
+ *
+ * El resultado es un arreglo {@code comp} tal que {@code comp[v]} es el
+ * número de la componente del nodo v. Las componentes se numeran en el orden
+ * en que Tarjan las termina, que es un orden topológico inverso del grafo de
+ * componentes: si hay un arco de la componente x a la componente y (x != y),
+ * entonces y &lt; x.
+ */
+public class TarjanIterativo implements AlgoritmoDeComponentes {
+
+    // Adyacencias del grafo en forma CSR
+    private int[]   inicio;
+    private int[]   destinos;
+    private int     nNodos;
+
+    /**
+     * Indice (orden de descubrimiento) de cada nodo, -1 si no se ha visitado
+     */
+    private int[]   indice;
+
+    /**
+     * lowLink de cada nodo
+     */
+    private int[]   lowLink;
+
+    /**
+     * Pila de llamadas simulada: nodo en cada nivel, y la posición en
+     * this.destinos del próximo sucesor por revisar en ese nivel.
+     */
+    private int[]   pilaLlamadas;
+    private int[]   proximoArco;
+
+    /**
+     * Pila de nodos de Tarjan, y su tope
+     */
+    private int[]   pilaNodos;
+    private int     tope;
+
+    /**
+     * Componente de cada nodo, -1 si aún no se le ha asignado
+     */
+    private int[]   comp;
+
+    /**
+     * Numero de componentes halladas
+     */
+    private int     nComponentes;
+
+    // CONSTRUCTOR:
+
+    /**
+     * Crea una nueva instancia de TarjanIterativo sobre el digrafo dado. Si el
+     * digrafo no es un DiGraphCSR, se copia una vez a esa representación.
+     * pre: digrafo != null
+     * post: se reserva toda la memoria necesaria para la ejecución.
+     * @param digrafo el grafo a descomponer
+     */
+    public TarjanIterativo(DiGraph digrafo) {
+        DiGraphCSR csr = (digrafo instanceof DiGraphCSR ?
+                                    (DiGraphCSR) digrafo :
+                                    new DiGraphCSR(digrafo));
+        this.inicio = csr.getOutStart();
+        this.destinos = csr.getOutTargets();
+        this.nNodos = csr.getNumberOfNodes();
+
+        this.indice = new int[this.nNodos];
+        this.lowLink = new int[this.nNodos];
+        this.pilaLlamadas = new int[this.nNodos];
+        this.proximoArco = new int[this.nNodos];
+        this.pilaNodos = new int[this.nNodos];
+        this.comp = new int[this.nNodos];
+    }
+
+    // MÉTODOS:
+
+    /**
+     * Calcula las componentes fuertemente conexas del digrafo.
+     * pre: true
+     * post: se devuelve el arreglo de componentes, y
+     * this.getNumeroDeComponentes() indica cuántas hay.
+     * @return arreglo comp, donde comp[v] es la componente del nodo v
+     */
+    public int[] ejecutar() {
+        for (int v = 0; v < this.nNodos; v++) {
+            this.indice[v] = -1;
+            this.comp[v] = -1;
+        }
+        this.tope = 0;
+        this.nComponentes = 0;
+
+        int index = 0;
+        for (int raiz = 0; raiz < this.nNodos; raiz++) {
+            if (this.indice[raiz] != -1) {
+                continue;
+            }
+
+            // Se "llama" a tarjan(raiz)
+            int nivel = 0;
+            this.pilaLlamadas[0] = raiz;
+            this.proximoArco[0] = this.inicio[raiz];
+            this.indice[raiz] = index;
+            this.lowLink[raiz] = index;
+            index++;
+            this.pilaNodos[this.tope++] = raiz;
+
+            while (0 <= nivel) {
+                int v = this.pilaLlamadas[nivel];
+                int k = this.proximoArco[nivel];
+
+                if (k < this.inicio[v + 1]) {
+                    int w = this.destinos[k];
+                    this.proximoArco[nivel] = k + 1;
+
+                    if (this.indice[w] == -1) {
+                        // Se "llama" a tarjan(w)
+                        nivel++;
+                        this.pilaLlamadas[nivel] = w;
+                        this.proximoArco[nivel] = this.inicio[w];
+                        this.indice[w] = index;
+                        this.lowLink[w] = index;
+                        index++;
+                        this.pilaNodos[this.tope++] = w;
+                    } else if (this.comp[w] == -1) {
+                        // w está empilado
+                        if (this.indice[w] < this.lowLink[v]) {
+                            this.lowLink[v] = this.indice[w];
+                        }
+                    }
+                } else {
+                    // Se terminaron los sucesores de v
+                    if (this.lowLink[v] == this.indice[v]) {
+                        int w;
+                        do {
+                            w = this.pilaNodos[--this.tope];
+                            this.comp[w] = this.nComponentes;
+                        } while (w != v);
+                        this.nComponentes++;
+                    }
+
+                    // Se "retorna" al nivel anterior
+                    nivel--;
+                    if (0 <= nivel) {
+                        int padre = this.pilaLlamadas[nivel];
+                        if (this.lowLink[v] < this.lowLink[padre]) {
+                            this.lowLink[padre] = this.lowLink[v];
+                        }
+                    }
+                }
+            }
+        }
+        return this.comp;
+    }
+
+    /**
+     * Retorna el número de componentes halladas por la última ejecución.
+     * pre: se debe haber llamado a this.ejecutar()
+     * post: se devuelve el número de componentes fuertemente conexas.
+     * @return el número de componentes fuertemente conexas
+     */
+    public int getNumeroDeComponentes() {
+        return this.nComponentes;
+    }
+}
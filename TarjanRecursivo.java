@@ -0,0 +1,65 @@
+/**
+ * Adaptador de la clase Tarjan original (recursiva) a AlgoritmoDeComponentes.
+ * Tarjan devuelve las componentes como una lista de listas de nodos, en el
+ * orden en que las termina, que ya es un orden topológico inverso; aquí sólo
+ * se numeran en ese orden.
+ *
+ * Como Tarjan hace una llamada recursiva por nodo del camino de la búsqueda,
+ * en grafos grandes puede desbordar la pila del hilo; se conserva para
+ * comparar con los demás algoritmos.
+ */
+public class TarjanRecursivo implements AlgoritmoDeComponentes {
+
+    // El digrafo a descomponer
+    private DiGraph digrafo;
+
+    /**
+     * Numero de componentes halladas
+     */
+    private int     nComponentes;
+
+    // CONSTRUCTOR:
+
+    /**
+     * Crea una nueva instancia de TarjanRecursivo sobre el digrafo dado.
+     * pre: digrafo != null
+     * post: true
+     * @param digrafo el grafo a descomponer
+     */
+    public TarjanRecursivo(DiGraph digrafo) {
+        this.digrafo = digrafo;
+    }
+
+    // MÉTODOS:
+
+    /**
+     * Calcula las componentes fuertemente conexas del digrafo con la clase
+     * Tarjan.
+     * pre: true
+     * post: se devuelve el arreglo de componentes, y
+     * this.getNumeroDeComponentes() indica cuántas hay.
+     * @return arreglo comp, donde comp[v] es la componente del nodo v
+     */
+    public int[] ejecutar() {
+        List<IntList> componentes = new Tarjan(this.digrafo).ejecutar();
+        int[] comp = new int[this.digrafo.getNumberOfNodes()];
+        for (int k = 0; k < componentes.size(); k++) {
+            IntList nodos = componentes.get(k);
+            for (int i = 0; i < nodos.size(); i++) {
+                comp[nodos.get(i)] = k;
+            }
+        }
+        this.nComponentes = componentes.size();
+        return comp;
+    }
+
+    /**
+     * Retorna el número de componentes halladas por la última ejecución.
+     * pre: se debe haber llamado a this.ejecutar()
+     * post: se devuelve el número de componentes fuertemente conexas.
+     * @return el número de componentes fuertemente conexas
+     */
+    public int getNumeroDeComponentes() {
+        return this.nComponentes;
+    }
+}
@@ -0,0 +1,429 @@
+package benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks JMH de cada etapa de la resolución de un caso de prueba:
+ * lectura de la entrada, construcción de las cláusulas, construcción y
+ * simplificación de la fórmula 2CNF, construcción del grafo de implicaciones,
+ * componentes fuertemente conexas (con TarjanIterativo, como lo hace
+ * CasoDePrueba, y con la clase Tarjan original) y decisión. El benchmark
+ * componentes compara además las implementaciones de AlgoritmoDeComponentes
+ * sobre el mismo grafo (parámetro {@code algoritmo}).
+ *
+ * Las instancias se generan al azar con el formato de los archivos de
+ * seleccion_casos_de_prueba*, sobre una grilla de {@code calles} x
+ * {@code avenidas} con {@code viajes} viajes. Para que ninguna etapa termine
+ * antes de tiempo, se escoge primero una orientación oculta de cada calle y
+ * avenida, y sólo se generan viajes que se pueden hacer con ella, así que
+ * todas las instancias tienen solución. Además se omiten los viajes por una
+ * sola calle o avenida: sus literales solos, al propagarse, pueden resolver
+ * la fórmula completa antes de construir el grafo.
+ *
+ * JMH no admite benchmarks en el paquete por defecto, y desde un paquete con
+ * nombre no se pueden nombrar las clases del proyecto, que sí están en el
+ * paquete por defecto. Por eso las etapas se invocan con MethodHandles
+ * obtenidos por reflexión una sola vez; el costo de cada invocación es de
+ * unos pocos nanosegundos, despreciable frente al de las etapas.
+ *
+ * Cada etapa se mide sobre un caso recién preparado hasta la etapa anterior
+ * (estados con {@code Level.Invocation}), porque las etapas modifican el caso
+ * y no se pueden repetir sobre él.
+ *
+ * Para compilar y ejecutar, desde la raíz del proyecto, con jmh-core,
+ * jmh-generator-annprocess y sus dependencias en JMH_CP:
+ *
+ *     javac -cp "$JMH_CP" -d bench-classes *.java benchmarks/*.java
+ *     java -cp "$JMH_CP:bench-classes" org.openjdk.jmh.Main EtapasBenchmark
+ *
+ * Los parámetros se pueden cambiar con -p, por ejemplo
+ * {@code -p calles=100 -p avenidas=100 -p viajes=1000000}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EtapasBenchmark {
+
+    // Constructor y etapas de CasoDePrueba, LectorDeEnteros y Tarjan
+    private static final MethodHandle NUEVO_CASO;
+    private static final MethodHandle CONSTRUIR_CLAUSULAS;
+    private static final MethodHandle CONSTRUIR_2CNF;
+    private static final MethodHandle CONSTRUIR_GRAFO;
+    private static final MethodHandle CALCULAR_COMPONENTES;
+    private static final MethodHandle DECISION;
+    private static final MethodHandle GRAFO;
+    private static final MethodHandle NUEVO_LECTOR;
+    private static final MethodHandle LEER_LINEA;
+    private static final MethodHandle NUEVO_TARJAN;
+    private static final MethodHandle EJECUTAR_TARJAN;
+    private static final MethodHandle EJECUTAR_ALGORITMO;
+
+    // Clase DiGraph, para buscar los constructores de los algoritmos
+    private static final Class<?> DIGRAFO;
+
+    // Valor de Main.GRAFO_CSR
+    private static final int GRAFO_CSR;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> caso = Class.forName("CasoDePrueba");
+            Class<?> lector = Class.forName("LectorDeEnteros");
+            Class<?> digrafo = Class.forName("DiGraph");
+            Class<?> tarjan = Class.forName("Tarjan");
+            Class<?> lista = Class.forName("List");
+
+            NUEVO_CASO = lookup.findConstructor(caso,
+                    MethodType.methodType(void.class, int.class, int.class,
+                                          int.class, int.class, int[].class,
+                                          int.class));
+            MethodType vacio = MethodType.methodType(void.class);
+            CONSTRUIR_CLAUSULAS =
+                    lookup.findVirtual(caso, "construirClausulas", vacio);
+            CONSTRUIR_2CNF = lookup.findVirtual(caso, "construir2CNF", vacio);
+            CONSTRUIR_GRAFO = lookup.findVirtual(caso,
+                    "construirGrafoDeImplicaciones", vacio);
+            CALCULAR_COMPONENTES = lookup.findVirtual(caso,
+                    "calcularComponentesFuertementeConexas", vacio);
+            DECISION = lookup.findVirtual(caso, "decision",
+                    MethodType.methodType(boolean.class));
+            GRAFO = lookup.findVirtual(caso, "getGrafoDeImplicaciones",
+                    MethodType.methodType(digrafo));
+
+            NUEVO_LECTOR = lookup.findConstructor(lector,
+                    MethodType.methodType(void.class,
+                                          ReadableByteChannel.class,
+                                          int.class));
+            LEER_LINEA = lookup.findVirtual(lector, "leerLinea",
+                    MethodType.methodType(int.class, int[].class));
+
+            NUEVO_TARJAN = lookup.findConstructor(tarjan,
+                    MethodType.methodType(void.class, digrafo));
+            EJECUTAR_TARJAN = lookup.findVirtual(tarjan, "ejecutar",
+                    MethodType.methodType(lista));
+            EJECUTAR_ALGORITMO = lookup.findVirtual(
+                    Class.forName("AlgoritmoDeComponentes"), "ejecutar",
+                    MethodType.methodType(int[].class));
+            DIGRAFO = digrafo;
+
+            GRAFO_CSR = Class.forName("Main").getField("GRAFO_CSR")
+                                              .getInt(null);
+        } catch (Exception e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Instancia generada: un caso de prueba, como texto en el formato de
+     * entrada y como arreglo de viajes.
+     */
+    @State(Scope.Benchmark)
+    public static class Instancia {
+
+        @Param({"10", "1000"})
+        public int calles;
+
+        @Param({"10", "1000"})
+        public int avenidas;
+
+        @Param({"1000", "100000"})
+        public int viajes;
+
+        @Param({"42"})
+        public long semilla;
+
+        // El caso en el formato de entrada, sin la línea de número de casos
+        public byte[] texto;
+
+        // Los viajes, 4 enteros por viaje como en CasoDePrueba
+        public int[] trayectos;
+
+        @Setup(Level.Trial)
+        public void generar() {
+            Random azar = new Random(this.semilla);
+
+            // Orientación oculta: true es W-E para las calles y N-S para las
+            // avenidas, es decir, el sentido en que crece el otro índice
+            boolean[] calle = new boolean[this.calles + 1];
+            boolean[] avenida = new boolean[this.avenidas + 1];
+            for (int i = 1; i <= this.calles; i++) {
+                calle[i] = azar.nextBoolean();
+            }
+            for (int j = 1; j <= this.avenidas; j++) {
+                avenida[j] = azar.nextBoolean();
+            }
+
+            this.trayectos = new int[4 * this.viajes];
+            int k = 0;
+            while (k < this.trayectos.length) {
+                int ca1 = 1 + azar.nextInt(this.calles);
+                int av1 = 1 + azar.nextInt(this.avenidas);
+                int ca2 = 1 + azar.nextInt(this.calles);
+                int av2 = 1 + azar.nextInt(this.avenidas);
+                if (ca1 != ca2 && av1 != av2 &&
+                    EtapasBenchmark.posible(calle, avenida,
+                                            ca1, av1, ca2, av2)) {
+                    this.trayectos[k++] = ca1;
+                    this.trayectos[k++] = av1;
+                    this.trayectos[k++] = ca2;
+                    this.trayectos[k++] = av2;
+                }
+            }
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            PrintStream salida = new PrintStream(bytes);
+            salida.print(this.calles + " " + this.avenidas + " " +
+                         this.viajes + "\n");
+            for (int i = 0; i < this.trayectos.length; i += 4) {
+                salida.print(this.trayectos[i] + " " + this.trayectos[i + 1] +
+                             " " + this.trayectos[i + 2] + " " +
+                             this.trayectos[i + 3] + "\n");
+            }
+            salida.flush();
+            this.texto = bytes.toByteArray();
+        }
+
+        /**
+         * Crea un caso de prueba nuevo con esta instancia.
+         * @return un CasoDePrueba sin procesar
+         */
+        public Object nuevoCaso() throws Throwable {
+            return NUEVO_CASO.invoke(1, this.calles, this.avenidas,
+                                     this.viajes, this.trayectos, GRAFO_CSR);
+        }
+    }
+
+    /**
+     * Caso recién creado, para medir la construcción de las cláusulas.
+     */
+    @State(Scope.Thread)
+    public static class CasoNuevo {
+        public Object caso;
+
+        @Setup(Level.Invocation)
+        public void preparar(Instancia instancia) throws Throwable {
+            this.caso = instancia.nuevoCaso();
+        }
+    }
+
+    /**
+     * Caso con sus cláusulas construidas, para medir la 2CNF.
+     */
+    @State(Scope.Thread)
+    public static class CasoConClausulas {
+        public Object caso;
+
+        @Setup(Level.Invocation)
+        public void preparar(Instancia instancia) throws Throwable {
+            this.caso = instancia.nuevoCaso();
+            CONSTRUIR_CLAUSULAS.invoke(this.caso);
+        }
+    }
+
+    /**
+     * Caso con su fórmula 2CNF simplificada, para medir el grafo.
+     */
+    @State(Scope.Thread)
+    public static class CasoCon2CNF {
+        public Object caso;
+
+        @Setup(Level.Invocation)
+        public void preparar(Instancia instancia) throws Throwable {
+            this.caso = instancia.nuevoCaso();
+            CONSTRUIR_CLAUSULAS.invoke(this.caso);
+            CONSTRUIR_2CNF.invoke(this.caso);
+        }
+    }
+
+    /**
+     * Caso con su grafo de implicaciones, para medir las componentes.
+     */
+    @State(Scope.Thread)
+    public static class CasoConGrafo {
+        public Object caso;
+        public Object grafo;
+
+        @Setup(Level.Invocation)
+        public void preparar(Instancia instancia) throws Throwable {
+            this.caso = instancia.nuevoCaso();
+            CONSTRUIR_CLAUSULAS.invoke(this.caso);
+            CONSTRUIR_2CNF.invoke(this.caso);
+            CONSTRUIR_GRAFO.invoke(this.caso);
+            this.grafo = GRAFO.invoke(this.caso);
+        }
+    }
+
+    /**
+     * Algoritmo de componentes fuertemente conexas a comparar: el nombre de
+     * una clase que implementa AlgoritmoDeComponentes. ComponentesEnParalelo
+     * recibe además un pool, que se crea para el trial.
+     */
+    @State(Scope.Benchmark)
+    public static class Algoritmo {
+
+        @Param({"TarjanIterativo", "KosarajuIterativo", "GabowIterativo",
+                "TarjanRecursivo", "ComponentesEnParalelo"})
+        public String clase;
+
+        // Constructor de la clase, que recibe el DiGraph
+        public MethodHandle nuevo;
+
+        // Pool de ComponentesEnParalelo; null para las demás clases
+        public ForkJoinPool pool;
+
+        @Setup(Level.Trial)
+        public void buscar() throws Exception {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            if (this.clase.equals("ComponentesEnParalelo")) {
+                this.pool = new ForkJoinPool();
+                this.nuevo = MethodHandles.insertArguments(
+                        lookup.findConstructor(Class.forName(this.clase),
+                                MethodType.methodType(void.class, DIGRAFO,
+                                                      ForkJoinPool.class)),
+                        1, this.pool);
+            } else {
+                this.nuevo = lookup.findConstructor(Class.forName(this.clase),
+                        MethodType.methodType(void.class, DIGRAFO));
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void terminar() {
+            if (this.pool != null) {
+                this.pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Caso con sus componentes calculadas, para medir la decisión.
+     */
+    @State(Scope.Thread)
+    public static class CasoConComponentes {
+        public Object caso;
+
+        @Setup(Level.Invocation)
+        public void preparar(Instancia instancia) throws Throwable {
+            this.caso = instancia.nuevoCaso();
+            CONSTRUIR_CLAUSULAS.invoke(this.caso);
+            CONSTRUIR_2CNF.invoke(this.caso);
+            CONSTRUIR_GRAFO.invoke(this.caso);
+            CALCULAR_COMPONENTES.invoke(this.caso);
+        }
+    }
+
+    // BENCHMARKS:
+
+    @Benchmark
+    public int lectura(Instancia instancia) throws Throwable {
+        Object lector = NUEVO_LECTOR.invoke(
+                Channels.newChannel(new ByteArrayInputStream(instancia.texto)),
+                1 << 20);
+        int[] tokens = new int[4];
+        int suma = 0;
+        int n;
+        while (0 <= (n = (int) LEER_LINEA.invoke(lector, tokens))) {
+            suma += n + tokens[0];
+        }
+        return suma;
+    }
+
+    @Benchmark
+    public Object construirClausulas(CasoNuevo estado) throws Throwable {
+        CONSTRUIR_CLAUSULAS.invoke(estado.caso);
+        return estado.caso;
+    }
+
+    @Benchmark
+    public Object construir2CNF(CasoConClausulas estado) throws Throwable {
+        CONSTRUIR_2CNF.invoke(estado.caso);
+        return estado.caso;
+    }
+
+    @Benchmark
+    public Object construirGrafoDeImplicaciones(CasoCon2CNF estado)
+                                                            throws Throwable
+    {
+        CONSTRUIR_GRAFO.invoke(estado.caso);
+        return estado.caso;
+    }
+
+    @Benchmark
+    public Object tarjanIterativo(CasoConGrafo estado) throws Throwable {
+        CALCULAR_COMPONENTES.invoke(estado.caso);
+        return estado.caso;
+    }
+
+    @Benchmark
+    public Object tarjan(CasoConGrafo estado) throws Throwable {
+        Object tarjan = NUEVO_TARJAN.invoke(estado.grafo);
+        return EJECUTAR_TARJAN.invoke(tarjan);
+    }
+
+    @Benchmark
+    public Object componentes(CasoConGrafo estado, Algoritmo algoritmo)
+                                                            throws Throwable
+    {
+        Object instancia = algoritmo.nuevo.invoke(estado.grafo);
+        return EJECUTAR_ALGORITMO.invoke(instancia);
+    }
+
+    @Benchmark
+    public boolean decision(CasoConComponentes estado) throws Throwable {
+        return (boolean) DECISION.invoke(estado.caso);
+    }
+
+    // MÉTODOS AUXILIARES:
+
+    /**
+     * Determina si el viaje de (ca1, av1) a (ca2, av2) se puede hacer con la
+     * orientación dada, por alguno de sus dos caminos con un solo cruce.
+     * @param calle orientación de cada calle (true: W-E)
+     * @param avenida orientación de cada avenida (true: N-S)
+     * @return true si alguno de los dos caminos respeta la orientación
+     */
+    private static boolean posible(boolean[] calle, boolean[] avenida,
+                                   int ca1, int av1, int ca2, int av2) {
+        // Por la calle ca1 hasta la avenida av2, y luego por ésta
+        boolean primero = EtapasBenchmark.sentido(calle[ca1], av1, av2) &&
+                          EtapasBenchmark.sentido(avenida[av2], ca1, ca2);
+        // Por la avenida av1 hasta la calle ca2, y luego por ésta
+        boolean segundo = EtapasBenchmark.sentido(avenida[av1], ca1, ca2) &&
+                          EtapasBenchmark.sentido(calle[ca2], av1, av2);
+        return primero || segundo;
+    }
+
+    /**
+     * Determina si se puede ir de desde a hasta por una vía con la
+     * orientación dada (true: en el sentido en que crecen los índices).
+     */
+    private static boolean sentido(boolean creciente, int desde, int hasta) {
+        return (desde == hasta) || ((desde < hasta) == creciente);
+    }
+}